@@ -1,7 +1,9 @@
 package assign06;
 
 import assign06.ArrayStack;
+import assign06.IntStack;
 import assign06.LinkedListStack;
+import assign06.LongStack;
 import assign06.Stack;
 import timing.TimingExperiment;
 
@@ -12,9 +14,9 @@ import java.util.List;
 import java.util.function.Supplier;
 
 /**
- * Runs timing experiments for push, pop, and peek on LinkedListStack and
- * ArrayStack, writes TSV result files, and generates HTML plots (Google Charts)
- * you can open in a browser.
+ * Runs timing experiments for push, pop, and peek on LinkedListStack,
+ * ArrayStack, and the primitive IntStack and LongStack, writes TSV result files, and
+ * generates HTML plots (Google Charts) you can open in a browser.
  *
  * 
  */
@@ -40,26 +42,35 @@ public class StackTimingRunner {
 				"LinkedListStack push");
 		var pushArr = new PushExperiment("ops", PROBLEM_SIZES, ITERATIONS, arrayStackSupplier, "ArrayStack push");
 
-		warmAndRun(pushLL, pushArr);
+		var pushInt = new IntPushExperiment("ops", PROBLEM_SIZES, ITERATIONS);
+		var pushLong = new LongPushExperiment("ops", PROBLEM_SIZES, ITERATIONS);
+
+		warmAndRun(pushLL, pushArr, pushInt, pushLong);
 
 		// ---------- POP ----------
 		var popLL = new PopExperiment("ops", PROBLEM_SIZES, ITERATIONS, linkedListStackSupplier, "LinkedListStack pop");
 		var popArr = new PopExperiment("ops", PROBLEM_SIZES, ITERATIONS, arrayStackSupplier, "ArrayStack pop");
 
-		warmAndRun(popLL, popArr);
+		var popInt = new IntPopExperiment("ops", PROBLEM_SIZES, ITERATIONS);
+		var popLong = new LongPopExperiment("ops", PROBLEM_SIZES, ITERATIONS);
+
+		warmAndRun(popLL, popArr, popInt, popLong);
 
 		// ---------- PEEK ----------
 		var peekLL = new PeekExperiment("ops", PROBLEM_SIZES, ITERATIONS, linkedListStackSupplier,
 				"LinkedListStack peek");
 		var peekArr = new PeekExperiment("ops", PROBLEM_SIZES, ITERATIONS, arrayStackSupplier, "ArrayStack peek");
 
-		warmAndRun(peekLL, peekArr);
+		var peekInt = new IntPeekExperiment("ops", PROBLEM_SIZES, ITERATIONS);
+		var peekLong = new LongPeekExperiment("ops", PROBLEM_SIZES, ITERATIONS);
+
+		warmAndRun(peekLL, peekArr, peekInt, peekLong);
 
 		// Console summary (per-operation medians)
 		System.out.println();
-		printPerOpSummary("push", pushLL, pushArr);
-		printPerOpSummary("pop", popLL, popArr);
-		printPerOpSummary("peek", peekLL, peekArr);
+		printPerOpSummary("push", pushLL, pushArr, pushInt, pushLong);
+		printPerOpSummary("pop", popLL, popArr, popInt, popLong);
+		printPerOpSummary("peek", peekLL, peekArr, peekInt, peekLong);
 	}
 
 	private static void warmAndRun(TimingExperiment... exps) {
@@ -69,19 +80,25 @@ public class StackTimingRunner {
 			e.run();
 	}
 
-	private static void printPerOpSummary(String op, TimingExperiment ll, TimingExperiment arr) {
+	private static void printPerOpSummary(String op, TimingExperiment ll, TimingExperiment arr,
+			TimingExperiment prim, TimingExperiment primLong) {
 		var fmt = new DecimalFormat("0.00000E0");
 		System.out.println("Per-operation medians for " + op + " (ns/op):");
-		System.out.printf("%8s%15s%15s%n", "N", "LL", "ARR");
+		System.out.printf("%8s%15s%15s%15s%15s%n", "N", "LL", "ARR", "INT", "LONG");
 		
 		var sizes = ll.getProblemSizes();
 		var timesLL = ll.getMedianTimes();
 		var timesArr = arr.getMedianTimes();
+		var timesInt = prim.getMedianTimes();
+		var timesLong = primLong.getMedianTimes();
 
 		for (int i = 0; i < sizes.size(); i++) {
 			double nsPerOpLL = timesLL.get(i) / (double) sizes.get(i);
 			double nsPerOpArr = timesArr.get(i) / (double) sizes.get(i);
-			System.out.printf("%8d%15s%15s%n", sizes.get(i), fmt.format(nsPerOpLL), fmt.format(nsPerOpArr));
+			double nsPerOpInt = timesInt.get(i) / (double) sizes.get(i);
+			double nsPerOpLong = timesLong.get(i) / (double) sizes.get(i);
+			System.out.printf("%8d%15s%15s%15s%15s%n", sizes.get(i), fmt.format(nsPerOpLL), fmt.format(nsPerOpArr),
+					fmt.format(nsPerOpInt), fmt.format(nsPerOpLong));
 		}
 		System.out.println();
 	}
@@ -174,4 +191,157 @@ public class StackTimingRunner {
 				stack.peek();
 		}
 	}
+
+	/**
+	 * Base for the IntStack experiments. IntStack is not a Stack<Integer>, so it
+	 * gets its own experiments rather than a Supplier.
+	 */
+	private static abstract class IntStackOpExperiment extends TimingExperiment {
+		protected IntStack stack;
+		protected int N;
+
+		public IntStackOpExperiment(String problemSizeName, List<Integer> problemSizes, int iterationCount) {
+			super(problemSizeName, problemSizes, iterationCount);
+		}
+
+		@Override
+		protected void setupExperiment(int problemSize) {
+			this.stack = new IntStack();
+			this.N = problemSize;
+			prepareState();
+		}
+
+		/** Prepare any pre-state for the operation (e.g., prefill for pop). */
+		protected abstract void prepareState();
+	}
+
+	/** Measures N consecutive int pushes on an empty IntStack. */
+	private static final class IntPushExperiment extends IntStackOpExperiment {
+		public IntPushExperiment(String psName, List<Integer> sizes, int iters) {
+			super(psName, sizes, iters);
+		}
+
+		@Override
+		protected void prepareState() {
+			/* empty stack */ }
+
+		@Override
+		protected void runComputation() {
+			for (int i = 0; i < N; i++)
+				stack.push(i);
+		}
+	}
+
+	/** Measures N consecutive int pops after pre-filling the IntStack. */
+	private static final class IntPopExperiment extends IntStackOpExperiment {
+		public IntPopExperiment(String psName, List<Integer> sizes, int iters) {
+			super(psName, sizes, iters);
+		}
+
+		@Override
+		protected void prepareState() {
+			for (int i = 0; i < N; i++)
+				stack.push(i);
+		}
+
+		@Override
+		protected void runComputation() {
+			for (int i = 0; i < N; i++)
+				stack.pop();
+		}
+	}
+
+	/** Measures N consecutive int peeks on a non-empty IntStack. */
+	private static final class IntPeekExperiment extends IntStackOpExperiment {
+		public IntPeekExperiment(String psName, List<Integer> sizes, int iters) {
+			super(psName, sizes, iters);
+		}
+
+		@Override
+		protected void prepareState() {
+			stack.push(42); // ensure non-empty
+		}
+
+		@Override
+		protected void runComputation() {
+			for (int i = 0; i < N; i++)
+				stack.peek();
+		}
+	}
+
+	/**
+	 * Base for the LongStack experiments, which mirror the IntStack ones.
+	 */
+	private static abstract class LongStackOpExperiment extends TimingExperiment {
+		protected LongStack stack;
+		protected int N;
+
+		public LongStackOpExperiment(String problemSizeName, List<Integer> problemSizes, int iterationCount) {
+			super(problemSizeName, problemSizes, iterationCount);
+		}
+
+		@Override
+		protected void setupExperiment(int problemSize) {
+			this.stack = new LongStack();
+			this.N = problemSize;
+			prepareState();
+		}
+
+		/** Prepare any pre-state for the operation (e.g., prefill for pop). */
+		protected abstract void prepareState();
+	}
+
+	/** Measures N consecutive long pushes on an empty LongStack. */
+	private static final class LongPushExperiment extends LongStackOpExperiment {
+		public LongPushExperiment(String psName, List<Integer> sizes, int iters) {
+			super(psName, sizes, iters);
+		}
+
+		@Override
+		protected void prepareState() {
+			/* empty stack */ }
+
+		@Override
+		protected void runComputation() {
+			for (int i = 0; i < N; i++)
+				stack.push(i);
+		}
+	}
+
+	/** Measures N consecutive long pops after pre-filling the LongStack. */
+	private static final class LongPopExperiment extends LongStackOpExperiment {
+		public LongPopExperiment(String psName, List<Integer> sizes, int iters) {
+			super(psName, sizes, iters);
+		}
+
+		@Override
+		protected void prepareState() {
+			for (int i = 0; i < N; i++)
+				stack.push(i);
+		}
+
+		@Override
+		protected void runComputation() {
+			for (int i = 0; i < N; i++)
+				stack.pop();
+		}
+	}
+
+	/** Measures N consecutive long peeks on a non-empty LongStack. */
+	private static final class LongPeekExperiment extends LongStackOpExperiment {
+		public LongPeekExperiment(String psName, List<Integer> sizes, int iters) {
+			super(psName, sizes, iters);
+		}
+
+		@Override
+		protected void prepareState() {
+			stack.push(42); // ensure non-empty
+		}
+
+		@Override
+		protected void runComputation() {
+			for (int i = 0; i < N; i++)
+				stack.peek();
+		}
+	}
 }
\ No newline at end of file
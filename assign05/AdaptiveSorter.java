@@ -0,0 +1,215 @@
+package assign05;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * AdaptiveSorter is a facade over ListSorter that picks the sorting algorithm,
+ * mergesort threshold, and pivot chooser at runtime instead of relying on
+ * hardcoded values.
+ *
+ * Before sorting, a small evenly-spaced sample of the input is inspected to
+ * estimate its presortedness (fraction of ascending adjacent pairs) and its
+ * duplicate ratio. Together with the input size this gives a profile, which
+ * is looked up in a {@link CalibrationTable} measured on the host machine.
+ *
+ * Sampling costs a few hundred comparisons regardless of the list size, so the
+ * overhead is negligible compared to the sort itself.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version 1.0 | October 2nd, 2025 (Up-to-date)
+ */
+public class AdaptiveSorter {
+
+    /**
+     * Sorting algorithms the sorter can dispatch to. COUNTING is
+     * ListSorter.countingSort, which suits lists with few distinct values.
+     */
+    public enum Algorithm {
+        MERGESORT, QUICKSORT, COUNTING
+    }
+
+    /**
+     * Data patterns recognized by sampling
+     */
+    public enum Pattern {
+        RANDOM, SORTED, REVERSED, DUPLICATES
+    }
+
+    /**
+     * Size classes recognized by sampling
+     */
+    public enum SizeClass {
+        SMALL, LARGE
+    }
+
+    /**
+     * Maximum number of adjacent pairs inspected for presortedness
+     */
+    static final int SAMPLE_SIZE = 64;
+
+    /**
+     * Maximum number of elements inspected for duplicates. Repeats only show
+     * up in a sample once it is comparable to the number of distinct values,
+     * so this is larger than SAMPLE_SIZE.
+     */
+    static final int DUPLICATE_SAMPLE_SIZE = 256;
+
+    /**
+     * Lists at least this long are classified as LARGE
+     */
+    static final int LARGE_SIZE = 10_000;
+
+    /**
+     * Fraction of ascending sampled pairs at or above which input is SORTED
+     * (and at or below which, mirrored, it is REVERSED)
+     */
+    static final double PRESORTED_RATIO = 0.9;
+
+    /**
+     * Fraction of repeated sampled elements at or above which input is
+     * DUPLICATES
+     */
+    static final double DUPLICATE_RATIO = 0.25;
+
+    private final CalibrationTable table;
+
+    /**
+     * Constructs a new AdaptiveSorter using the uncalibrated default table.
+     */
+    public AdaptiveSorter() {
+        this(CalibrationTable.defaults());
+    }
+
+    /**
+     * Constructs a new AdaptiveSorter using the given calibration table.
+     *
+     * @param table the calibration table to look configurations up in (must
+     * not be null)
+     * @throws IllegalArgumentException if table is null
+     */
+    public AdaptiveSorter(CalibrationTable table) {
+        if (table == null) {
+            throw new IllegalArgumentException("Calibration table cannot be null");
+        }
+        this.table = table;
+    }
+
+    /**
+     * Creates an AdaptiveSorter backed by a persisted calibration table. If
+     * the file exists it is loaded; otherwise a calibration is run on this
+     * machine and saved to the file for later process starts.
+     *
+     * @param file the calibration table file (must not be null)
+     * @return a sorter using the loaded or freshly calibrated table
+     * @throws IOException if the file cannot be read or written
+     */
+    public static AdaptiveSorter fromFile(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Calibration file cannot be null");
+        }
+        if (Files.exists(file)) {
+            return new AdaptiveSorter(CalibrationTable.load(file));
+        }
+        CalibrationTable table = CalibrationTable.calibrate();
+        table.save(file);
+        return new AdaptiveSorter(table);
+    }
+
+    /**
+     * Returns the calibration table used by this sorter.
+     *
+     * @return the calibration table
+     */
+    public CalibrationTable getTable() {
+        return table;
+    }
+
+    /**
+     * Sorts the list in-place with the configuration chosen for its profile.
+     *
+     * @param <T> the type of elements in the list, must implement Comparable
+     * @param list the list to sort (null or tiny lists are left unchanged)
+     */
+    public <T extends Comparable<? super T>> void sort(List<T> list) {
+        if (list == null || list.size() <= 1) {
+            return;
+        }
+        chooseConfiguration(list).sort(list);
+    }
+
+    /**
+     * Returns the configuration that {@link #sort(List)} would use for the
+     * given list.
+     *
+     * @param <T> the type of elements in the list
+     * @param list the list to inspect (must not be null)
+     * @return the chosen configuration
+     */
+    public <T extends Comparable<? super T>> CalibrationTable.Configuration chooseConfiguration(List<T> list) {
+        return table.get(classify(list), sizeClassOf(list.size()));
+    }
+
+    /**
+     * Returns the size class of a list of the given size.
+     *
+     * @param size the list size
+     * @return SMALL or LARGE
+     */
+    public static SizeClass sizeClassOf(int size) {
+        return size >= LARGE_SIZE ? SizeClass.LARGE : SizeClass.SMALL;
+    }
+
+    /**
+     * Estimates the data pattern of a list from evenly-spaced samples of at
+     * most SAMPLE_SIZE adjacent pairs and DUPLICATE_SAMPLE_SIZE elements.
+     * Presortedness takes priority over duplicates since sorted input with
+     * duplicates is still handled best as sorted input.
+     *
+     * @param <T> the type of elements in the list
+     * @param list the list to inspect (must not be null)
+     * @return the estimated data pattern
+     */
+    public static <T extends Comparable<? super T>> Pattern classify(List<T> list) {
+        int n = list.size();
+        if (n <= 1) {
+            return Pattern.SORTED;
+        }
+
+        int pairs = Math.min(SAMPLE_SIZE, n - 1);
+        int step = (n - 1) / pairs;
+        int ascending = 0;
+        int descending = 0;
+        for (int s = 0, i = 0; s < pairs; s++, i += step) {
+            int cmp = list.get(i).compareTo(list.get(i + 1));
+            if (cmp <= 0) {
+                ascending++;
+            }
+            if (cmp >= 0) {
+                descending++;
+            }
+        }
+        if (ascending >= PRESORTED_RATIO * pairs) {
+            return Pattern.SORTED;
+        }
+        if (descending >= PRESORTED_RATIO * pairs) {
+            return Pattern.REVERSED;
+        }
+
+        int samples = Math.min(DUPLICATE_SAMPLE_SIZE, n);
+        int stride = n / samples;
+        Set<T> distinct = new HashSet<>(samples * 2);
+        for (int s = 0, i = 0; s < samples; s++, i += stride) {
+            distinct.add(list.get(i));
+        }
+        double duplicateRatio = 1.0 - (double) distinct.size() / samples;
+        if (duplicateRatio >= DUPLICATE_RATIO) {
+            return Pattern.DUPLICATES;
+        }
+        return Pattern.RANDOM;
+    }
+}
@@ -0,0 +1,165 @@
+package assign05;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import assign05.AdaptiveSorter.Algorithm;
+import assign05.AdaptiveSorter.Pattern;
+import assign05.AdaptiveSorter.SizeClass;
+import assign05.CalibrationTable.Configuration;
+
+/**
+ * Test suite for AdaptiveSorter sampling, dispatch, and calibration table
+ * persistence.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version 1.0 | October 2nd, 2025 (Up-to-date)
+ */
+public class AdaptiveSorterTest {
+
+    @TempDir
+    Path tempDir;
+
+    // ===== CLASSIFICATION TESTS =====
+    @Test
+    void testClassifyPatterns() {
+        Random rng = new Random(7);
+        for (Pattern pattern : Pattern.values()) {
+            List<Integer> list = CalibrationTable.generate(pattern, 20_000, rng);
+            assertEquals(pattern, AdaptiveSorter.classify(list));
+        }
+    }
+
+    @Test
+    void testClassifyMostlySorted() {
+        List<Integer> list = ListSorter.generateAscending(10_000);
+        Collections.swap(list, 10, 5_000);
+        assertEquals(Pattern.SORTED, AdaptiveSorter.classify(list));
+    }
+
+    @Test
+    void testSizeClass() {
+        assertEquals(SizeClass.SMALL, AdaptiveSorter.sizeClassOf(100));
+        assertEquals(SizeClass.LARGE, AdaptiveSorter.sizeClassOf(AdaptiveSorter.LARGE_SIZE));
+    }
+
+    // ===== SORTING TESTS =====
+    @Test
+    void testSortEveryProfileAndConfiguration() {
+        Random rng = new Random(11);
+        List<Configuration> configs = List.of(
+                new Configuration(Algorithm.MERGESORT, 10, "MedianOfFive"),
+                new Configuration(Algorithm.QUICKSORT, 20, "MedianOfThree"),
+                new Configuration(Algorithm.QUICKSORT, 20, "Random"),
+                new Configuration(Algorithm.COUNTING, 20, "MedianOfFive"));
+
+        for (Configuration config : configs) {
+            AdaptiveSorter sorter = new AdaptiveSorter(new CalibrationTable(config));
+            for (Pattern pattern : Pattern.values()) {
+                List<Integer> list = CalibrationTable.generate(pattern, 3_000, rng);
+                List<Integer> expected = new ArrayList<>(list);
+                Collections.sort(expected);
+
+                sorter.sort(list);
+                assertEquals(expected, list, config + " on " + pattern);
+            }
+        }
+    }
+
+    @Test
+    void testSortNullAndEmpty() {
+        AdaptiveSorter sorter = new AdaptiveSorter();
+        assertDoesNotThrow(() -> sorter.sort(null));
+        List<Integer> empty = new ArrayList<>();
+        sorter.sort(empty);
+        assertTrue(empty.isEmpty());
+    }
+
+    @Test
+    void testChooseConfigurationUsesTable() {
+        CalibrationTable table = CalibrationTable.defaults();
+        Configuration quick = new Configuration(Algorithm.QUICKSORT, 20, "MedianOfThree");
+        table.put(Pattern.REVERSED, SizeClass.SMALL, quick);
+
+        AdaptiveSorter sorter = new AdaptiveSorter(table);
+        List<Integer> reversed = CalibrationTable.generate(Pattern.REVERSED, 500, new Random(1));
+        assertEquals(quick, sorter.chooseConfiguration(reversed));
+    }
+
+    // ===== CALIBRATION TABLE TESTS =====
+    @Test
+    void testCandidatesIncludeEveryAlgorithm() {
+        List<Configuration> candidates = CalibrationTable.candidates();
+        for (Algorithm algorithm : Algorithm.values()) {
+            assertTrue(candidates.stream().anyMatch(c -> c.getAlgorithm() == algorithm), algorithm.name());
+        }
+        assertEquals(CalibrationTable.THRESHOLDS.length + CalibrationTable.CHOOSERS.length + 1,
+                candidates.size());
+    }
+
+    @Test
+    void testCalibrateFillsEveryProfile() {
+        CalibrationTable table = CalibrationTable.calibrate(200, 1_000, 1);
+        for (Pattern pattern : Pattern.values()) {
+            for (SizeClass sizeClass : SizeClass.values()) {
+                Configuration config = table.get(pattern, sizeClass);
+                assertTrue(config != null);
+            }
+        }
+    }
+
+    @Test
+    void testSaveAndLoadRoundTrip() throws IOException {
+        CalibrationTable table = CalibrationTable.defaults();
+        table.put(Pattern.RANDOM, SizeClass.LARGE, new Configuration(Algorithm.QUICKSORT, 20, "MedianOfFive"));
+        table.put(Pattern.SORTED, SizeClass.SMALL, new Configuration(Algorithm.MERGESORT, 5, "Random"));
+
+        Path file = tempDir.resolve("calibration.properties");
+        table.save(file);
+        CalibrationTable loaded = CalibrationTable.load(file);
+
+        for (Pattern pattern : Pattern.values()) {
+            for (SizeClass sizeClass : SizeClass.values()) {
+                assertEquals(table.get(pattern, sizeClass), loaded.get(pattern, sizeClass));
+            }
+        }
+    }
+
+    @Test
+    void testFromFileReusesPersistedTable() throws IOException {
+        Path file = tempDir.resolve("calibration.properties");
+        CalibrationTable table = new CalibrationTable(new Configuration(Algorithm.QUICKSORT, 20, "Random"));
+        table.save(file);
+
+        AdaptiveSorter sorter = AdaptiveSorter.fromFile(file);
+        assertEquals(table.get(Pattern.RANDOM, SizeClass.SMALL),
+                sorter.getTable().get(Pattern.RANDOM, SizeClass.SMALL));
+    }
+
+    @Test
+    void testLoadRejectsInvalidEntry() throws IOException {
+        Path file = tempDir.resolve("bad.properties");
+        Files.writeString(file, "RANDOM.SMALL.algorithm=BOGOSORT\n");
+        assertThrows(IllegalArgumentException.class, () -> CalibrationTable.load(file));
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new Configuration(null, 10, "Random"));
+        assertThrows(IllegalArgumentException.class, () -> new Configuration(Algorithm.MERGESORT, 0, "Random"));
+        assertThrows(IllegalArgumentException.class, () -> new Configuration(Algorithm.QUICKSORT, 10, "Middle"));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveSorter(null));
+    }
+}
@@ -0,0 +1,401 @@
+package assign05;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+
+import assign05.AdaptiveSorter.Algorithm;
+import assign05.AdaptiveSorter.Pattern;
+import assign05.AdaptiveSorter.SizeClass;
+
+/**
+ * CalibrationTable maps an input profile (data pattern and size class) to the
+ * sorting configuration that performed best on the host machine.
+ *
+ * A table is produced by {@link #calibrate()}, which times every mergesort
+ * threshold and pivot chooser, plus counting sort, on representative data for
+ * each profile, mirroring the search done offline by
+ * OptimalConfigurationFinder. The result
+ * can be saved to and loaded from a properties file so later process starts
+ * reuse it without re-measuring.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version 1.0 | October 2nd, 2025 (Up-to-date)
+ */
+public class CalibrationTable {
+
+    /**
+     * Mergesort thresholds tried during calibration
+     */
+    static final int[] THRESHOLDS = {5, 10, 15, 20, 25, 30};
+
+    /**
+     * Pivot choosers tried during calibration. FirstPivotChooser is left out
+     * because it is quadratic (and recursion-depth unsafe) on presorted input.
+     */
+    static final String[] CHOOSERS = {"Random", "MedianOfThree", "MedianOfFive"};
+
+    /**
+     * Default problem sizes used for each size class during calibration
+     */
+    public static final int DEFAULT_SMALL_SIZE = 2_000;
+    public static final int DEFAULT_LARGE_SIZE = 50_000;
+
+    /**
+     * Default number of timed trials per configuration (median is used)
+     */
+    public static final int DEFAULT_TRIALS = 5;
+
+    /**
+     * A single sorting configuration: the algorithm to run, the mergesort
+     * insertion sort threshold, and the quicksort pivot chooser name. Counting
+     * sort uses neither, but they are still validated and saved.
+     */
+    public static final class Configuration {
+
+        private final Algorithm algorithm;
+        private final int threshold;
+        private final String chooser;
+
+        /**
+         * Constructs a new Configuration.
+         *
+         * @param algorithm the sorting algorithm to use
+         * @param threshold the mergesort insertion sort threshold (must be
+         * positive)
+         * @param chooser the pivot chooser name ("First", "Random",
+         * "MedianOfThree" or "MedianOfFive")
+         * @throws IllegalArgumentException if any parameter is invalid
+         */
+        public Configuration(Algorithm algorithm, int threshold, String chooser) {
+            if (algorithm == null) {
+                throw new IllegalArgumentException("Algorithm cannot be null");
+            }
+            if (threshold <= 0) {
+                throw new IllegalArgumentException("Threshold must be positive, got: " + threshold);
+            }
+            newChooser(chooser); // validates the name
+            this.algorithm = algorithm;
+            this.threshold = threshold;
+            this.chooser = chooser;
+        }
+
+        public Algorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        public int getThreshold() {
+            return threshold;
+        }
+
+        public String getChooser() {
+            return chooser;
+        }
+
+        /**
+         * Sorts the list with this configuration.
+         *
+         * @param <T> the type of elements in the list
+         * @param list the list to sort in-place
+         */
+        public <T extends Comparable<? super T>> void sort(List<T> list) {
+            switch (algorithm) {
+                case MERGESORT -> ListSorter.mergesort(list, threshold);
+                case QUICKSORT -> ListSorter.quicksort(list, CalibrationTable.<T>newChooser(chooser));
+                case COUNTING -> ListSorter.countingSort(list);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Configuration)) {
+                return false;
+            }
+            Configuration other = (Configuration) o;
+            return algorithm == other.algorithm && threshold == other.threshold && chooser.equals(other.chooser);
+        }
+
+        @Override
+        public int hashCode() {
+            return (algorithm.hashCode() * 31 + threshold) * 31 + chooser.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return algorithm + "(threshold=" + threshold + ", chooser=" + chooser + ")";
+        }
+    }
+
+    private final Map<Pattern, Map<SizeClass, Configuration>> entries = new EnumMap<>(Pattern.class);
+
+    /**
+     * Constructs a table where every profile uses the given configuration.
+     *
+     * @param fallback the configuration used for every profile
+     */
+    public CalibrationTable(Configuration fallback) {
+        for (Pattern pattern : Pattern.values()) {
+            Map<SizeClass, Configuration> row = new EnumMap<>(SizeClass.class);
+            for (SizeClass sizeClass : SizeClass.values()) {
+                row.put(sizeClass, fallback);
+            }
+            entries.put(pattern, row);
+        }
+    }
+
+    /**
+     * Returns an uncalibrated table that uses hybrid mergesort with threshold
+     * 20 for every profile, which is never quadratic.
+     *
+     * @return the default table
+     */
+    public static CalibrationTable defaults() {
+        return new CalibrationTable(new Configuration(Algorithm.MERGESORT, 20, "MedianOfFive"));
+    }
+
+    /**
+     * Returns the configuration for the given profile.
+     *
+     * @param pattern the data pattern
+     * @param sizeClass the size class
+     * @return the configuration for the profile
+     */
+    public Configuration get(Pattern pattern, SizeClass sizeClass) {
+        return entries.get(pattern).get(sizeClass);
+    }
+
+    /**
+     * Sets the configuration for the given profile.
+     *
+     * @param pattern the data pattern
+     * @param sizeClass the size class
+     * @param config the configuration to use (must not be null)
+     * @throws IllegalArgumentException if config is null
+     */
+    public void put(Pattern pattern, SizeClass sizeClass, Configuration config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Configuration cannot be null");
+        }
+        entries.get(pattern).put(sizeClass, config);
+    }
+
+    /**
+     * Runs a calibration with the default sizes and trial count.
+     *
+     * @return a table with the fastest configuration for each profile
+     */
+    public static CalibrationTable calibrate() {
+        return calibrate(DEFAULT_SMALL_SIZE, DEFAULT_LARGE_SIZE, DEFAULT_TRIALS);
+    }
+
+    /**
+     * Runs a calibration on the host machine. For every profile, each
+     * candidate configuration is timed on generated data of the given size,
+     * and the configuration with the smallest median time is stored.
+     *
+     * @param smallSize the problem size used for the SMALL size class
+     * @param largeSize the problem size used for the LARGE size class
+     * @param trials the number of timed trials per configuration
+     * @return a table with the fastest configuration for each profile
+     * @throws IllegalArgumentException if any parameter is not positive
+     */
+    public static CalibrationTable calibrate(int smallSize, int largeSize, int trials) {
+        if (smallSize <= 0 || largeSize <= 0 || trials <= 0) {
+            throw new IllegalArgumentException("Sizes and trials must be positive");
+        }
+
+        List<Configuration> candidates = candidates();
+        CalibrationTable table = defaults();
+        Random rng = new Random(42);
+        for (Pattern pattern : Pattern.values()) {
+            for (SizeClass sizeClass : SizeClass.values()) {
+                int size = sizeClass == SizeClass.SMALL ? smallSize : largeSize;
+                List<Integer> data = generate(pattern, size, rng);
+
+                Configuration best = null;
+                long bestTime = Long.MAX_VALUE;
+                for (Configuration config : candidates) {
+                    long time = medianTime(config, data, trials);
+                    if (time < bestTime) {
+                        bestTime = time;
+                        best = config;
+                    }
+                }
+                table.put(pattern, sizeClass, best);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Returns the configurations timed during calibration: mergesort with
+     * each threshold, quicksort with each pivot chooser, and counting sort.
+     *
+     * @return the candidate configurations
+     */
+    static List<Configuration> candidates() {
+        List<Configuration> candidates = new ArrayList<>();
+        for (int threshold : THRESHOLDS) {
+            candidates.add(new Configuration(Algorithm.MERGESORT, threshold, "MedianOfFive"));
+        }
+        for (String chooser : CHOOSERS) {
+            candidates.add(new Configuration(Algorithm.QUICKSORT, 20, chooser));
+        }
+        candidates.add(new Configuration(Algorithm.COUNTING, 20, "MedianOfFive"));
+        return candidates;
+    }
+
+    /**
+     * Times a configuration on copies of the data and returns the median.
+     *
+     * @param config the configuration to time
+     * @param data the data to sort (not modified)
+     * @param trials the number of timed trials
+     * @return the median time in nanoseconds
+     */
+    private static long medianTime(Configuration config, List<Integer> data, int trials) {
+        // One untimed run to warm up the JIT for this configuration
+        config.sort(new ArrayList<>(data));
+
+        long[] times = new long[trials];
+        for (int t = 0; t < trials; t++) {
+            List<Integer> copy = new ArrayList<>(data);
+            long start = System.nanoTime();
+            config.sort(copy);
+            times[t] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        return times[trials / 2];
+    }
+
+    /**
+     * Generates representative data for a data pattern.
+     *
+     * @param pattern the data pattern
+     * @param size the number of elements
+     * @param rng the random number generator to use
+     * @return a new list of the given pattern and size
+     */
+    public static List<Integer> generate(Pattern pattern, int size, Random rng) {
+        List<Integer> list = new ArrayList<>(size);
+        switch (pattern) {
+            case SORTED -> {
+                for (int i = 0; i < size; i++) {
+                    list.add(i);
+                }
+            }
+            case REVERSED -> {
+                for (int i = size - 1; i >= 0; i--) {
+                    list.add(i);
+                }
+            }
+            case DUPLICATES -> {
+                int distinct = Math.max(1, (int) Math.sqrt(size));
+                for (int i = 0; i < size; i++) {
+                    list.add(rng.nextInt(distinct));
+                }
+            }
+            default -> {
+                for (int i = 0; i < size; i++) {
+                    list.add(rng.nextInt(size * 2));
+                }
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Saves this table to a properties file.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        Properties props = new Properties();
+        for (Pattern pattern : Pattern.values()) {
+            for (SizeClass sizeClass : SizeClass.values()) {
+                Configuration config = get(pattern, sizeClass);
+                String key = pattern + "." + sizeClass;
+                props.setProperty(key + ".algorithm", config.getAlgorithm().name());
+                props.setProperty(key + ".threshold", Integer.toString(config.getThreshold()));
+                props.setProperty(key + ".chooser", config.getChooser());
+            }
+        }
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            props.store(out, "AdaptiveSorter calibration table");
+        }
+    }
+
+    /**
+     * Loads a table previously written by {@link #save(Path)}. Profiles
+     * missing from the file keep the default configuration.
+     *
+     * @param file the file to read
+     * @return the loaded table
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file contains an invalid entry
+     */
+    public static CalibrationTable load(Path file) throws IOException {
+        Properties props = new Properties();
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            props.load(in);
+        }
+
+        CalibrationTable table = defaults();
+        for (Pattern pattern : Pattern.values()) {
+            for (SizeClass sizeClass : SizeClass.values()) {
+                String key = pattern + "." + sizeClass;
+                String algorithm = props.getProperty(key + ".algorithm");
+                if (algorithm == null) {
+                    continue;
+                }
+                try {
+                    table.put(pattern, sizeClass, new Configuration(
+                            Algorithm.valueOf(algorithm),
+                            Integer.parseInt(props.getProperty(key + ".threshold", "20")),
+                            props.getProperty(key + ".chooser", "MedianOfFive")));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid calibration entry for " + key, e);
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Creates a new pivot chooser from its name.
+     *
+     * @param <T> the type of elements the chooser works with
+     * @param name the chooser name ("First", "Random", "MedianOfThree" or
+     * "MedianOfFive")
+     * @return a new pivot chooser
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    static <T extends Comparable<? super T>> PivotChooser<T> newChooser(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Chooser name cannot be null");
+        }
+        return switch (name) {
+            case "First" -> new FirstPivotChooser<>();
+            case "Random" -> new RandomPivotChooser<>(new Random(42));
+            case "MedianOfThree" -> new MedianOfThreePivotChooser<>();
+            case "MedianOfFive" -> new MedianOfFivePivotChooser<>();
+            default -> throw new IllegalArgumentException("Unknown pivot chooser: " + name);
+        };
+    }
+
+    @Override
+    public String toString() {
+        return entries.toString();
+    }
+}
@@ -0,0 +1,367 @@
+package assign05;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * ExternalMergeSorter sorts newline-delimited text files that are too large to
+ * fit in memory.
+ *
+ * The sort runs in two phases: - Run generation: records are read into memory
+ * until the memory budget is reached, sorted with the hybrid
+ * {@link ListSorter#mergesort(List, int)}, and written out as a temporary run
+ * file - K-way merge: up to fanIn runs are merged at a time through a min-heap
+ * of run cursors. When there are more runs than the fan-in allows, merging is
+ * repeated in multiple passes until a single run remains
+ *
+ * All temporary files are read and written through buffered FileChannels and
+ * are deleted once they have been merged. Records are compared using the
+ * natural ordering of String, and the merge is stable (ties are broken by run
+ * order), so the overall sort is stable just like mergesort.
+ *
+ * Time Complexity: O(n log n) comparisons, plus O(n * passes) I/O where passes
+ * = ceil(log_fanIn(runs)). Space Complexity: O(memoryBudget + fanIn * buffer).
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version 1.0 | October 2nd, 2025 (Up-to-date)
+ */
+public class ExternalMergeSorter {
+
+    /**
+     * Default memory budget used for run generation (64 MB)
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 64L * 1024 * 1024;
+
+    /**
+     * Default number of runs merged at once
+     */
+    public static final int DEFAULT_FAN_IN = 64;
+
+    /**
+     * Default insertion sort threshold passed to ListSorter.mergesort
+     */
+    public static final int DEFAULT_THRESHOLD = 20;
+
+    /**
+     * Size (in chars) of the buffers wrapped around each channel
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Estimated heap overhead of a single record besides its characters
+     * (String header, backing array header, and the list slot)
+     */
+    private static final int RECORD_OVERHEAD = 64;
+
+    private final long memoryBudget;
+    private final int fanIn;
+    private final int threshold;
+    private final Path tempDir;
+
+    /**
+     * Constructs a new ExternalMergeSorter with the default memory budget,
+     * fan-in, and threshold, writing temporary runs to the system temporary
+     * directory.
+     */
+    public ExternalMergeSorter() {
+        this(DEFAULT_MEMORY_BUDGET, DEFAULT_FAN_IN, DEFAULT_THRESHOLD, null);
+    }
+
+    /**
+     * Constructs a new ExternalMergeSorter.
+     *
+     * @param memoryBudget approximate number of heap bytes a single run may
+     * occupy (must be positive)
+     * @param fanIn the maximum number of runs merged at once (must be at least
+     * 2)
+     * @param threshold the insertion sort threshold used when sorting runs
+     * (must be positive)
+     * @param tempDir the directory for temporary run files, or null to use the
+     * system temporary directory
+     *
+     * @throws IllegalArgumentException if any numeric parameter is invalid
+     */
+    public ExternalMergeSorter(long memoryBudget, int fanIn, int threshold, Path tempDir) {
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive, got: " + memoryBudget);
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("Fan-in must be at least 2, got: " + fanIn);
+        }
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive, got: " + threshold);
+        }
+        this.memoryBudget = memoryBudget;
+        this.fanIn = fanIn;
+        this.threshold = threshold;
+        this.tempDir = tempDir;
+    }
+
+    /**
+     * Sorts the newline-delimited records of the input file into the output
+     * file. The input file is not modified, and the output file is replaced if
+     * it already exists.
+     *
+     * @param input the file containing the records to sort (must not be null)
+     * @param output the file to write the sorted records to (must not be null)
+     * @return the number of records sorted
+     *
+     * @throws IllegalArgumentException if input or output is null
+     * @throws IOException if reading, writing, or creating temporary files
+     * fails
+     */
+    public long sort(Path input, Path output) throws IOException {
+        if (input == null || output == null) {
+            throw new IllegalArgumentException("Input and output paths cannot be null");
+        }
+
+        List<Path> runs = new ArrayList<>();
+        try {
+            long count = createRuns(input, runs);
+
+            while (runs.size() > fanIn) {
+                runs = mergePass(runs);
+            }
+
+            if (runs.size() == 1) {
+                Files.move(runs.get(0), output, StandardCopyOption.REPLACE_EXISTING);
+                runs.clear();
+            } else {
+                mergeRuns(runs, output);
+            }
+            return count;
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    /**
+     * Reads the input file and writes it out as a sequence of sorted runs, each
+     * one fitting within the memory budget.
+     *
+     * @param input the file containing the records to sort
+     * @param runs the list that receives the created run files, in input order
+     * @return the number of records read
+     * @throws IOException if reading or writing fails
+     */
+    private long createRuns(Path input, List<Path> runs) throws IOException {
+        long count = 0;
+        try (BufferedReader reader = openReader(input)) {
+            List<String> buffer = new ArrayList<>();
+            long used = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                buffer.add(line);
+                used += RECORD_OVERHEAD + 2L * line.length();
+                count++;
+
+                if (used >= memoryBudget) {
+                    runs.add(writeRun(buffer));
+                    buffer = new ArrayList<>();
+                    used = 0;
+                }
+            }
+            if (!buffer.isEmpty() || runs.isEmpty()) {
+                runs.add(writeRun(buffer));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Sorts a buffer of records with the hybrid mergesort and writes it to a
+     * new temporary run file.
+     *
+     * @param buffer the records to sort and write
+     * @return the path of the new run file
+     * @throws IOException if writing fails
+     */
+    private Path writeRun(List<String> buffer) throws IOException {
+        ListSorter.mergesort(buffer, threshold);
+
+        Path run = createTempFile();
+        try (BufferedWriter writer = openWriter(run)) {
+            for (String record : buffer) {
+                writer.write(record);
+                writer.write('\n');
+            }
+        }
+        return run;
+    }
+
+    /**
+     * Performs a single merge pass, merging consecutive groups of fanIn runs
+     * into new runs. Merged runs are deleted as soon as they are consumed.
+     *
+     * @param runs the runs to merge
+     * @return the runs produced by this pass, in order
+     * @throws IOException if reading or writing fails
+     */
+    private List<Path> mergePass(List<Path> runs) throws IOException {
+        List<Path> next = new ArrayList<>((runs.size() + fanIn - 1) / fanIn);
+        try {
+            for (int start = 0; start < runs.size(); start += fanIn) {
+                List<Path> group = runs.subList(start, Math.min(start + fanIn, runs.size()));
+                Path merged = createTempFile();
+                next.add(merged);
+                mergeRuns(group, merged);
+                for (Path run : group) {
+                    Files.delete(run);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Path run : next) {
+                Files.deleteIfExists(run);
+            }
+            throw e;
+        }
+        return next;
+    }
+
+    /**
+     * Merges the given sorted runs into the target file using a min-heap of run
+     * cursors. Ties are broken by run order to keep the merge stable.
+     *
+     * @param runs the sorted runs to merge
+     * @param target the file to write the merged records to
+     * @throws IOException if reading or writing fails
+     */
+    private void mergeRuns(List<Path> runs, Path target) throws IOException {
+        PriorityQueue<RunCursor> heap = new PriorityQueue<>(runs.size());
+        try (BufferedWriter writer = openWriter(target)) {
+            for (int i = 0; i < runs.size(); i++) {
+                RunCursor cursor = new RunCursor(openReader(runs.get(i)), i);
+                if (cursor.advance()) {
+                    heap.add(cursor);
+                } else {
+                    cursor.close();
+                }
+            }
+
+            while (!heap.isEmpty()) {
+                RunCursor cursor = heap.poll();
+                writer.write(cursor.current);
+                writer.write('\n');
+                if (cursor.advance()) {
+                    heap.add(cursor);
+                } else {
+                    cursor.close();
+                }
+            }
+        } finally {
+            for (RunCursor cursor : heap) {
+                cursor.close();
+            }
+        }
+    }
+
+    /**
+     * Creates a new temporary run file in the configured directory.
+     *
+     * @return the path of the new file
+     * @throws IOException if the file cannot be created
+     */
+    private Path createTempFile() throws IOException {
+        return tempDir == null
+                ? Files.createTempFile("sort-run-", ".tmp")
+                : Files.createTempFile(tempDir, "sort-run-", ".tmp");
+    }
+
+    /**
+     * Opens a buffered UTF-8 reader over a FileChannel for the given file.
+     *
+     * @param path the file to read
+     * @return a buffered reader over the file's channel
+     * @throws IOException if the file cannot be opened
+     */
+    private static BufferedReader openReader(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        return new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Opens a buffered UTF-8 writer over a FileChannel for the given file,
+     * truncating any existing contents.
+     *
+     * @param path the file to write
+     * @return a buffered writer over the file's channel
+     * @throws IOException if the file cannot be opened
+     */
+    private static BufferedWriter openWriter(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        return new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Cursor over a single sorted run during a k-way merge. Cursors are ordered
+     * by their current record, then by run index for stability.
+     */
+    private static final class RunCursor implements Comparable<RunCursor> {
+
+        /**
+         * Reader over the run file
+         */
+        private final BufferedReader reader;
+
+        /**
+         * Position of this run among the runs being merged
+         */
+        private final int index;
+
+        /**
+         * The record at the head of this run
+         */
+        private String current;
+
+        /**
+         * Constructs a new RunCursor.
+         *
+         * @param reader reader over the run file
+         * @param index position of this run among the runs being merged
+         */
+        RunCursor(BufferedReader reader, int index) {
+            this.reader = reader;
+            this.index = index;
+        }
+
+        /**
+         * Moves to the next record of the run.
+         *
+         * @return true if a record is available, false if the run is exhausted
+         * @throws IOException if reading fails
+         */
+        boolean advance() throws IOException {
+            current = reader.readLine();
+            return current != null;
+        }
+
+        /**
+         * Closes the underlying reader.
+         *
+         * @throws IOException if closing fails
+         */
+        void close() throws IOException {
+            reader.close();
+        }
+
+        @Override
+        public int compareTo(RunCursor other) {
+            int cmp = current.compareTo(other.current);
+            return cmp != 0 ? cmp : Integer.compare(index, other.index);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package assign05;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test suite for ExternalMergeSorter run generation and k-way merging.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version 1.0 | October 2nd, 2025 (Up-to-date)
+ */
+public class ExternalMergeSorterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private List<String> randomRecords(int count, long seed) {
+        Random rng = new Random(seed);
+        List<String> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add("record-" + rng.nextInt(count / 2 + 1));
+        }
+        return records;
+    }
+
+    private List<String> sortFile(List<String> records, ExternalMergeSorter sorter) throws IOException {
+        Path input = tempDir.resolve("input.txt");
+        Path output = tempDir.resolve("output.txt");
+        Files.write(input, records);
+
+        long count = sorter.sort(input, output);
+        assertEquals(records.size(), count);
+        return Files.readAllLines(output);
+    }
+
+    private long leftoverRuns() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.filter(p -> p.getFileName().toString().startsWith("sort-run-")).count();
+        }
+    }
+
+    @Test
+    void testSingleRun() throws IOException {
+        List<String> records = randomRecords(500, 1);
+        List<String> sorted = sortFile(records, new ExternalMergeSorter(1L << 20, 8, 10, tempDir));
+
+        Collections.sort(records);
+        assertEquals(records, sorted);
+        assertEquals(0, leftoverRuns());
+    }
+
+    @Test
+    void testManyRunsSinglePass() throws IOException {
+        List<String> records = randomRecords(2000, 2);
+        // ~100 records per run, 20 runs, all merged in one pass
+        List<String> sorted = sortFile(records, new ExternalMergeSorter(10_000, 32, 10, tempDir));
+
+        Collections.sort(records);
+        assertEquals(records, sorted);
+        assertEquals(0, leftoverRuns());
+    }
+
+    @Test
+    void testMultiPassMerge() throws IOException {
+        List<String> records = randomRecords(5000, 3);
+        // Tiny budget and fan-in of 2 force several merge passes
+        List<String> sorted = sortFile(records, new ExternalMergeSorter(2_000, 2, 5, tempDir));
+
+        Collections.sort(records);
+        assertEquals(records, sorted);
+        assertEquals(0, leftoverRuns());
+    }
+
+    @Test
+    void testEmptyInput() throws IOException {
+        List<String> sorted = sortFile(new ArrayList<>(), new ExternalMergeSorter(1_000, 2, 5, tempDir));
+        assertTrue(sorted.isEmpty());
+    }
+
+    @Test
+    void testDuplicatesAndEmptyLines() throws IOException {
+        List<String> records = new ArrayList<>(List.of("b", "", "a", "b", "", "c", "a"));
+        List<String> sorted = sortFile(records, new ExternalMergeSorter(100, 2, 1, tempDir));
+
+        Collections.sort(records);
+        assertEquals(records, sorted);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ExternalMergeSorter(0, 2, 5, tempDir));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalMergeSorter(100, 1, 5, tempDir));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalMergeSorter(100, 2, 0, tempDir));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalMergeSorter().sort(null, tempDir));
+    }
+}
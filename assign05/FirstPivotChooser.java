@@ -16,7 +16,7 @@ import java.util.List;
  * @author Alex Waldmann && Tyler Gagliardi
  * @version 1.0 | October 2nd, 2025 (Up-to-date)
  */
-public class FirstPivotChooser<E extends Comparable<? super E>> implements PivotChooser<E> {
+public class FirstPivotChooser<E> implements PivotChooser<E> {
 
     /**
      * Constructs a new FirstPivotChooser. No initialization is needed for this
@@ -9,7 +9,13 @@
 package assign05;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
 
 /**
  * ListSorter provides static methods for sorting lists using mergesort and
@@ -19,7 +25,14 @@ import java.util.List;
  * following features: - Mergesort with adaptive threshold switching to
  * insertion sort for small subarrays - Quicksort with 3-way partitioning (Dutch
  * National Flag) for optimal duplicate handling - Generic implementation
- * supporting any Comparable type - Utility methods for generating test data
+ * supporting any Comparable type, or any type with an explicit Comparator -
+ * Cached-key sorting that derives each sort key exactly once - Optional
+ * {@link SortStats} instrumentation of comparisons, moves, and phase timings -
+ * Quickselect and partial sorting for when only the k smallest elements are
+ * needed - Opt-in low-cardinality detection that sorts duplicate-heavy lists
+ * with a counting sort - Primitive int[] and long[] mergesort whose base case uses
+ * branchless {@link SortingNetwork}s for small ranges - Utility methods for
+ * generating test data
  *
  * Both sorting algorithms are stable, efficient, and handle edge cases
  * gracefully. The mergesort implementation guarantees O(n log n) performance in
@@ -31,6 +44,22 @@ import java.util.List;
  */
 public final class ListSorter {
 
+    /**
+     * Insertion sort threshold used by sortByKey
+     */
+    private static final int DEFAULT_THRESHOLD = 20;
+
+    /**
+     * Lists shorter than this are never checked for low cardinality
+     */
+    static final int LOW_CARDINALITY_MIN_SIZE = 4096;
+
+    /**
+     * Number of evenly-spaced elements sampled when checking for low
+     * cardinality
+     */
+    static final int CARDINALITY_SAMPLE_SIZE = 512;
+
     /**
      * Private constructor to prevent instantiation of this utility class.
      */
@@ -59,20 +88,91 @@ public final class ListSorter {
      * returning early)
      */
     public static <T extends Comparable<? super T>> void mergesort(List<T> list, int threshold) {
+        mergesort(list, Comparator.naturalOrder(), threshold);
+    }
+
+    /**
+     * Sorts the given list using a hybrid mergesort algorithm, ordering
+     * elements with the given Comparator instead of their natural ordering.
+     *
+     * Behaves exactly like {@link #mergesort(List, int)}, including stability,
+     * but works with element types that are not Comparable or that need a
+     * different ordering.
+     *
+     * @param <T> the type of elements in the list
+     * @param list the list to be sorted in-place (must not be null)
+     * @param comparator the ordering to sort by (must not be null)
+     * @param threshold the size threshold below which insertion sort is used
+     * (must be positive)
+     *
+     * @throws IllegalArgumentException if comparator is null or threshold <= 0
+     * @throws NullPointerException if list is null (handled gracefully by
+     * returning early)
+     */
+    public static <T> void mergesort(List<T> list, Comparator<? super T> comparator, int threshold) {
+        mergesort(list, comparator, threshold, null);
+    }
+
+    /**
+     * Sorts the given list using a hybrid mergesort algorithm and records
+     * what the sort did into the given SortStats.
+     *
+     * @param <T> the type of elements in the list, must implement Comparable
+     * @param list the list to be sorted in-place (must not be null)
+     * @param threshold the size threshold below which insertion sort is used
+     * (must be positive)
+     * @param stats the listener receiving statistics, or null for none
+     *
+     * @throws IllegalArgumentException if threshold <= 0
+     * @throws NullPointerException if list is null (handled gracefully by
+     * returning early)
+     */
+    public static <T extends Comparable<? super T>> void mergesort(List<T> list, int threshold, SortStats stats) {
+        mergesort(list, Comparator.naturalOrder(), threshold, stats);
+    }
+
+    /**
+     * Sorts the given list using a hybrid mergesort algorithm with the given
+     * Comparator, and records what the sort did into the given SortStats.
+     *
+     * When stats is null, the uninstrumented sort is run with no extra cost.
+     *
+     * @param <T> the type of elements in the list
+     * @param list the list to be sorted in-place (must not be null)
+     * @param comparator the ordering to sort by (must not be null)
+     * @param threshold the size threshold below which insertion sort is used
+     * (must be positive)
+     * @param stats the listener receiving statistics, or null for none
+     *
+     * @throws IllegalArgumentException if comparator is null or threshold <= 0
+     * @throws NullPointerException if list is null (handled gracefully by
+     * returning early)
+     */
+    public static <T> void mergesort(List<T> list, Comparator<? super T> comparator, int threshold,
+            SortStats stats) {
         if (list == null || list.size() <= 1) {
             return;
         }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
         if (threshold <= 0) {
             throw new IllegalArgumentException("Threshold must be positive, got: " + threshold);
         }
 
         int n = list.size();
-        ArrayList<T> temp = new ArrayList<>(n);
+        List<T> temp = new ArrayList<>(n);
         for (int i = 0; i < n; i++) {
             temp.add(null);
         }
 
-        mergeSortRecursive(list, temp, 0, n - 1, threshold);
+        if (stats != null) {
+            list = stats.counting(list);
+            temp = stats.counting(temp);
+            comparator = stats.counting(comparator);
+        }
+
+        mergeSortRecursive(list, temp, 0, n - 1, threshold, comparator, stats);
     }
 
     /**
@@ -99,14 +199,424 @@ public final class ListSorter {
      * returning early)
      */
     public static <T extends Comparable<? super T>> void quicksort(List<T> list, PivotChooser<T> chooser) {
+        quicksort(list, Comparator.naturalOrder(), chooser);
+    }
+
+    /**
+     * Sorts the given list using a quicksort algorithm with 3-way
+     * partitioning, ordering elements with the given Comparator instead of
+     * their natural ordering.
+     *
+     * The pivot chooser only affects which element is used as the pivot, never
+     * the correctness of the result, so any chooser applicable to the element
+     * type may be used.
+     *
+     * @param <T> the type of elements in the list
+     * @param list the list to be sorted in-place (must not be null)
+     * @param comparator the ordering to sort by (must not be null)
+     * @param chooser the pivot selection strategy (must not be null)
+     *
+     * @throws IllegalArgumentException if comparator or chooser is null
+     * @throws NullPointerException if list is null (handled gracefully by
+     * returning early)
+     */
+    public static <T> void quicksort(List<T> list, Comparator<? super T> comparator, PivotChooser<T> chooser) {
+        quicksort(list, comparator, chooser, null);
+    }
+
+    /**
+     * Sorts the given list using a quicksort algorithm with 3-way
+     * partitioning, and records what the sort did into the given SortStats.
+     *
+     * @param <T> the type of elements in the list, must implement Comparable
+     * @param list the list to be sorted in-place (must not be null)
+     * @param chooser the pivot selection strategy (must not be null)
+     * @param stats the listener receiving statistics, or null for none
+     *
+     * @throws IllegalArgumentException if chooser is null
+     * @throws NullPointerException if list is null (handled gracefully by
+     * returning early)
+     */
+    public static <T extends Comparable<? super T>> void quicksort(List<T> list, PivotChooser<T> chooser,
+            SortStats stats) {
+        quicksort(list, Comparator.naturalOrder(), chooser, stats);
+    }
+
+    /**
+     * Sorts the given list using a quicksort algorithm with 3-way partitioning
+     * and the given Comparator, and records what the sort did into the given
+     * SortStats.
+     *
+     * When stats is null, the uninstrumented sort is run with no extra cost.
+     *
+     * @param <T> the type of elements in the list
+     * @param list the list to be sorted in-place (must not be null)
+     * @param comparator the ordering to sort by (must not be null)
+     * @param chooser the pivot selection strategy (must not be null)
+     * @param stats the listener receiving statistics, or null for none
+     *
+     * @throws IllegalArgumentException if comparator or chooser is null
+     * @throws NullPointerException if list is null (handled gracefully by
+     * returning early)
+     */
+    public static <T> void quicksort(List<T> list, Comparator<? super T> comparator, PivotChooser<T> chooser,
+            SortStats stats) {
+        if (list == null || list.size() <= 1) {
+            return;
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+        if (chooser == null) {
+            throw new IllegalArgumentException("PivotChooser cannot be null");
+        }
+
+        if (stats != null) {
+            list = stats.counting(list);
+            comparator = stats.counting(comparator);
+        }
+
+        quickSortRecursive(list, 0, list.size() - 1, chooser, comparator, stats);
+    }
+
+    /**
+     * Sorts the given list by a derived key, computing each element's key
+     * exactly once (decorate-sort-undecorate).
+     *
+     * Sorting with a Comparator that derives its key on every comparison
+     * evaluates the key function O(n log n) times. This method instead
+     * evaluates it n times into (key, element) pairs, sorts the pairs by key
+     * with the hybrid mergesort, and writes the elements back into the list.
+     * The sort is stable.
+     *
+     * Time Complexity: O(n log n) comparisons, n key evaluations. Space
+     * Complexity: O(n) for the pairs and the merge buffer.
+     *
+     * @param <T> the type of elements in the list
+     * @param <K> the type of the sort key, must implement Comparable
+     * @param list the list to be sorted in-place (must not be null)
+     * @param keyExtractor the function deriving each element's key (must not
+     * be null)
+     *
+     * @throws IllegalArgumentException if keyExtractor is null
+     * @throws NullPointerException if list is null (handled gracefully by
+     * returning early)
+     */
+    public static <T, K extends Comparable<? super K>> void sortByKey(
+            List<T> list, Function<? super T, ? extends K> keyExtractor) {
         if (list == null || list.size() <= 1) {
             return;
         }
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("Key extractor cannot be null");
+        }
+
+        int n = list.size();
+        ArrayList<KeyedElement<K, T>> pairs = new ArrayList<>(n);
+        for (T element : list) {
+            pairs.add(new KeyedElement<>(keyExtractor.apply(element), element));
+        }
+
+        mergesort(pairs, (a, b) -> a.key.compareTo(b.key), DEFAULT_THRESHOLD);
+
+        for (int i = 0; i < n; i++) {
+            list.set(i, pairs.get(i).element);
+        }
+    }
+
+    /**
+     * Returns the k-th smallest element of the list (0-based) using
+     * quickselect with 3-way partitioning.
+     *
+     * Pivots are taken from the given PivotChooser while partitions keep
+     * shrinking the range. If two partitions fail to cut the range to at most
+     * three quarters of its size, selection falls back to median-of-medians
+     * pivots, which guarantees linear time even for adversarial inputs or poor
+     * choosers.
+     *
+     * The list is rearranged as a side effect: afterwards list[k] holds the
+     * returned element, every element before it is no greater, and every
+     * element after it is no smaller.
+     *
+     * Time Complexity: O(n) average and worst case. Space Complexity: O(log n)
+     * for the median-of-medians recursion.
+     *
+     * @param <T> the type of elements in the list, must implement Comparable
+     * @param list the list to select from (must not be null or empty)
+     * @param k the 0-based rank of the element to return
+     * @param chooser the pivot selection strategy (must not be null)
+     * @return the element that would be at index k if the list were sorted
+     *
+     * @throws IllegalArgumentException if list is null, chooser is null, or k
+     * is out of range
+     */
+    public static <T extends Comparable<? super T>> T select(List<T> list, int k, PivotChooser<T> chooser) {
+        if (list == null) {
+            throw new IllegalArgumentException("List cannot be null");
+        }
+        if (k < 0 || k >= list.size()) {
+            throw new IllegalArgumentException("k must be in [0, " + list.size() + "), got: " + k);
+        }
         if (chooser == null) {
             throw new IllegalArgumentException("PivotChooser cannot be null");
         }
 
-        quickSortRecursive(list, 0, list.size() - 1, chooser);
+        int idx = selectIndex(list, 0, list.size() - 1, k, chooser, Comparator.naturalOrder());
+        return list.get(idx);
+    }
+
+    /**
+     * Rearranges the list so that its first k positions hold the k smallest
+     * elements in sorted order. The remaining positions hold the other
+     * elements in no particular order.
+     *
+     * This first selects the k-th smallest element, which partitions the list
+     * around it, and then sorts only the first k positions.
+     *
+     * Time Complexity: O(n + k log k). Space Complexity: O(k) for the merge
+     * buffer.
+     *
+     * @param <T> the type of elements in the list, must implement Comparable
+     * @param list the list to partially sort in-place (must not be null)
+     * @param k the number of leading positions to sort (0 <= k <= size)
+     *
+     * @throws IllegalArgumentException if k is out of range
+     * @throws NullPointerException if list is null (handled gracefully by
+     * returning early)
+     */
+    public static <T extends Comparable<? super T>> void partialSort(List<T> list, int k) {
+        if (list == null) {
+            return;
+        }
+        if (k < 0 || k > list.size()) {
+            throw new IllegalArgumentException("k must be in [0, " + list.size() + "], got: " + k);
+        }
+        if (k == 0) {
+            return;
+        }
+
+        if (k < list.size()) {
+            selectIndex(list, 0, list.size() - 1, k - 1, new MedianOfThreePivotChooser<T>(),
+                    Comparator.naturalOrder());
+        }
+        mergesort(list.subList(0, k), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Sorts the given list with a counting sort, which is fast when the list
+     * holds few distinct values.
+     *
+     * Each element is mapped to a bucket for its distinct value in one pass,
+     * through a TreeMap of the d distinct values seen so far. The elements are
+     * then placed bucket by bucket, in bucket order, keeping their original
+     * relative order. The original element objects are kept (equal elements
+     * are never replaced by one representative). Buckets are found with
+     * compareTo, never equals or hashCode, so elements that compare equal
+     * always share a bucket and the sort is stable even for types such as
+     * BigDecimal whose natural ordering is not consistent with equals.
+     *
+     * Time Complexity: O(n log d), for d distinct values. Space Complexity:
+     * O(n + d).
+     *
+     * @param <T> the type of elements in the list, must implement Comparable
+     * @param list the list to be sorted in-place (must not be null)
+     *
+     * @throws NullPointerException if list is null (handled gracefully by
+     * returning early)
+     */
+    public static <T extends Comparable<? super T>> void countingSort(List<T> list) {
+        if (list == null || list.size() <= 1) {
+            return;
+        }
+        countingSort(list, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Estimates from an evenly-spaced sample whether the list has few distinct
+     * values. With s samples drawn from d equally common values, about
+     * s^2 / 2d samples are repeats, so a sample where at least one in sixteen
+     * elements is a repeat points to d being at most a few thousand. Repeats
+     * are found with compareTo, the same way countingSort buckets elements.
+     *
+     * @param <T> the type of elements in the list
+     * @param list the list to inspect
+     * @return true if the sample suggests low cardinality
+     */
+    static <T extends Comparable<? super T>> boolean sampleLooksLowCardinality(List<T> list) {
+        int n = list.size();
+        int samples = Math.min(CARDINALITY_SAMPLE_SIZE, n);
+        int stride = n / samples;
+        Set<T> distinct = new TreeSet<>();
+        for (int s = 0, i = 0; s < samples; s++, i += stride) {
+            distinct.add(list.get(i));
+        }
+        return samples - distinct.size() >= samples / 16;
+    }
+
+    /**
+     * Sorts the list with countingSort if it is large and sampling suggests
+     * low cardinality, in O(n log d) for d distinct values. The counting pass
+     * gives up (leaving the list unchanged) once more than n / 16 distinct
+     * values are seen, at which point a comparison sort is the better choice.
+     *
+     * mergesort and quicksort never take this path on their own, so timing
+     * them measures the comparison sort alone; callers that want it run this
+     * first and fall back to a comparison sort when it returns false. Like
+     * countingSort, it is stable even when the natural ordering is not
+     * consistent with equals.
+     *
+     * @param <T> the type of elements in the list
+     * @param list the list to sort (may be null)
+     * @return true if the list was sorted, false if the caller should sort it
+     */
+    public static <T extends Comparable<? super T>> boolean trySortLowCardinality(List<T> list) {
+        if (list == null || list.size() < LOW_CARDINALITY_MIN_SIZE || !sampleLooksLowCardinality(list)) {
+            return false;
+        }
+        return countingSort(list, list.size() / 16);
+    }
+
+    /**
+     * Counting sort that gives up once more than maxDistinct distinct values
+     * are found. The list is only modified if the sort completes.
+     *
+     * @param <T> the type of elements in the list
+     * @param list the list to sort
+     * @param maxDistinct the largest number of distinct values to accept
+     * @return true if the list was sorted, false if it had too many distinct
+     * values
+     */
+    private static <T extends Comparable<? super T>> boolean countingSort(List<T> list, int maxDistinct) {
+        int n = list.size();
+        TreeMap<T, Integer> bucketIds = new TreeMap<>();
+        int[] bucketOf = new int[n];
+
+        int i = 0;
+        for (T element : list) {
+            Integer id = bucketIds.get(element);
+            if (id == null) {
+                if (bucketIds.size() == maxDistinct) {
+                    return false;
+                }
+                id = bucketIds.size();
+                bucketIds.put(element, id);
+            }
+            bucketOf[i++] = id;
+        }
+
+        int[] counts = new int[bucketIds.size()];
+        for (int b : bucketOf) {
+            counts[b]++;
+        }
+
+        // The map iterates buckets in sorted order; turn counts into offsets
+        int[] offsets = new int[counts.length];
+        int next = 0;
+        for (int b : bucketIds.values()) {
+            offsets[b] = next;
+            next += counts[b];
+        }
+
+        Object[] sorted = new Object[n];
+        i = 0;
+        for (T element : list) {
+            sorted[offsets[bucketOf[i++]]++] = element;
+        }
+
+        ListIterator<T> it = list.listIterator();
+        for (Object element : sorted) {
+            it.next();
+            @SuppressWarnings("unchecked")
+            T t = (T) element;
+            it.set(t);
+        }
+        return true;
+    }
+
+    /**
+     * Sorts the given int array using a hybrid mergesort algorithm.
+     *
+     * Works like {@link #mergesort(List, int)} but on primitives, so no
+     * boxing or List calls are involved. Ranges at or below the threshold are
+     * sorted with a branchless sorting network when they have at most
+     * SortingNetwork.MAX_SIZE (16) elements, and with insertion sort
+     * otherwise.
+     *
+     * Time Complexity: O(n log n) in all cases. Space Complexity: O(n) for the
+     * temporary array used during merging.
+     *
+     * @param array the array to be sorted in-place
+     * @param threshold the size threshold below which the base case is used
+     * (must be positive)
+     *
+     * @throws IllegalArgumentException if threshold <= 0
+     * @throws NullPointerException if array is null (handled gracefully by
+     * returning early)
+     */
+    public static void mergesortInts(int[] array, int threshold) {
+        mergesortInts(array, threshold, SortingNetwork.MAX_SIZE);
+    }
+
+    /**
+     * Sorts the given long array using a hybrid mergesort algorithm. See
+     * {@link #mergesortInts(int[], int)}.
+     *
+     * @param array the array to be sorted in-place
+     * @param threshold the size threshold below which the base case is used
+     * (must be positive)
+     *
+     * @throws IllegalArgumentException if threshold <= 0
+     * @throws NullPointerException if array is null (handled gracefully by
+     * returning early)
+     */
+    public static void mergesortLongs(long[] array, int threshold) {
+        mergesortLongs(array, threshold, SortingNetwork.MAX_SIZE);
+    }
+
+    /**
+     * Sorts the given int array using a hybrid mergesort algorithm, using
+     * sorting networks only for base case ranges of at most networkMax
+     * elements. A networkMax of 0 always uses insertion sort, which lets
+     * experiments measure the network against the plain base case.
+     *
+     * @param array the array to be sorted in-place
+     * @param threshold the size threshold below which the base case is used
+     * @param networkMax the largest base case range sorted with a network (at
+     * most SortingNetwork.MAX_SIZE)
+     */
+    static void mergesortInts(int[] array, int threshold, int networkMax) {
+        if (array == null || array.length <= 1) {
+            return;
+        }
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive, got: " + threshold);
+        }
+
+        int[] temp = new int[array.length];
+        mergeSortRecursive(array, temp, 0, array.length - 1, threshold,
+                Math.min(networkMax, SortingNetwork.MAX_SIZE));
+    }
+
+    /**
+     * Sorts the given long array using a hybrid mergesort algorithm. See
+     * {@link #mergesortInts(int[], int, int)}.
+     *
+     * @param array the array to be sorted in-place
+     * @param threshold the size threshold below which the base case is used
+     * @param networkMax the largest base case range sorted with a network (at
+     * most SortingNetwork.MAX_SIZE)
+     */
+    static void mergesortLongs(long[] array, int threshold, int networkMax) {
+        if (array == null || array.length <= 1) {
+            return;
+        }
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive, got: " + threshold);
+        }
+
+        long[] temp = new long[array.length];
+        mergeSortRecursive(array, temp, 0, array.length - 1, threshold,
+                Math.min(networkMax, SortingNetwork.MAX_SIZE));
     }
 
     /**
@@ -148,9 +658,11 @@ public final class ListSorter {
      * @param left the starting index of the range to sort (inclusive)
      * @param right the ending index of the range to sort (inclusive)
      * @param threshold the size below which insertion sort is used
+     * @param comparator the ordering to sort by
+     * @param stats the listener receiving statistics, or null for none
      */
-    private static <T extends Comparable<? super T>> void mergeSortRecursive(
-            List<T> list, List<T> temp, int left, int right, int threshold) {
+    private static <T> void mergeSortRecursive(List<T> list, List<T> temp, int left, int right,
+            int threshold, Comparator<? super T> comparator, SortStats stats) {
 
         int len = right - left + 1;
         if (len <= 1) {
@@ -158,22 +670,39 @@ public final class ListSorter {
         }
 
         if (len <= threshold) {
-            insertionSortRange(list, left, right);
+            if (stats == null) {
+                insertionSortRange(list, left, right, comparator);
+            } else {
+                long start = System.nanoTime();
+                insertionSortRange(list, left, right, comparator);
+                stats.recordCutoff(System.nanoTime() - start);
+            }
             return;
         }
 
+        if (stats != null) {
+            stats.enter();
+        }
+
         int mid = (left + right) >>> 1;
         //Sort left half
-        mergeSortRecursive(list, temp, left, mid, threshold);
+        mergeSortRecursive(list, temp, left, mid, threshold, comparator, stats);
 
         //Sort right half
-        mergeSortRecursive(list, temp, mid + 1, right, threshold);
+        mergeSortRecursive(list, temp, mid + 1, right, threshold, comparator, stats);
 
-        merge(list, temp, left, mid, right);
+        long start = stats == null ? 0 : System.nanoTime();
+
+        merge(list, temp, left, mid, right, comparator);
 
         for (int i = left; i <= right; i++) {
             list.set(i, temp.get(i));
         }
+
+        if (stats != null) {
+            stats.addPhase(SortStats.Phase.MERGE, System.nanoTime() - start);
+            stats.exit();
+        }
     }
 
     /**
@@ -190,16 +719,17 @@ public final class ListSorter {
      * @param left the starting index of the first sorted sublist
      * @param mid the ending index of the first sorted sublist
      * @param right the ending index of the second sorted sublist
+     * @param comparator the ordering to merge by
      */
-    private static <T extends Comparable<? super T>> void merge(
-            List<T> list, List<T> temp, int left, int mid, int right) {
+    private static <T> void merge(
+            List<T> list, List<T> temp, int left, int mid, int right, Comparator<? super T> comparator) {
 
         int i = left, j = mid + 1, k = left;
 
         while (i <= mid && j <= right) {
             T a = list.get(i);
             T b = list.get(j);
-            if (a.compareTo(b) <= 0) {
+            if (comparator.compare(a, b) <= 0) {
                 temp.set(k++, a);
                 i++;
             } else {
@@ -231,14 +761,15 @@ public final class ListSorter {
      * @param list the list to sort
      * @param left the starting index of the range to sort (inclusive)
      * @param right the ending index of the range to sort (inclusive)
+     * @param comparator the ordering to sort by
      */
-    private static <T extends Comparable<? super T>> void insertionSortRange(
-            List<T> list, int left, int right) {
+    private static <T> void insertionSortRange(
+            List<T> list, int left, int right, Comparator<? super T> comparator) {
 
         for (int i = left + 1; i <= right; i++) {
             T key = list.get(i);
             int j = i - 1;
-            while (j >= left && list.get(j).compareTo(key) > 0) {
+            while (j >= left && comparator.compare(list.get(j), key) > 0) {
                 list.set(j + 1, list.get(j));
                 j--;
             }
@@ -260,24 +791,67 @@ public final class ListSorter {
      * @param left the starting index of the range to sort (inclusive)
      * @param right the ending index of the range to sort (inclusive)
      * @param chooser the pivot selection strategy
+     * @param comparator the ordering to sort by
+     * @param stats the listener receiving statistics, or null for none
      */
-    private static <T extends Comparable<? super T>> void quickSortRecursive(
-            List<T> list, int left, int right, PivotChooser<T> chooser) {
+    private static <T> void quickSortRecursive(List<T> list, int left, int right,
+            PivotChooser<T> chooser, Comparator<? super T> comparator, SortStats stats) {
 
         if (left >= right) {
             return;
         }
 
+        if (stats != null) {
+            quickSortInstrumented(list, left, right, chooser, comparator, stats);
+            return;
+        }
+
         int pIdx = chooser.getPivotIndex(list, left, right);
         swap(list, pIdx, right);
 
         // Use 3-way partitioning to handle duplicates properly
-        int[] bounds = partition3Way(list, left, right);
+        int[] bounds = partition3Way(list, left, right, comparator);
         int lt = bounds[0];  // end of < region
         int gt = bounds[1];  // start of > region
 
-        quickSortRecursive(list, left, lt - 1, chooser);
-        quickSortRecursive(list, gt + 1, right, chooser);
+        quickSortRecursive(list, left, lt - 1, chooser, comparator, null);
+        quickSortRecursive(list, gt + 1, right, chooser, comparator, null);
+    }
+
+    /**
+     * Instrumented version of quickSortRecursive that records recursion
+     * depth, partition imbalance, and pivot selection and partition timings
+     * into the given SortStats.
+     *
+     * @param <T> the type of elements in the list
+     * @param list the list being sorted
+     * @param left the starting index of the range to sort (inclusive)
+     * @param right the ending index of the range to sort (inclusive)
+     * @param chooser the pivot selection strategy
+     * @param comparator the ordering to sort by
+     * @param stats the listener receiving statistics
+     */
+    private static <T> void quickSortInstrumented(List<T> list, int left, int right,
+            PivotChooser<T> chooser, Comparator<? super T> comparator, SortStats stats) {
+
+        stats.enter();
+
+        long start = System.nanoTime();
+        int pIdx = chooser.getPivotIndex(list, left, right);
+        long chosen = System.nanoTime();
+        stats.addPhase(SortStats.Phase.PIVOT_SELECTION, chosen - start);
+
+        swap(list, pIdx, right);
+        int[] bounds = partition3Way(list, left, right, comparator);
+        int lt = bounds[0];
+        int gt = bounds[1];
+        stats.addPhase(SortStats.Phase.PARTITION, System.nanoTime() - chosen);
+        stats.recordPartition(lt - left, right - gt, right - left + 1);
+
+        quickSortRecursive(list, left, lt - 1, chooser, comparator, stats);
+        quickSortRecursive(list, gt + 1, right, chooser, comparator, stats);
+
+        stats.exit();
     }
 
     /**
@@ -301,10 +875,11 @@ public final class ListSorter {
      * @param left the starting index of the range to partition (inclusive)
      * @param right the ending index of the range to partition (inclusive,
      * contains pivot)
+     * @param comparator the ordering to partition by
      * @return an array [lt, gt] indicating the boundaries of the three regions
      */
-    private static <T extends Comparable<? super T>> int[] partition3Way(
-            List<T> list, int left, int right) {
+    private static <T> int[] partition3Way(
+            List<T> list, int left, int right, Comparator<? super T> comparator) {
 
         T pivot = list.get(right);
         int lt = left;      // boundary of < region
@@ -312,7 +887,7 @@ public final class ListSorter {
         int gt = right;     // boundary of > region
 
         while (i < gt) {
-            int cmp = list.get(i).compareTo(pivot);
+            int cmp = comparator.compare(list.get(i), pivot);
             if (cmp < 0) {
                 swap(list, lt++, i++);
             } else if (cmp > 0) {
@@ -328,6 +903,216 @@ public final class ListSorter {
         return new int[]{lt, gt};
     }
 
+    /**
+     * Recursively implements the primitive int mergesort. Ranges at or below
+     * the threshold use a sorting network when they fit one, and insertion
+     * sort otherwise.
+     *
+     * @param array the array being sorted
+     * @param temp temporary array used for merging (same length as array)
+     * @param left the starting index of the range to sort (inclusive)
+     * @param right the ending index of the range to sort (inclusive)
+     * @param threshold the size below which the base case is used
+     * @param networkMax the largest range sorted with a network
+     */
+    private static void mergeSortRecursive(int[] array, int[] temp, int left, int right,
+            int threshold, int networkMax) {
+
+        int len = right - left + 1;
+        if (len <= 1) {
+            return;
+        }
+
+        if (len <= threshold) {
+            if (len <= networkMax) {
+                SortingNetwork.sort(array, left, right);
+            } else {
+                insertionSortRange(array, left, right);
+            }
+            return;
+        }
+
+        int mid = (left + right) >>> 1;
+        mergeSortRecursive(array, temp, left, mid, threshold, networkMax);
+        mergeSortRecursive(array, temp, mid + 1, right, threshold, networkMax);
+
+        int i = left, j = mid + 1, k = left;
+        while (i <= mid && j <= right) {
+            temp[k++] = array[i] <= array[j] ? array[i++] : array[j++];
+        }
+        while (i <= mid) {
+            temp[k++] = array[i++];
+        }
+        while (j <= right) {
+            temp[k++] = array[j++];
+        }
+        System.arraycopy(temp, left, array, left, len);
+    }
+
+    /**
+     * Recursively implements the primitive long mergesort. See
+     * {@link #mergeSortRecursive(int[], int[], int, int, int, int)}.
+     *
+     * @param array the array being sorted
+     * @param temp temporary array used for merging (same length as array)
+     * @param left the starting index of the range to sort (inclusive)
+     * @param right the ending index of the range to sort (inclusive)
+     * @param threshold the size below which the base case is used
+     * @param networkMax the largest range sorted with a network
+     */
+    private static void mergeSortRecursive(long[] array, long[] temp, int left, int right,
+            int threshold, int networkMax) {
+
+        int len = right - left + 1;
+        if (len <= 1) {
+            return;
+        }
+
+        if (len <= threshold) {
+            if (len <= networkMax) {
+                SortingNetwork.sort(array, left, right);
+            } else {
+                insertionSortRange(array, left, right);
+            }
+            return;
+        }
+
+        int mid = (left + right) >>> 1;
+        mergeSortRecursive(array, temp, left, mid, threshold, networkMax);
+        mergeSortRecursive(array, temp, mid + 1, right, threshold, networkMax);
+
+        int i = left, j = mid + 1, k = left;
+        while (i <= mid && j <= right) {
+            temp[k++] = array[i] <= array[j] ? array[i++] : array[j++];
+        }
+        while (i <= mid) {
+            temp[k++] = array[i++];
+        }
+        while (j <= right) {
+            temp[k++] = array[j++];
+        }
+        System.arraycopy(temp, left, array, left, len);
+    }
+
+    /**
+     * Sorts a range of an int array using insertion sort.
+     *
+     * @param array the array to sort
+     * @param left the starting index of the range to sort (inclusive)
+     * @param right the ending index of the range to sort (inclusive)
+     */
+    private static void insertionSortRange(int[] array, int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            int key = array[i];
+            int j = i - 1;
+            while (j >= left && array[j] > key) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = key;
+        }
+    }
+
+    /**
+     * Sorts a range of a long array using insertion sort.
+     *
+     * @param array the array to sort
+     * @param left the starting index of the range to sort (inclusive)
+     * @param right the ending index of the range to sort (inclusive)
+     */
+    private static void insertionSortRange(long[] array, int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            long key = array[i];
+            int j = i - 1;
+            while (j >= left && array[j] > key) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = key;
+        }
+    }
+
+    /**
+     * Iterative quickselect over list[left..right] that places the k-th
+     * smallest element at index k.
+     *
+     * Each round partitions the range around a pivot and keeps only the side
+     * that contains k. Pivots come from the chooser until it produces two
+     * partitions that leave more than three quarters of the range, after which
+     * median-of-medians pivots are used for the rest of the selection. A null
+     * chooser uses median-of-medians from the start.
+     *
+     * @param <T> the type of elements in the list
+     * @param list the list to select from
+     * @param left the starting index of the range (inclusive)
+     * @param right the ending index of the range (inclusive)
+     * @param k the absolute index to select, within [left, right]
+     * @param chooser the pivot selection strategy, or null for
+     * median-of-medians only
+     * @param comparator the ordering to select by
+     * @return k, once list[k] holds the k-th smallest element
+     */
+    private static <T> int selectIndex(List<T> list, int left, int right, int k,
+            PivotChooser<T> chooser, Comparator<? super T> comparator) {
+
+        int badPartitions = 0;
+        while (left < right) {
+            int len = right - left + 1;
+            int pIdx = (chooser != null && badPartitions < 2)
+                    ? chooser.getPivotIndex(list, left, right)
+                    : medianOfMedians(list, left, right, comparator);
+            swap(list, pIdx, right);
+
+            int[] bounds = partition3Way(list, left, right, comparator);
+            if (k < bounds[0]) {
+                right = bounds[0] - 1;
+            } else if (k > bounds[1]) {
+                left = bounds[1] + 1;
+            } else {
+                return k;
+            }
+
+            if (right - left + 1 > len / 4 * 3) {
+                badPartitions++;
+            }
+        }
+        return k;
+    }
+
+    /**
+     * Finds a pivot for list[left..right] using the median-of-medians
+     * algorithm. The range is split into groups of five, each group is
+     * insertion sorted, and the group medians are moved to the front of the
+     * range. The median of those medians is then found recursively with
+     * selectIndex.
+     *
+     * The resulting pivot is guaranteed to have at least ~30% of the range on
+     * each side, which is what makes the fallback selection linear.
+     *
+     * @param <T> the type of elements in the list
+     * @param list the list containing the range
+     * @param left the starting index of the range (inclusive)
+     * @param right the ending index of the range (inclusive)
+     * @param comparator the ordering to compare by
+     * @return the index of the chosen pivot
+     */
+    private static <T> int medianOfMedians(List<T> list, int left, int right, Comparator<? super T> comparator) {
+        if (right - left < 5) {
+            insertionSortRange(list, left, right, comparator);
+            return (left + right) >>> 1;
+        }
+
+        int medians = left;
+        for (int i = left; i <= right; i += 5) {
+            int end = Math.min(i + 4, right);
+            insertionSortRange(list, i, end, comparator);
+            swap(list, (i + end) >>> 1, medians++);
+        }
+
+        int mid = (left + medians - 1) >>> 1;
+        return selectIndex(list, left, medians - 1, mid, null, comparator);
+    }
+
     /**
      * Swaps two elements in the list.
      *
@@ -348,4 +1133,22 @@ public final class ListSorter {
         list.set(i, list.get(j));
         list.set(j, tmp);
     }
+
+    /**
+     * A sort key paired with the element it was derived from, used by
+     * sortByKey so each key is computed only once.
+     *
+     * @param <K> the type of the sort key
+     * @param <T> the type of the element
+     */
+    private static final class KeyedElement<K, T> {
+
+        final K key;
+        final T element;
+
+        KeyedElement(K key, T element) {
+            this.key = key;
+            this.element = element;
+        }
+    }
 }
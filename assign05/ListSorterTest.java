@@ -1,12 +1,16 @@
 package assign05;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
@@ -251,4 +255,284 @@ public class ListSorterTest {
         ListSorter.quicksort(sameElements2, pivotChooser);
         assertEquals(expected, sameElements2);
     }
+
+    // ===== COMPARATOR AND SORT-BY-KEY TESTS =====
+    @Test
+    void testMergesortWithComparator() {
+        List<Integer> expected = new ArrayList<>(Arrays.asList(10, 9, 8, 7, 6, 5, 4, 3, 2, 1));
+        ListSorter.mergesort(randomList, Comparator.reverseOrder(), 3);
+        assertEquals(expected, randomList);
+    }
+
+    @Test
+    void testMergesortWithComparatorIsStable() {
+        List<String> words = new ArrayList<>(Arrays.asList("bb", "a", "cc", "d", "ee", "f"));
+        ListSorter.mergesort(words, Comparator.comparingInt(String::length), 1);
+        assertEquals(Arrays.asList("a", "d", "f", "bb", "cc", "ee"), words);
+    }
+
+    @Test
+    void testQuicksortWithComparatorOnNonComparableType() {
+        List<int[]> pairs = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            pairs.add(new int[]{(i * 37) % 50, i});
+        }
+        ListSorter.quicksort(pairs, Comparator.comparingInt(p -> p[0]), new RandomPivotChooser<>());
+
+        for (int i = 1; i < pairs.size(); i++) {
+            assertTrue(pairs.get(i - 1)[0] <= pairs.get(i)[0]);
+        }
+    }
+
+    @Test
+    void testQuicksortWithComparatorAndMedianChooser() {
+        List<Integer> expected = new ArrayList<>(Arrays.asList(9, 6, 5, 5, 4, 3, 3, 2, 1, 1));
+        ListSorter.quicksort(duplicatesList, Comparator.reverseOrder(), pivotChooser);
+        assertEquals(expected, duplicatesList);
+    }
+
+    @Test
+    void testComparatorOverloadsRejectNullComparator() {
+        assertThrows(IllegalArgumentException.class, () -> ListSorter.mergesort(randomList, null, 5));
+        assertThrows(IllegalArgumentException.class, () -> ListSorter.quicksort(randomList, null, pivotChooser));
+    }
+
+    @Test
+    void testSortByKeyComputesEachKeyOnce() {
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            words.add("  Word" + ((i * 7919) % 1000) + "  ");
+        }
+        List<String> expected = new ArrayList<>(words);
+        expected.sort(Comparator.comparing(w -> w.trim().toLowerCase()));
+
+        AtomicInteger calls = new AtomicInteger();
+        ListSorter.sortByKey(words, w -> {
+            calls.incrementAndGet();
+            return w.trim().toLowerCase();
+        });
+
+        assertEquals(expected, words);
+        assertEquals(1000, calls.get());
+    }
+
+    @Test
+    void testSortByKeyIsStable() {
+        List<String> words = new ArrayList<>(Arrays.asList("pear", "fig", "kiwi", "plum", "lime", "yam"));
+        ListSorter.sortByKey(words, String::length);
+        assertEquals(Arrays.asList("fig", "yam", "pear", "kiwi", "plum", "lime"), words);
+    }
+
+    @Test
+    void testSortByKeyEdgeCases() {
+        assertDoesNotThrow(() -> ListSorter.sortByKey(null, String::length));
+        ListSorter.sortByKey(emptyList, i -> i);
+        assertTrue(emptyList.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> ListSorter.sortByKey(randomList, null));
+    }
+
+    // ===== SELECT AND PARTIAL SORT TESTS =====
+    @Test
+    void testSelectEveryRank() {
+        List<Integer> sorted = new ArrayList<>(duplicatesList);
+        Collections.sort(sorted);
+        for (int k = 0; k < sorted.size(); k++) {
+            List<Integer> copy = new ArrayList<>(duplicatesList);
+            assertEquals(sorted.get(k), ListSorter.select(copy, k, pivotChooser));
+            for (int i = 0; i < k; i++) {
+                assertTrue(copy.get(i) <= copy.get(k));
+            }
+            for (int i = k + 1; i < copy.size(); i++) {
+                assertTrue(copy.get(i) >= copy.get(k));
+            }
+        }
+    }
+
+    @Test
+    void testSelectMedianOfLargeRandomList() {
+        List<Integer> largeList = new ArrayList<>();
+        for (int i = 0; i < 10001; i++) {
+            largeList.add((int) (Math.random() * 1000));
+        }
+        List<Integer> sorted = new ArrayList<>(largeList);
+        Collections.sort(sorted);
+
+        assertEquals(sorted.get(5000), ListSorter.select(largeList, 5000, new RandomPivotChooser<>()));
+    }
+
+    @Test
+    void testSelectFallsBackOnAdversarialChooser() {
+        // First-element pivots on sorted input would be quadratic without the
+        // median-of-medians fallback
+        List<Integer> sorted = ListSorter.generateAscending(200_000);
+        assertEquals(Integer.valueOf(100_001), ListSorter.select(sorted, 100_000, new FirstPivotChooser<>()));
+        assertEquals(Integer.valueOf(200_000), ListSorter.select(sorted, 199_999, new FirstPivotChooser<>()));
+    }
+
+    @Test
+    void testSelectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> ListSorter.select(null, 0, pivotChooser));
+        assertThrows(IllegalArgumentException.class, () -> ListSorter.select(randomList, -1, pivotChooser));
+        assertThrows(IllegalArgumentException.class, () -> ListSorter.select(randomList, 10, pivotChooser));
+        assertThrows(IllegalArgumentException.class, () -> ListSorter.select(randomList, 0, null));
+    }
+
+    @Test
+    void testPartialSort() {
+        List<Integer> largeList = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            largeList.add((int) (Math.random() * 1000));
+        }
+        List<Integer> sorted = new ArrayList<>(largeList);
+        Collections.sort(sorted);
+
+        ListSorter.partialSort(largeList, 100);
+
+        assertEquals(sorted.subList(0, 100), largeList.subList(0, 100));
+        for (int i = 100; i < largeList.size(); i++) {
+            assertTrue(largeList.get(i) >= largeList.get(99));
+        }
+    }
+
+    @Test
+    void testPartialSortEdgeCases() {
+        ListSorter.partialSort(randomList, 10);
+        assertEquals(sortedList, randomList);
+
+        List<Integer> untouched = new ArrayList<>(reverseSortedList);
+        ListSorter.partialSort(untouched, 0);
+        assertEquals(reverseSortedList, untouched);
+
+        assertDoesNotThrow(() -> ListSorter.partialSort(null, 3));
+        assertThrows(IllegalArgumentException.class, () -> ListSorter.partialSort(randomList, 11));
+    }
+
+    // ===== LOW-CARDINALITY COUNTING SORT TESTS =====
+    /**
+     * Comparable record whose ordering and equality use only the key, so the
+     * payload shows whether equal elements kept their relative order.
+     */
+    private static final class Keyed implements Comparable<Keyed> {
+
+        final int key;
+        final int payload;
+
+        Keyed(int key, int payload) {
+            this.key = key;
+            this.payload = payload;
+        }
+
+        @Override
+        public int compareTo(Keyed other) {
+            return Integer.compare(key, other.key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Keyed && ((Keyed) o).key == key;
+        }
+
+        @Override
+        public int hashCode() {
+            return key;
+        }
+    }
+
+    @Test
+    void testCountingSort() {
+        List<Integer> expected = new ArrayList<>(Arrays.asList(1, 1, 2, 3, 3, 4, 5, 5, 6, 9));
+        ListSorter.countingSort(duplicatesList);
+        assertEquals(expected, duplicatesList);
+
+        assertDoesNotThrow(() -> ListSorter.countingSort(null));
+        ListSorter.countingSort(emptyList);
+        assertTrue(emptyList.isEmpty());
+    }
+
+    @Test
+    void testCountingSortIsStableAndKeepsElements() {
+        List<Keyed> list = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(new Keyed((i * 7) % 10, i));
+        }
+        List<Keyed> original = new ArrayList<>(list);
+
+        ListSorter.countingSort(list);
+
+        for (int i = 1; i < list.size(); i++) {
+            Keyed a = list.get(i - 1);
+            Keyed b = list.get(i);
+            assertTrue(a.key < b.key || (a.key == b.key && a.payload < b.payload));
+        }
+        for (Keyed k : list) {
+            assertTrue(original.get(k.payload) == k);
+        }
+    }
+
+    @Test
+    void testLowCardinalityDetection() {
+        List<Integer> fewDistinct = new ArrayList<>();
+        List<Integer> allDistinct = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            fewDistinct.add((i * 7919) % 500);
+            allDistinct.add((i * 7919) % 100_000);
+        }
+        assertTrue(ListSorter.sampleLooksLowCardinality(fewDistinct));
+        assertTrue(!ListSorter.sampleLooksLowCardinality(allDistinct));
+    }
+
+    @Test
+    void testLowCardinalityInputsSortCorrectly() {
+        List<Integer> fewDistinct = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            fewDistinct.add((int) (Math.random() * 300));
+        }
+        List<Integer> expected = new ArrayList<>(fewDistinct);
+        Collections.sort(expected);
+
+        List<Integer> countList = new ArrayList<>(fewDistinct);
+        List<Integer> mergeList = new ArrayList<>(fewDistinct);
+        List<Integer> quickList = new ArrayList<>(fewDistinct);
+        assertTrue(ListSorter.trySortLowCardinality(countList));
+        ListSorter.mergesort(mergeList, 10);
+        ListSorter.quicksort(quickList, pivotChooser);
+
+        assertEquals(expected, countList);
+        assertEquals(expected, mergeList);
+        assertEquals(expected, quickList);
+    }
+
+    @Test
+    void testTrySortLowCardinalityLeavesOtherListsAlone() {
+        List<Integer> allDistinct = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            allDistinct.add((i * 7919) % 50_000);
+        }
+        List<Integer> original = new ArrayList<>(allDistinct);
+        assertFalse(ListSorter.trySortLowCardinality(allDistinct));
+        assertEquals(original, allDistinct);
+
+        List<Integer> small = new ArrayList<>(Arrays.asList(3, 1, 3, 1, 2));
+        assertFalse(ListSorter.trySortLowCardinality(small));
+        assertEquals(Arrays.asList(3, 1, 3, 1, 2), small);
+        assertFalse(ListSorter.trySortLowCardinality(null));
+    }
+
+    @Test
+    void testLowCardinalitySortStableWhenCompareToDisagreesWithEquals() {
+        // 1.0 and 1.00 compare equal but are not equals, and hash differently
+        String[] values = {"1.0", "1.00", "2.0", "2.000", "0.5", "0.50"};
+        List<BigDecimal> list = new ArrayList<>();
+        for (int i = 0; i < 3 * ListSorter.LOW_CARDINALITY_MIN_SIZE; i++) {
+            list.add(new BigDecimal(values[(i * 7) % values.length]));
+        }
+        List<BigDecimal> expected = new ArrayList<>(list);
+        Collections.sort(expected); // stable
+
+        assertTrue(ListSorter.trySortLowCardinality(list));
+
+        for (int i = 0; i < list.size(); i++) {
+            assertTrue(expected.get(i) == list.get(i), "index " + i);
+        }
+    }
 }
@@ -109,6 +109,26 @@ public class OptimalConfigurationFinder {
         return problemSizes;
     }
 
+    /**
+     * Runs one instrumented mergesort so its statistics can be reported
+     * alongside the timings (kept out of the timed runs).
+     */
+    public static SortStats collectThresholdStats(int threshold, DataPattern pattern, int size) {
+        SortStats stats = new SortStats();
+        ListSorter.mergesort(generateTestData(size, pattern, new Random(42)), threshold, stats);
+        return stats;
+    }
+
+    /**
+     * Runs one instrumented quicksort so its statistics can be reported
+     * alongside the timings (kept out of the timed runs).
+     */
+    public static SortStats collectPivotStats(PivotChooser<Integer> chooser, DataPattern pattern, int size) {
+        SortStats stats = new SortStats();
+        ListSorter.quicksort(generateTestData(size, pattern, new Random(42)), chooser, stats);
+        return stats;
+    }
+
     /**
      * Calculate average time from median times list
      */
@@ -124,6 +144,7 @@ public class OptimalConfigurationFinder {
         DataPattern[] patterns = {DataPattern.RANDOM, DataPattern.SORTED};
         int iterationCount = 25; // Match ListSorterTimingExperiment
         int warmupIterations = 5; // Match ListSorterTimingExperiment
+        int largestSize = sizes.get(sizes.size() - 1); // Size used for the SortStats report
 
         System.out.println("Testing with sizes: " + sizes.size() + " sizes from " + sizes.get(0) + " to " + sizes.get(sizes.size() - 1));
         System.out.println("Data patterns: RANDOM, SORTED");
@@ -157,6 +178,8 @@ public class OptimalConfigurationFinder {
                 // Calculate average time and track best
                 double avgTime = calculateAverageTime(test.getMedianTimes());
                 System.out.printf("Average time: %.2f ms\n", avgTime);
+                System.out.println("Stats at N=" + largestSize + ": "
+                        + collectThresholdStats(threshold, pattern, largestSize));
 
                 if (pattern == DataPattern.RANDOM && avgTime < bestRandomThresholdTime) {
                     bestRandomThresholdTime = avgTime;
@@ -210,6 +233,8 @@ public class OptimalConfigurationFinder {
                 // Calculate average time and track best
                 double avgTime = calculateAverageTime(test.getMedianTimes());
                 System.out.printf("Average time: %.2f ms\n", avgTime);
+                System.out.println("Stats at N=" + largestSize + ": "
+                        + collectPivotStats(choosers.get(i), pattern, largestSize));
 
                 if (pattern == DataPattern.RANDOM && avgTime < bestRandomChooserTime) {
                     bestRandomChooserTime = avgTime;
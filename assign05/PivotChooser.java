@@ -4,15 +4,17 @@ import java.util.List;
 
 /**
  * Classes that implement this interface provide a method for selecting an
- * element in the given List to serve as the quicksort pivot. Elements in the
- * List must be Comparable.
+ * element in the given List to serve as the quicksort pivot. Implementations
+ * that compare elements (such as the median choosers) require Comparable
+ * elements; position-based ones (first, random) work with any element type,
+ * which lets them be used with Comparator-based quicksort.
  *
- * @param <E> the type of elements in the list, must extend Comparable
+ * @param <E> the type of elements in the list
  *
  * @author CS 2420 course staff, Alex Waldmann && Tyler Gagliardi
  * @version 1.0 | October 2nd, 2025 (Up-to-date)
  */
-public interface PivotChooser<E extends Comparable<? super E>> {
+public interface PivotChooser<E> {
 
     /**
      * Selects an element in the given List to serve as the quicksort pivot.
@@ -17,7 +17,7 @@ import java.util.Random;
  * @author Alex Waldmann && Tyler Gagliardi
  * @version 1.0 | October 2nd, 2025 (Up-to-date)
  */
-public class RandomPivotChooser<E extends Comparable<? super E>> implements PivotChooser<E> {
+public class RandomPivotChooser<E> implements PivotChooser<E> {
 
     /**
      * Random number generator for pivot selection
@@ -0,0 +1,250 @@
+package assign05;
+
+import java.util.AbstractList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * SortStats is an optional listener for ListSorter that records what a sort
+ * actually did, so configurations can be compared by more than wall-clock
+ * time alone.
+ *
+ * The following are recorded: - Comparisons made by the sort (pivot choosers
+ * compare on their own and are not counted) - Element moves (every write into
+ * the list or the merge buffer) - Maximum recursion depth - Insertion sort
+ * cutoff hits - Partition count and imbalance - Nanoseconds spent in each
+ * {@link Phase}
+ *
+ * Comparisons and moves are counted by decorating the comparator and the lists
+ * only when a SortStats is attached. The sorts called without one run the
+ * plain, uninstrumented code, so they pay nothing for this feature.
+ *
+ * A SortStats accumulates across sorts until {@link #reset()} is called.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version 1.0 | October 2nd, 2025 (Up-to-date)
+ */
+public class SortStats {
+
+    /**
+     * Phases of a sort that are timed separately
+     */
+    public enum Phase {
+        INSERTION_SORT, MERGE, PIVOT_SELECTION, PARTITION
+    }
+
+    private long comparisons;
+    private long moves;
+    private int depth;
+    private int maxDepth;
+    private long cutoffHits;
+    private long partitions;
+    private double imbalanceSum;
+    private double maxImbalance;
+    private final Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+
+    /**
+     * Constructs a new SortStats with all counters at zero.
+     */
+    public SortStats() {
+        reset();
+    }
+
+    /**
+     * Resets all counters to zero.
+     */
+    public void reset() {
+        comparisons = 0;
+        moves = 0;
+        depth = 0;
+        maxDepth = 0;
+        cutoffHits = 0;
+        partitions = 0;
+        imbalanceSum = 0;
+        maxImbalance = 0;
+        for (Phase phase : Phase.values()) {
+            phaseNanos.put(phase, 0L);
+        }
+    }
+
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    public long getMoves() {
+        return moves;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public long getCutoffHits() {
+        return cutoffHits;
+    }
+
+    public long getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * Returns the average partition imbalance, where a partition's imbalance
+     * is |less - greater| / size: 0 for a perfect split, 1 when everything
+     * lands on one side.
+     *
+     * @return the average imbalance, or 0 if no partitions were recorded
+     */
+    public double getAverageImbalance() {
+        return partitions == 0 ? 0 : imbalanceSum / partitions;
+    }
+
+    /**
+     * Returns the worst partition imbalance recorded.
+     *
+     * @return the maximum imbalance, or 0 if no partitions were recorded
+     */
+    public double getMaxImbalance() {
+        return maxImbalance;
+    }
+
+    /**
+     * Returns the nanoseconds spent in a phase. Phases are timed exclusively,
+     * so nested recursive calls are not double counted.
+     *
+     * @param phase the phase to query
+     * @return total nanoseconds spent in the phase
+     */
+    public long getPhaseNanos(Phase phase) {
+        return phaseNanos.get(phase);
+    }
+
+    /**
+     * Returns a single-line summary of all recorded statistics, suitable for
+     * printing alongside experiment timings.
+     *
+     * @return a summary string
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("comparisons=%d moves=%d maxDepth=%d cutoffHits=%d partitions=%d "
+                + "avgImbalance=%.3f maxImbalance=%.3f", comparisons, moves, maxDepth, cutoffHits,
+                partitions, getAverageImbalance(), maxImbalance));
+        for (Phase phase : Phase.values()) {
+            sb.append(' ').append(phase).append("_ns=").append(phaseNanos.get(phase));
+        }
+        return sb.toString();
+    }
+
+    // ===== RECORDING HOOKS (called by ListSorter) =====
+    /**
+     * Wraps a comparator so that every comparison is counted.
+     *
+     * @param <T> the type of elements compared
+     * @param comparator the comparator to wrap
+     * @return a counting comparator
+     */
+    <T> Comparator<T> counting(Comparator<? super T> comparator) {
+        return (a, b) -> {
+            comparisons++;
+            return comparator.compare(a, b);
+        };
+    }
+
+    /**
+     * Wraps a list so that every write is counted as a move.
+     *
+     * @param <T> the type of elements in the list
+     * @param list the list to wrap
+     * @return a counting view of the list
+     */
+    <T> List<T> counting(List<T> list) {
+        return new MoveCountingList<>(list);
+    }
+
+    /**
+     * Records entry into a recursive call.
+     */
+    void enter() {
+        depth++;
+        if (depth > maxDepth) {
+            maxDepth = depth;
+        }
+    }
+
+    /**
+     * Records exit from a recursive call.
+     */
+    void exit() {
+        depth--;
+    }
+
+    /**
+     * Records that a range was handed to insertion sort.
+     *
+     * @param nanos time spent sorting the range
+     */
+    void recordCutoff(long nanos) {
+        cutoffHits++;
+        addPhase(Phase.INSERTION_SORT, nanos);
+    }
+
+    /**
+     * Records a 3-way partition.
+     *
+     * @param less number of elements placed before the pivot region
+     * @param greater number of elements placed after the pivot region
+     * @param size number of elements partitioned
+     */
+    void recordPartition(int less, int greater, int size) {
+        double imbalance = (double) Math.abs(less - greater) / size;
+        partitions++;
+        imbalanceSum += imbalance;
+        if (imbalance > maxImbalance) {
+            maxImbalance = imbalance;
+        }
+    }
+
+    /**
+     * Adds time to a phase.
+     *
+     * @param phase the phase
+     * @param nanos the nanoseconds to add
+     */
+    void addPhase(Phase phase, long nanos) {
+        phaseNanos.merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * List view that delegates to another list and counts every set call.
+     *
+     * @param <T> the type of elements in the list
+     */
+    private final class MoveCountingList<T> extends AbstractList<T> implements RandomAccess {
+
+        private final List<T> delegate;
+
+        MoveCountingList(List<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public T get(int index) {
+            return delegate.get(index);
+        }
+
+        @Override
+        public T set(int index, T element) {
+            moves++;
+            return delegate.set(index, element);
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+    }
+}
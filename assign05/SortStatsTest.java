@@ -0,0 +1,100 @@
+package assign05;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for SortStats instrumentation of ListSorter.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version 1.0 | October 2nd, 2025 (Up-to-date)
+ */
+public class SortStatsTest {
+
+    private List<Integer> randomList;
+    private List<Integer> expected;
+
+    @BeforeEach
+    void setUp() {
+        Random rng = new Random(5);
+        randomList = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            randomList.add(rng.nextInt(2000));
+        }
+        expected = new ArrayList<>(randomList);
+        Collections.sort(expected);
+    }
+
+    @Test
+    void testMergesortStats() {
+        SortStats stats = new SortStats();
+        AtomicLong calls = new AtomicLong();
+        Comparator<Integer> counted = (a, b) -> {
+            calls.incrementAndGet();
+            return a.compareTo(b);
+        };
+
+        ListSorter.mergesort(randomList, counted, 8, stats);
+
+        assertEquals(expected, randomList);
+        assertEquals(calls.get(), stats.getComparisons());
+        assertTrue(stats.getMoves() > 0);
+        // 1000 elements split in halves down to ranges of 7 or 8 elements
+        assertEquals(128, stats.getCutoffHits());
+        assertEquals(7, stats.getMaxDepth());
+        assertEquals(0, stats.getPartitions());
+        assertTrue(stats.getPhaseNanos(SortStats.Phase.MERGE) > 0);
+    }
+
+    @Test
+    void testQuicksortStats() {
+        SortStats stats = new SortStats();
+        ListSorter.quicksort(randomList, new MedianOfThreePivotChooser<>(), stats);
+
+        assertEquals(expected, randomList);
+        assertTrue(stats.getComparisons() >= 999);
+        assertTrue(stats.getPartitions() > 0);
+        assertTrue(stats.getMaxDepth() >= 10);
+        assertTrue(stats.getAverageImbalance() >= 0 && stats.getAverageImbalance() <= 1);
+        assertTrue(stats.getMaxImbalance() >= stats.getAverageImbalance());
+        assertEquals(0, stats.getCutoffHits());
+    }
+
+    @Test
+    void testFirstPivotOnSortedInputIsImbalanced() {
+        SortStats stats = new SortStats();
+        ListSorter.quicksort(ListSorter.generateAscending(200), new FirstPivotChooser<>(), stats);
+
+        // The first partition puts all 199 other elements on one side
+        assertEquals(199.0 / 200, stats.getMaxImbalance(), 1e-9);
+    }
+
+    @Test
+    void testStatsAccumulateAndReset() {
+        SortStats stats = new SortStats();
+        ListSorter.mergesort(new ArrayList<>(randomList), 8, stats);
+        long first = stats.getComparisons();
+        ListSorter.mergesort(new ArrayList<>(randomList), 8, stats);
+        assertEquals(2 * first, stats.getComparisons());
+
+        stats.reset();
+        assertEquals(0, stats.getComparisons());
+        assertEquals(0, stats.getMoves());
+        assertEquals(0, stats.getPhaseNanos(SortStats.Phase.MERGE));
+    }
+
+    @Test
+    void testNullStatsSortsNormally() {
+        ListSorter.mergesort(randomList, 8, null);
+        assertEquals(expected, randomList);
+    }
+}
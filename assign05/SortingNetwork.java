@@ -0,0 +1,132 @@
+package assign05;
+
+/**
+ * SortingNetwork provides branchless sorting of small primitive ranges using
+ * precomputed comparator networks.
+ *
+ * A sorting network is a fixed sequence of compare-exchange operations that
+ * sorts any input of a given size. Because the sequence does not depend on
+ * the data, every compare-exchange can be written with Math.min/Math.max,
+ * which the JIT compiles to conditional moves instead of data-dependent
+ * branches. On random data this avoids the branch mispredictions that
+ * dominate insertion sort on small ranges.
+ *
+ * Networks for sizes 2 to MAX_SIZE are generated once with Batcher's odd-even
+ * mergesort construction for the next power of two, dropping comparators that
+ * touch positions past the range size (those positions act as +infinity and
+ * would never exchange).
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version 1.0 | October 2nd, 2025 (Up-to-date)
+ */
+final class SortingNetwork {
+
+    /**
+     * Largest range size sorted with a network
+     */
+    static final int MAX_SIZE = 16;
+
+    /**
+     * NETWORKS[n] holds the comparator pairs for size n, flattened as
+     * [i0, j0, i1, j1, ...] with i < j
+     */
+    private static final int[][] NETWORKS = new int[MAX_SIZE + 1][];
+
+    static {
+        for (int n = 0; n <= MAX_SIZE; n++) {
+            NETWORKS[n] = build(n);
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private SortingNetwork() {
+    }
+
+    /**
+     * Sorts array[left..right] with the network for its size.
+     *
+     * @param array the array containing the range
+     * @param left the starting index of the range (inclusive)
+     * @param right the ending index of the range (inclusive, right - left + 1
+     * <= MAX_SIZE)
+     */
+    static void sort(int[] array, int left, int right) {
+        int[] network = NETWORKS[right - left + 1];
+        for (int p = 0; p < network.length; p += 2) {
+            int i = left + network[p];
+            int j = left + network[p + 1];
+            int a = array[i];
+            int b = array[j];
+            array[i] = Math.min(a, b);
+            array[j] = Math.max(a, b);
+        }
+    }
+
+    /**
+     * Sorts array[left..right] with the network for its size.
+     *
+     * @param array the array containing the range
+     * @param left the starting index of the range (inclusive)
+     * @param right the ending index of the range (inclusive, right - left + 1
+     * <= MAX_SIZE)
+     */
+    static void sort(long[] array, int left, int right) {
+        int[] network = NETWORKS[right - left + 1];
+        for (int p = 0; p < network.length; p += 2) {
+            int i = left + network[p];
+            int j = left + network[p + 1];
+            long a = array[i];
+            long b = array[j];
+            array[i] = Math.min(a, b);
+            array[j] = Math.max(a, b);
+        }
+    }
+
+    /**
+     * Returns the number of compare-exchange operations in the network for the
+     * given size.
+     *
+     * @param n the range size (0 <= n <= MAX_SIZE)
+     * @return the number of comparators
+     */
+    static int comparators(int n) {
+        return NETWORKS[n].length / 2;
+    }
+
+    /**
+     * Builds the flattened comparator list for size n using Batcher's odd-even
+     * mergesort over the next power of two.
+     *
+     * @param n the range size
+     * @return the flattened comparator pairs
+     */
+    private static int[] build(int n) {
+        int size = 1;
+        while (size < n) {
+            size <<= 1;
+        }
+
+        int[] pairs = new int[size * size];
+        int count = 0;
+        for (int p = 1; p < size; p <<= 1) {
+            for (int k = p; k >= 1; k >>= 1) {
+                for (int j = k % p; j + k < size; j += 2 * k) {
+                    for (int i = 0; i < Math.min(k, size - j - k); i++) {
+                        int a = i + j;
+                        int b = i + j + k;
+                        if (a / (2 * p) == b / (2 * p) && b < n) {
+                            pairs[count++] = a;
+                            pairs[count++] = b;
+                        }
+                    }
+                }
+            }
+        }
+
+        int[] network = new int[count];
+        System.arraycopy(pairs, 0, network, 0, count);
+        return network;
+    }
+}
@@ -0,0 +1,109 @@
+package assign05;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for SortingNetwork and the primitive mergesort that uses it.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version 1.0 | October 2nd, 2025 (Up-to-date)
+ */
+public class SortingNetworkTest {
+
+    @Test
+    void testZeroOnePrinciple() {
+        // A comparator network sorts every input iff it sorts every 0/1 input
+        for (int n = 0; n <= SortingNetwork.MAX_SIZE; n++) {
+            for (int bits = 0; bits < (1 << n); bits++) {
+                int[] array = new int[n];
+                for (int i = 0; i < n; i++) {
+                    array[i] = (bits >>> i) & 1;
+                }
+                SortingNetwork.sort(array, 0, n - 1);
+                assertEquals(n - Integer.bitCount(bits), countLeadingZeros(array), "n=" + n + " bits=" + bits);
+            }
+        }
+    }
+
+    private int countLeadingZeros(int[] array) {
+        int i = 0;
+        while (i < array.length && array[i] == 0) {
+            i++;
+        }
+        for (int j = i; j < array.length; j++) {
+            if (array[j] != 1) {
+                return -1;
+            }
+        }
+        return i;
+    }
+
+    @Test
+    void testNetworkSizes() {
+        // Batcher's construction for 16 inputs uses 63 comparators
+        assertEquals(63, SortingNetwork.comparators(16));
+        assertEquals(0, SortingNetwork.comparators(1));
+        assertEquals(1, SortingNetwork.comparators(2));
+    }
+
+    @Test
+    void testNetworkSortsSubrangeOfLongs() {
+        long[] array = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        SortingNetwork.sort(array, 2, 7);
+        assertArrayEquals(new long[]{9, 8, 2, 3, 4, 5, 6, 7, 1, 0}, array);
+    }
+
+    @Test
+    void testPrimitiveMergesortAllThresholds() {
+        Random rng = new Random(3);
+        for (int threshold = 1; threshold <= 64; threshold++) {
+            int[] ints = rng.ints(1000, -500, 500).toArray();
+            long[] longs = rng.longs(1000).toArray();
+            int[] expectedInts = ints.clone();
+            long[] expectedLongs = longs.clone();
+            Arrays.sort(expectedInts);
+            Arrays.sort(expectedLongs);
+
+            ListSorter.mergesortInts(ints, threshold);
+            ListSorter.mergesortLongs(longs, threshold);
+
+            assertArrayEquals(expectedInts, ints);
+            assertArrayEquals(expectedLongs, longs);
+        }
+    }
+
+    @Test
+    void testPrimitiveMergesortWithoutNetwork() {
+        int[] array = new Random(4).ints(500).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        ListSorter.mergesortInts(array, 16, 0);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testPrimitiveMergesortEdgeCases() {
+        ListSorter.mergesortInts(null, 5);
+        int[] empty = new int[0];
+        ListSorter.mergesortInts(empty, 5);
+        assertEquals(0, empty.length);
+
+        long[] extremes = {Long.MAX_VALUE, Long.MIN_VALUE, 0, -1, 1};
+        ListSorter.mergesortLongs(extremes, 8);
+        assertArrayEquals(new long[]{Long.MIN_VALUE, -1, 0, 1, Long.MAX_VALUE}, extremes);
+
+        boolean threw = false;
+        try {
+            ListSorter.mergesortInts(new int[]{2, 1}, 0);
+        } catch (IllegalArgumentException e) {
+            threw = true;
+        }
+        assertTrue(threw);
+    }
+}
@@ -0,0 +1,82 @@
+package assign05;
+
+import java.util.List;
+import java.util.Random;
+
+import timing.TimingExperiment;
+
+/**
+ * Timing experiments comparing the sorting-network base case of the primitive
+ * mergesort against a plain insertion sort base case, at thresholds from 4 to
+ * 64 on random int data.
+ *
+ * Ranges above SortingNetwork.MAX_SIZE always use insertion sort, so for
+ * thresholds above 16 only the smaller base case ranges change.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version 1.0 | October 2nd, 2025 (Up-to-date)
+ */
+public class SortingNetworkTimingExperiment {
+
+    /**
+     * Timing experiment for the primitive int mergesort with a given base case
+     */
+    public static class PrimitiveMergesortExperiment extends TimingExperiment {
+
+        private final Random rng = new Random(42);
+        private int[] testArray;
+        private final int threshold;
+        private final int networkMax;
+
+        public PrimitiveMergesortExperiment(String problemSizeName, List<Integer> problemSizes,
+                int iterationCount, int threshold, boolean useNetwork) {
+            super(problemSizeName, problemSizes, iterationCount);
+            this.threshold = threshold;
+            this.networkMax = useNetwork ? SortingNetwork.MAX_SIZE : 0;
+        }
+
+        @Override
+        protected void setupExperiment(int problemSize) {
+            testArray = new int[problemSize];
+            for (int i = 0; i < problemSize; i++) {
+                testArray[i] = rng.nextInt();
+            }
+        }
+
+        @Override
+        protected void runComputation() {
+            ListSorter.mergesortInts(testArray, threshold, networkMax);
+        }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("=== Sorting Network Base Case Experiments ===\n");
+
+        List<Integer> problemSizes = ListSorterTimingExperiment.buildProblemSizes(100_000, 100_000, 10);
+        int iterationCount = 25;
+        int warmupIterations = 5;
+        int[] thresholds = {4, 8, 12, 16, 24, 32, 48, 64};
+
+        for (int threshold : thresholds) {
+            System.out.println("Threshold " + threshold + ":");
+
+            TimingExperiment network = new PrimitiveMergesortExperiment(
+                    "Network (threshold=" + threshold + ")", problemSizes, iterationCount, threshold, true);
+            network.warmup(warmupIterations);
+            network.run();
+            network.print();
+
+            System.out.println();
+
+            TimingExperiment insertion = new PrimitiveMergesortExperiment(
+                    "Insertion (threshold=" + threshold + ")", problemSizes, iterationCount, threshold, false);
+            insertion.warmup(warmupIterations);
+            insertion.run();
+            insertion.print();
+
+            System.out.println("\n" + "=".repeat(50) + "\n");
+        }
+
+        System.out.println("=== Timing Experiments Complete ===");
+    }
+}
@@ -0,0 +1,202 @@
+package assign06;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A generic last-in-first-out (LIFO) stack backed by a resizable array.
+ *
+ * Unlike LinkedListStack, a push does not allocate a node; elements are
+ * stored contiguously and the array is only reallocated when it fills up.
+ * Capacity grows by a configurable factor, giving amortized O(1) push.
+ *
+ * The array shrinks by half once the stack drops to a quarter of its capacity.
+ * The gap between the grow point (full) and the shrink point (quarter full)
+ * means a stack oscillating around a boundary does not resize on every
+ * operation. The array never shrinks below its initial capacity.
+ *
+ * Popped slots are set to null so the stack does not keep removed elements
+ * reachable.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ *
+ * @param <E> element type stored in the stack
+ */
+public class ArrayStack<E> implements Stack<E> {
+
+    /** Initial capacity used by the no-argument constructor. */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    /** Growth factor used when none is given. */
+    public static final double DEFAULT_GROWTH_FACTOR = 2.0;
+
+    /** Backing storage; elements[size - 1] is the stack top. */
+    private Object[] elements;
+
+    /** Number of elements in the stack. */
+    private int size;
+
+    /** Capacity the stack was created with; the array never shrinks below it. */
+    private final int minCapacity;
+
+    /** Factor the capacity is multiplied by when the array is full. */
+    private final double growthFactor;
+
+    /**
+     * Constructs an empty stack with the default capacity and growth factor.
+     */
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY, DEFAULT_GROWTH_FACTOR);
+    }
+
+    /**
+     * Constructs an empty stack with the given initial capacity and the
+     * default growth factor.
+     *
+     * @param initialCapacity initial array length (must be positive)
+     * @throws IllegalArgumentException if initialCapacity is not positive
+     */
+    public ArrayStack(int initialCapacity) {
+        this(initialCapacity, DEFAULT_GROWTH_FACTOR);
+    }
+
+    /**
+     * Constructs an empty stack with the given initial capacity and growth
+     * factor.
+     *
+     * @param initialCapacity initial array length (must be positive)
+     * @param growthFactor factor the capacity is multiplied by when full (must
+     * be greater than 1)
+     * @throws IllegalArgumentException if either parameter is out of range
+     */
+    public ArrayStack(int initialCapacity, double growthFactor) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive, got: " + initialCapacity);
+        }
+        if (!(growthFactor > 1.0)) {
+            throw new IllegalArgumentException("Growth factor must be greater than 1, got: " + growthFactor);
+        }
+        this.elements = new Object[initialCapacity];
+        this.minCapacity = initialCapacity;
+        this.growthFactor = growthFactor;
+        this.size = 0;
+    }
+
+    /**
+     * Removes all elements from the stack and releases any grown capacity.
+     */
+    @Override
+    public void clear() {
+        if (elements.length > minCapacity) {
+            elements = new Object[minCapacity];
+        } else {
+            Arrays.fill(elements, 0, size, null);
+        }
+        size = 0;
+    }
+
+    /**
+     * Reports whether the stack contains no elements.
+     *
+     * @return true if empty; false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns, but does not remove, the element at the top of the stack.
+     *
+     * @return the top element
+     * @throws NoSuchElementException if the stack is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() throws NoSuchElementException {
+        if (size == 0) {
+            throw new NoSuchElementException("Stack is empty");
+        }
+        return (E) elements[size - 1];
+    }
+
+    /**
+     * Returns and removes the element at the top of the stack.
+     *
+     * @return the removed top element
+     * @throws NoSuchElementException if the stack is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E pop() throws NoSuchElementException {
+        if (size == 0) {
+            throw new NoSuchElementException("Stack is empty");
+        }
+        E top = (E) elements[--size];
+        elements[size] = null;
+        if (size <= elements.length / 4 && elements.length > minCapacity) {
+            resize(Math.max(minCapacity, elements.length / 2));
+        }
+        return top;
+    }
+
+    /**
+     * Pushes an element onto the top of the stack.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void push(E element) {
+        if (size == elements.length) {
+            resize(grownCapacity());
+        }
+        elements[size++] = element;
+    }
+
+    /**
+     * Returns the number of elements in the stack.
+     *
+     * @return current size
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the length of the backing array (for testing).
+     *
+     * @return current capacity
+     */
+    int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Computes the next capacity, growing by at least one slot so small
+     * factors still make progress.
+     *
+     * @return the new capacity
+     */
+    private int grownCapacity() {
+        long grown = (long) (elements.length * growthFactor);
+        grown = Math.max(grown, elements.length + 1L);
+        if (grown > Integer.MAX_VALUE - 8) {
+            if (elements.length >= Integer.MAX_VALUE - 8) {
+                throw new OutOfMemoryError("Stack capacity exceeded");
+            }
+            grown = Integer.MAX_VALUE - 8;
+        }
+        return (int) grown;
+    }
+
+    /**
+     * Copies the elements into a new array of the given length.
+     *
+     * @param capacity new array length (at least size)
+     */
+    private void resize(int capacity) {
+        elements = Arrays.copyOf(elements, capacity);
+    }
+}
@@ -0,0 +1,637 @@
+package assign06;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import assign06.PageTable.Page;
+
+/**
+ * Hosts one WebBrowser per user session with bounded memory.
+ *
+ * Sessions are sharded across lock stripes by session id. A stripe lock is
+ * only held to look a session up, to update the stripe's accounting, and to
+ * pick and unlink eviction victims; visit, back, forward and history run under
+ * the session's own lock, and no file is read or written under a stripe lock,
+ * so sessions never wait on each other's navigation or on disk.
+ *
+ * Memory is bounded in three ways:
+ * - Each session's back and forward stacks hold at most maxHistoryDepth pages
+ * each and drop the oldest beyond that, so history returns at most
+ * maxHistoryDepth + 1 URLs: the current page and those behind it.
+ * - The total number of pages held by resident sessions is kept under a
+ * budget. Each stripe owns an equal share and, when over it, evicts its least
+ * recently used sessions. The most recently used session in a stripe is never
+ * evicted, and a session in use by another thread is skipped.
+ * - Sessions intern their pages in one PageTable, which holds pages weakly, so
+ * it only keeps the pages of sessions that are still in memory.
+ *
+ * Eviction captures an immutable snapshot of the session under the locks and
+ * writes it to a spill file of its own once they are released: the session's
+ * distinct URLs once each, then its stacks as indexes into that list. While
+ * the file is being written the snapshot stays in the stripe's table of
+ * spilling sessions, and a session accessed in that window is restored from
+ * the snapshot and the file discarded. Otherwise an evicted session is
+ * restored lazily from its file, under its own lock, the next time it is
+ * accessed. If a spill file cannot be written the session stays restorable
+ * from its snapshot, outside the page budget, until it is next accessed.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ */
+public class BrowserSessionManager {
+
+    /** Format tag written at the start of every spill file. */
+    private static final int SPILL_MAGIC = 0x57425332; // "WBS2"
+
+    /**
+     * A session and the lock that guards its browser.
+     */
+    private static final class Session {
+        final String id;
+        final ReentrantLock lock = new ReentrantLock();
+
+        /** Browser, or null until restored or first created. */
+        WebBrowser browser;
+
+        /** Snapshot to restore from, if evicted and reclaimed before it reached disk. */
+        Spill pending;
+
+        /** File to restore from, if evicted to disk. */
+        Path spillFile;
+
+        /** Pages held by the session as last accounted in the stripe. */
+        int entries;
+
+        /** Set once evicted; holders of this object must look the id up again. */
+        boolean evicted;
+
+        Session(String id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * An evicted session's state, captured under the locks so that it can be
+     * written out after they are released.
+     */
+    private static final class Spill {
+        final String id;
+        final Page current;
+        final ConsList<Page> back;
+        final ConsList<Page> forward;
+        final int entries;
+
+        Spill(String id, WebBrowser browser, int entries) {
+            this.id = id;
+            this.current = browser.currentPage();
+            this.back = browser.backSnapshot();
+            this.forward = browser.forwardSnapshot();
+            this.entries = entries;
+        }
+    }
+
+    /**
+     * One shard of the session table.
+     */
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+
+        /** Resident sessions in least- to most-recently-used order. */
+        final LinkedHashMap<String, Session> resident = new LinkedHashMap<>(16, 0.75f, true);
+
+        /** Evicted sessions whose spill files are still being written. */
+        final Map<String, Spill> spilling = new HashMap<>();
+
+        /** Spill file of each session currently on disk. */
+        final Map<String, Path> spilled = new HashMap<>();
+
+        /** Pages held by resident sessions. */
+        long entries;
+    }
+
+    private final Stripe[] stripes;
+    private final int maxHistoryDepth;
+    private final long stripeBudget;
+    private final Path spillDir;
+    private final PageTable pages = new PageTable();
+
+    /** Sequence number that keeps every spill file name unique. */
+    private final AtomicLong spillCount = new AtomicLong();
+
+    /**
+     * Constructs a session manager.
+     *
+     * @param stripeCount number of lock stripes (must be positive)
+     * @param maxHistoryDepth maximum pages kept on each of a session's back
+     * and forward stacks (must be positive)
+     * @param maxResidentPages page budget across all resident sessions (must
+     * be at least stripeCount)
+     * @param spillDir existing directory for evicted sessions (must not be
+     * null)
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    public BrowserSessionManager(int stripeCount, int maxHistoryDepth, long maxResidentPages, Path spillDir) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive, got: " + stripeCount);
+        }
+        if (maxHistoryDepth <= 0) {
+            throw new IllegalArgumentException("Max history depth must be positive, got: " + maxHistoryDepth);
+        }
+        if (maxResidentPages < stripeCount) {
+            throw new IllegalArgumentException("Page budget must be at least the stripe count, got: "
+                    + maxResidentPages);
+        }
+        if (spillDir == null || !Files.isDirectory(spillDir)) {
+            throw new IllegalArgumentException("Spill directory must be an existing directory");
+        }
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.maxHistoryDepth = maxHistoryDepth;
+        this.stripeBudget = maxResidentPages / stripeCount;
+        this.spillDir = spillDir;
+    }
+
+    /**
+     * Visits a page in a session, creating the session if needed.
+     *
+     * @param sessionId the session id (must not be null)
+     * @param webpage the URL to visit
+     */
+    public void visit(String sessionId, URL webpage) {
+        apply(sessionId, browser -> {
+            browser.visit(webpage);
+            return null;
+        });
+    }
+
+    /**
+     * Goes back in a session.
+     *
+     * @param sessionId the session id (must not be null)
+     * @return the URL that is now current
+     * @throws java.util.NoSuchElementException if there is no previous page
+     */
+    public URL back(String sessionId) {
+        return apply(sessionId, WebBrowser::back);
+    }
+
+    /**
+     * Goes forward in a session.
+     *
+     * @param sessionId the session id (must not be null)
+     * @return the URL that is now current
+     * @throws java.util.NoSuchElementException if there is no next page
+     */
+    public URL forward(String sessionId) {
+        return apply(sessionId, WebBrowser::forward);
+    }
+
+    /**
+     * Returns a session's history, most recent first.
+     *
+     * @param sessionId the session id (must not be null)
+     * @return the session's history
+     */
+    public SinglyLinkedList<URL> history(String sessionId) {
+        return apply(sessionId, WebBrowser::history);
+    }
+
+    /**
+     * Discards a session, resident or spilled.
+     *
+     * @param sessionId the session id (must not be null)
+     */
+    public void remove(String sessionId) {
+        requireId(sessionId);
+        Stripe stripe = stripeFor(sessionId);
+        while (true) {
+            Session session;
+            stripe.lock.lock();
+            try {
+                session = stripe.resident.get(sessionId);
+            } finally {
+                stripe.lock.unlock();
+            }
+
+            // Same lock order as apply: session first, then stripe
+            if (session != null) {
+                session.lock.lock();
+            }
+            try {
+                if (session != null && session.evicted) {
+                    continue;
+                }
+                Path file;
+                stripe.lock.lock();
+                try {
+                    if (stripe.resident.get(sessionId) != session) {
+                        continue; // created or evicted meanwhile; start over
+                    }
+                    if (session != null) {
+                        stripe.resident.remove(sessionId);
+                        stripe.entries -= session.entries;
+                        session.evicted = true;
+                        session.browser = null;
+                        session.pending = null;
+                    }
+                    // A spill still being written is deleted by its writer
+                    stripe.spilling.remove(sessionId);
+                    file = session != null ? session.spillFile : stripe.spilled.remove(sessionId);
+                } finally {
+                    stripe.lock.unlock();
+                }
+                if (file != null) {
+                    deleteSpill(file);
+                }
+                return;
+            } finally {
+                if (session != null) {
+                    session.lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of sessions currently held in memory
+     */
+    public int residentSessions() {
+        int n = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                n += stripe.resident.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return n;
+    }
+
+    /**
+     * @return the number of sessions currently evicted from memory
+     */
+    public int spilledSessions() {
+        int n = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                n += stripe.spilled.size() + stripe.spilling.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return n;
+    }
+
+    /**
+     * @return the number of pages held by resident sessions
+     */
+    public long residentPages() {
+        long n = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                n += stripe.entries;
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Runs an operation on a session's browser under the session lock,
+     * restoring or creating the session first, then updates the stripe's
+     * accounting and enforces its page budget.
+     */
+    private <R> R apply(String sessionId, Function<WebBrowser, R> op) {
+        requireId(sessionId);
+        Stripe stripe = stripeFor(sessionId);
+        while (true) {
+            Session session = acquire(stripe, sessionId);
+            R result;
+            session.lock.lock();
+            try {
+                if (session.evicted) {
+                    continue; // evicted between lookup and lock; look it up again
+                }
+                if (session.browser == null) {
+                    session.browser = restore(session);
+                }
+                try {
+                    result = op.apply(session.browser);
+                } finally {
+                    int entries = entriesOf(session.browser);
+                    stripe.lock.lock();
+                    try {
+                        stripe.entries += entries - session.entries;
+                    } finally {
+                        stripe.lock.unlock();
+                    }
+                    session.entries = entries;
+                }
+            } finally {
+                session.lock.unlock();
+            }
+            evictIfNeeded(stripe);
+            return result;
+        }
+    }
+
+    /**
+     * Returns the resident session for an id, registering a placeholder if
+     * the session is new or evicted, and marks it most recently used. An
+     * evicted session is only claimed here; it is restored under the session
+     * lock.
+     */
+    private Session acquire(Stripe stripe, String sessionId) {
+        stripe.lock.lock();
+        try {
+            Session session = stripe.resident.get(sessionId);
+            if (session == null) {
+                session = new Session(sessionId);
+                stripe.resident.put(sessionId, session);
+                session.pending = stripe.spilling.remove(sessionId);
+                if (session.pending != null) {
+                    // Its file is still being written; the writer discards it
+                    session.entries = session.pending.entries;
+                    stripe.entries += session.entries;
+                } else {
+                    session.spillFile = stripe.spilled.remove(sessionId);
+                    if (session.spillFile == null) {
+                        session.browser = newBrowser();
+                    }
+                }
+            }
+            return session;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Rebuilds an evicted session's browser from its snapshot or its spill
+     * file, deleting the file. Called under the session lock.
+     */
+    private WebBrowser restore(Session session) {
+        WebBrowser browser = newBrowser();
+        if (session.pending != null) {
+            Spill spill = session.pending;
+            browser.restore(spill.current, spill.back, spill.forward);
+            session.pending = null;
+        } else if (session.spillFile != null) {
+            readSpill(session.spillFile, session.id, browser);
+            deleteSpill(session.spillFile);
+            session.spillFile = null;
+        }
+        return browser;
+    }
+
+    /**
+     * Evicts least recently used sessions until the stripe is within budget,
+     * skipping sessions that are busy and the most recently used one. Victims
+     * are chosen and unlinked under the stripe lock; their spill files are
+     * written after it is released.
+     */
+    private void evictIfNeeded(Stripe stripe) {
+        List<Spill> victims = new ArrayList<>();
+        stripe.lock.lock();
+        try {
+            Iterator<Map.Entry<String, Session>> it = stripe.resident.entrySet().iterator();
+            int remaining = stripe.resident.size();
+            while (stripe.entries > stripeBudget && remaining > 1 && it.hasNext()) {
+                Session session = it.next().getValue();
+                remaining--;
+                if (!session.lock.tryLock()) {
+                    continue;
+                }
+                try {
+                    Spill spill = session.browser != null
+                            ? new Spill(session.id, session.browser, session.entries)
+                            : session.pending;
+                    if (spill != null) {
+                        stripe.spilling.put(session.id, spill);
+                        victims.add(spill);
+                    } else if (session.spillFile != null) {
+                        stripe.spilled.put(session.id, session.spillFile); // never restored
+                    }
+                    session.evicted = true;
+                    session.browser = null;
+                    session.pending = null;
+                    session.spillFile = null;
+                    stripe.entries -= session.entries;
+                    it.remove();
+                } finally {
+                    session.lock.unlock();
+                }
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        UncheckedIOException failure = null;
+        for (Spill spill : victims) {
+            try {
+                writeSpill(stripe, spill);
+            } catch (UncheckedIOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes a snapshot to a new spill file and, unless the session was
+     * reclaimed or removed meanwhile, records the file as the session's.
+     * Called without any lock held.
+     */
+    private void writeSpill(Stripe stripe, Spill spill) {
+        Path file = spillPath(spill.id);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            // Each distinct URL is written once; the stacks refer to it by index
+            Map<Page, Integer> ids = new HashMap<>();
+            List<Page> dictionary = new ArrayList<>();
+            define(spill.current, ids, dictionary);
+            for (Page page : spill.back) {
+                define(page, ids, dictionary);
+            }
+            for (Page page : spill.forward) {
+                define(page, ids, dictionary);
+            }
+
+            out.writeInt(SPILL_MAGIC);
+            out.writeInt(dictionary.size());
+            for (Page page : dictionary) {
+                byte[] url = page.url().toExternalForm().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(url.length);
+                out.write(url);
+            }
+            out.writeInt(indexOf(spill.current, ids));
+            writeIndexes(out, spill.back, ids);
+            writeIndexes(out, spill.forward, ids);
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw new UncheckedIOException("Failed to spill session " + spill.id, e);
+        }
+
+        boolean kept;
+        stripe.lock.lock();
+        try {
+            kept = stripe.spilling.remove(spill.id, spill);
+            if (kept) {
+                stripe.spilled.put(spill.id, file);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+        if (!kept) {
+            deleteSpill(file);
+        }
+    }
+
+    /**
+     * Reads a spill file into a browser, interning its URLs in the manager's
+     * page table.
+     */
+    private void readSpill(Path file, String sessionId, WebBrowser browser) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SPILL_MAGIC) {
+                throw new IOException("Not a session spill file: " + file);
+            }
+            int n = in.readInt();
+            if (n < 0) {
+                throw new IOException("Corrupt session spill file: " + file);
+            }
+            Page[] dictionary = new Page[n];
+            for (int i = 0; i < n; i++) {
+                int length = in.readInt();
+                if (length < 0) {
+                    throw new IOException("Corrupt session spill file: " + file);
+                }
+                byte[] url = new byte[length];
+                in.readFully(url);
+                try {
+                    dictionary[i] = pages.intern(PageTable.parse(new String(url, StandardCharsets.UTF_8)));
+                } catch (MalformedURLException e) {
+                    throw new IOException("Bad URL in session spill file: " + file, e);
+                }
+            }
+            Page current = readPage(in, dictionary, file);
+            ConsList<Page> back = readPages(in, dictionary, file);
+            ConsList<Page> forward = readPages(in, dictionary, file);
+            browser.restore(current, back, forward);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to restore session " + sessionId, e);
+        }
+    }
+
+    private static void define(Page page, Map<Page, Integer> ids, List<Page> dictionary) {
+        if (page != null && !ids.containsKey(page)) {
+            ids.put(page, dictionary.size());
+            dictionary.add(page);
+        }
+    }
+
+    private static int indexOf(Page page, Map<Page, Integer> ids) {
+        return page == null ? -1 : ids.get(page);
+    }
+
+    private static void writeIndexes(DataOutputStream out, ConsList<Page> list, Map<Page, Integer> ids)
+            throws IOException {
+        out.writeInt(list.size());
+        for (Page page : list) {
+            out.writeInt(indexOf(page, ids));
+        }
+    }
+
+    private static Page readPage(DataInputStream in, Page[] dictionary, Path file) throws IOException {
+        int id = in.readInt();
+        if (id < -1 || id >= dictionary.length) {
+            throw new IOException("Corrupt session spill file: " + file);
+        }
+        return id < 0 ? null : dictionary[id];
+    }
+
+    private static ConsList<Page> readPages(DataInputStream in, Page[] dictionary, Path file) throws IOException {
+        int n = in.readInt();
+        if (n < 0) {
+            throw new IOException("Corrupt session spill file: " + file);
+        }
+        Object[] read = new Object[n];
+        for (int i = 0; i < n; i++) {
+            read[i] = readPage(in, dictionary, file);
+        }
+        return ConsList.fromArray(read, n);
+    }
+
+    private void deleteSpill(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete spill file " + file, e);
+        }
+    }
+
+    /**
+     * Returns a new spill file path for a session. The id is encoded so the
+     * name is safe on any file system, and a sequence number keeps a file
+     * still being written apart from the session's later spills.
+     */
+    private Path spillPath(String sessionId) {
+        String name = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sessionId.getBytes(StandardCharsets.UTF_8));
+        return spillDir.resolve(name + "." + spillCount.incrementAndGet() + ".session");
+    }
+
+    private WebBrowser newBrowser() {
+        return new WebBrowser(null, pages, maxHistoryDepth);
+    }
+
+    private Stripe stripeFor(String sessionId) {
+        int h = sessionId.hashCode();
+        h ^= (h >>> 16);
+        return stripes[(h & 0x7fffffff) % stripes.length];
+    }
+
+    private static int entriesOf(WebBrowser browser) {
+        return (browser.currentPage() == null ? 0 : 1) + browser.backSize() + browser.forwardSize();
+    }
+
+    private static void requireId(String sessionId) {
+        if (sessionId == null) {
+            throw new IllegalArgumentException("Session id cannot be null");
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package assign06;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.Exchanger;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe, lock-free last-in-first-out (LIFO) stack (a Treiber stack).
+ *
+ * The top of the stack is a single atomic reference. A push links a new node
+ * in front of the current top and installs it with compareAndSet; a pop swings
+ * the top to the next node the same way. A thread whose CAS fails simply
+ * re-reads the top and tries again, so no thread ever blocks another.
+ *
+ * Under heavy contention every thread fights over that one reference. When an
+ * elimination array is enabled, a thread that loses a CAS instead waits
+ * briefly in a random slot of the array. If a push meets a pop there, the
+ * element is handed over directly and neither touches the top: the pair
+ * cancels out, which is still a valid LIFO history. A push meeting a push (or a
+ * pop meeting a pop) times out and goes back to the CAS loop.
+ *
+ * size() is read from a striped counter so it is O(1) and does not contend
+ * with push/pop, but under concurrent modification it is only approximate.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ *
+ * @param <E> element type stored in the stack
+ */
+public class ConcurrentLinkedStack<E> implements Stack<E> {
+
+    /** How long a thread waits in the elimination array for a partner. */
+    static final long ELIMINATION_TIMEOUT_NANOS = 2_000;
+
+    /** Marker offered to the elimination array by pop, never a real element. */
+    private static final Object POP_REQUEST = new Object();
+
+    /** Returned by exchange when no partner arrived in time. */
+    private static final Object NO_PARTNER = new Object();
+
+    /**
+     * Immutable stack node; once published, next never changes.
+     *
+     * @param <E> element type
+     */
+    private static final class Node<E> {
+        final E data;
+        final Node<E> next;
+
+        Node(E data, Node<E> next) {
+            this.data = data;
+            this.next = next;
+        }
+    }
+
+    /** Current top of the stack, null when empty. */
+    private final AtomicReference<Node<E>> top = new AtomicReference<>();
+
+    /** Net number of pushes minus pops. */
+    private final LongAdder count = new LongAdder();
+
+    /** Elimination slots, or null when elimination is disabled. */
+    private final Exchanger<Object>[] elimination;
+
+    /**
+     * Constructs an empty stack without an elimination array.
+     */
+    public ConcurrentLinkedStack() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty stack with the given number of elimination slots.
+     * Around half the number of contending threads is a reasonable choice.
+     *
+     * @param eliminationSlots number of elimination slots (0 disables
+     * elimination)
+     * @throws IllegalArgumentException if eliminationSlots is negative
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ConcurrentLinkedStack(int eliminationSlots) {
+        if (eliminationSlots < 0) {
+            throw new IllegalArgumentException("Elimination slots cannot be negative, got: " + eliminationSlots);
+        }
+        if (eliminationSlots == 0) {
+            this.elimination = null;
+        } else {
+            this.elimination = new Exchanger[eliminationSlots];
+            for (int i = 0; i < eliminationSlots; i++) {
+                elimination[i] = new Exchanger<>();
+            }
+        }
+    }
+
+    /**
+     * Removes all elements from the stack. Elements pushed concurrently with
+     * the clear may or may not remain.
+     */
+    @Override
+    public void clear() {
+        Node<E> detached = top.getAndSet(null);
+        long removed = 0;
+        for (Node<E> n = detached; n != null; n = n.next) {
+            removed++;
+        }
+        count.add(-removed);
+    }
+
+    /**
+     * Reports whether the stack contained no elements at the moment of the
+     * call.
+     *
+     * @return true if empty; false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    /**
+     * Returns, but does not remove, the element at the top of the stack.
+     *
+     * @return the top element
+     * @throws NoSuchElementException if the stack is empty
+     */
+    @Override
+    public E peek() throws NoSuchElementException {
+        Node<E> current = top.get();
+        if (current == null) {
+            throw new NoSuchElementException("Stack is empty");
+        }
+        return current.data;
+    }
+
+    /**
+     * Returns and removes the element at the top of the stack.
+     *
+     * @return the removed top element
+     * @throws NoSuchElementException if the stack is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E pop() throws NoSuchElementException {
+        while (true) {
+            Node<E> current = top.get();
+            if (current == null) {
+                throw new NoSuchElementException("Stack is empty");
+            }
+            if (top.compareAndSet(current, current.next)) {
+                count.decrement();
+                return current.data;
+            }
+            if (elimination != null) {
+                Object received = exchange(POP_REQUEST);
+                if (received != POP_REQUEST && received != NO_PARTNER) {
+                    return (E) received;
+                }
+            }
+        }
+    }
+
+    /**
+     * Pushes an element onto the top of the stack.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void push(E element) {
+        Node<E> node = new Node<>(element, top.get());
+        while (true) {
+            if (top.compareAndSet(node.next, node)) {
+                count.increment();
+                return;
+            }
+            if (elimination != null && exchange(element) == POP_REQUEST) {
+                return;
+            }
+            node = new Node<>(element, top.get());
+        }
+    }
+
+    /**
+     * Returns the number of elements in the stack. While other threads are
+     * pushing or popping the result is approximate.
+     *
+     * @return approximate current size
+     */
+    @Override
+    public int size() {
+        long n = count.sum();
+        if (n <= 0) {
+            return 0;
+        }
+        return n >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) n;
+    }
+
+    /**
+     * Offers a value in a random elimination slot and waits briefly for a
+     * partner.
+     *
+     * @param offer the element being pushed, or POP_REQUEST
+     * @return the partner's offer, or NO_PARTNER on timeout
+     */
+    private Object exchange(Object offer) {
+        Exchanger<Object> slot = elimination[ThreadLocalRandom.current().nextInt(elimination.length)];
+        try {
+            return slot.exchange(offer, ELIMINATION_TIMEOUT_NANOS, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return NO_PARTNER;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return NO_PARTNER;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package assign06;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Multi-threaded throughput benchmark comparing a LinkedListStack guarded by
+ * synchronized blocks against ConcurrentLinkedStack with and without an
+ * elimination array.
+ *
+ * Each thread repeatedly pushes then pops, so the stack stays small and every
+ * operation contends for the top. Throughput is reported as total operations
+ * per microsecond across all threads for a fixed wall-clock window; the best of
+ * several trials is printed.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ */
+public class ConcurrentStackThroughputExperiment {
+
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32};
+    private static final long WINDOW_MILLIS = 500;
+    private static final int TRIALS = 3;
+
+    /**
+     * Stack wrapper that serializes every operation on one monitor, matching
+     * the current work-stealing job stack.
+     */
+    private static final class SynchronizedStack<E> implements Stack<E> {
+        private final LinkedListStack<E> stack = new LinkedListStack<>();
+
+        @Override
+        public synchronized void clear() {
+            stack.clear();
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return stack.isEmpty();
+        }
+
+        @Override
+        public synchronized E peek() {
+            return stack.peek();
+        }
+
+        @Override
+        public synchronized E pop() {
+            return stack.pop();
+        }
+
+        @Override
+        public synchronized void push(E element) {
+            stack.push(element);
+        }
+
+        @Override
+        public synchronized int size() {
+            return stack.size();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== Concurrent Stack Throughput (ops/us, push+pop pairs) ===\n");
+        System.out.printf("%8s%18s%18s%18s%n", "threads", "synchronized", "treiber", "treiber+elim");
+
+        for (int threads : THREAD_COUNTS) {
+            int slots = Math.max(1, threads / 2);
+            double sync = best(SynchronizedStack::new, threads);
+            double treiber = best(ConcurrentLinkedStack::new, threads);
+            double elim = best(() -> new ConcurrentLinkedStack<>(slots), threads);
+            System.out.printf("%8d%18.2f%18.2f%18.2f%n", threads, sync, treiber, elim);
+        }
+    }
+
+    /**
+     * Runs several trials and returns the best throughput.
+     */
+    private static double best(Supplier<Stack<Integer>> supplier, int threads) throws InterruptedException {
+        measure(supplier.get(), threads); // warmup
+        double best = 0;
+        for (int t = 0; t < TRIALS; t++) {
+            best = Math.max(best, measure(supplier.get(), threads));
+        }
+        return best;
+    }
+
+    /**
+     * Runs the given number of threads against one stack for WINDOW_MILLIS.
+     *
+     * @return operations per microsecond across all threads
+     */
+    private static double measure(Stack<Integer> stack, int threads) throws InterruptedException {
+        LongAdder ops = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        long[] deadline = new long[1];
+
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long local = 0;
+                while (System.nanoTime() < deadline[0]) {
+                    for (int i = 0; i < 64; i++) {
+                        stack.push(id);
+                        try {
+                            stack.pop();
+                        } catch (NoSuchElementException e) {
+                            // another thread popped this element first
+                        }
+                    }
+                    local += 128;
+                }
+                ops.add(local);
+                done.countDown();
+            });
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        deadline[0] = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(WINDOW_MILLIS);
+        start.countDown();
+        done.await();
+        return ops.sum() / (WINDOW_MILLIS * 1000.0);
+    }
+}
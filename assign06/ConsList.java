@@ -0,0 +1,224 @@
+package assign06;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable singly-linked list built from cons cells.
+ *
+ * Each ConsList is one cell holding an element and a reference to the rest of
+ * the list. Because cells never change once built, prepending an element
+ * creates one new cell that shares every existing cell with the original
+ * list, and any reference to a list stays valid forever no matter what is
+ * later built on top of it. That makes a reference to a ConsList an O(1)
+ * snapshot.
+ *
+ * ConsList offers the read operations of {@link List} (getFirst, get,
+ * indexOf, size, isEmpty, toArray, and iteration) but does not implement that
+ * interface, whose insert and delete operations an immutable list cannot
+ * provide. New lists are made with prepend, rest, and take.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ *
+ * @param <E> element type
+ */
+public final class ConsList<E> implements Iterable<E> {
+
+    /** Shared empty list; its first and rest are never read. */
+    private static final ConsList<Object> EMPTY = new ConsList<>();
+
+    /** Element in this cell. */
+    private final E first;
+
+    /** Remaining cells, or null for the empty list. */
+    private final ConsList<E> rest;
+
+    /** Number of elements, cached so size() is O(1). */
+    private final int size;
+
+    /**
+     * Constructs the empty list.
+     */
+    private ConsList() {
+        this.first = null;
+        this.rest = null;
+        this.size = 0;
+    }
+
+    /**
+     * Constructs a cell in front of an existing list.
+     *
+     * @param first element stored
+     * @param rest remaining list
+     */
+    private ConsList(E first, ConsList<E> rest) {
+        this.first = first;
+        this.rest = rest;
+        this.size = rest.size + 1;
+    }
+
+    /**
+     * Returns the empty list.
+     *
+     * @param <E> element type
+     * @return the empty list
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> ConsList<E> empty() {
+        return (ConsList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a new list with an element in front of this one. This list is
+     * unchanged and shared by the result. O(1).
+     *
+     * @param element element to put first
+     * @return the extended list
+     */
+    public ConsList<E> prepend(E element) {
+        return new ConsList<>(element, this);
+    }
+
+    /**
+     * Returns the list without its first element. O(1).
+     *
+     * @return the remaining list
+     * @throws NoSuchElementException if empty
+     */
+    public ConsList<E> rest() throws NoSuchElementException {
+        if (size == 0) throw new NoSuchElementException("List is empty");
+        return rest;
+    }
+
+    /**
+     * Returns a list of the first n elements. Copies n cells; the result
+     * shares nothing with this list unless n is the whole list.
+     * O(n) time.
+     *
+     * @param n number of elements to keep (0 <= n)
+     * @return the first n elements, or this list if it has no more than n
+     * @throws IllegalArgumentException if n is negative
+     */
+    public ConsList<E> take(int n) {
+        if (n < 0) throw new IllegalArgumentException("Count cannot be negative, got: " + n);
+        if (n >= size) return this;
+        Object[] kept = new Object[n];
+        ConsList<E> curr = this;
+        for (int i = 0; i < n; i++, curr = curr.rest) kept[i] = curr.first;
+        return fromArray(kept, n);
+    }
+
+    /**
+     * Builds a list holding arr[0..n) in order.
+     *
+     * @param <E> element type
+     * @param arr elements, first element first
+     * @param n number of elements to use
+     * @return the list
+     */
+    @SuppressWarnings("unchecked")
+    static <E> ConsList<E> fromArray(Object[] arr, int n) {
+        ConsList<E> list = empty();
+        for (int i = n - 1; i >= 0; i--) list = list.prepend((E) arr[i]);
+        return list;
+    }
+
+    /**
+     * Returns the first element.
+     *
+     * @return first element
+     * @throws NoSuchElementException if empty
+     */
+    public E getFirst() throws NoSuchElementException {
+        if (size == 0) throw new NoSuchElementException("List is empty");
+        return first;
+    }
+
+    /**
+     * Returns the element at an index. O(index).
+     *
+     * @param index index to get
+     * @return element at index
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    public E get(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        ConsList<E> curr = this;
+        for (int i = 0; i < index; i++) curr = curr.rest;
+        return curr.first;
+    }
+
+    /**
+     * Returns the index of the first occurrence of an element.
+     *
+     * @param element element to find
+     * @return index or -1 if not found
+     */
+    public int indexOf(E element) {
+        int i = 0;
+        for (ConsList<E> curr = this; curr.size > 0; curr = curr.rest, i++) {
+            if (element == null ? curr.first == null : element.equals(curr.first)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of elements. O(1).
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the list is empty.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns an array of all elements in order.
+     *
+     * @return array of elements
+     */
+    public Object[] toArray() {
+        Object[] arr = new Object[size];
+        int i = 0;
+        for (ConsList<E> curr = this; curr.size > 0; curr = curr.rest) {
+            arr[i++] = curr.first;
+        }
+        return arr;
+    }
+
+    /**
+     * Returns an iterator over the elements from first to last. The iterator
+     * does not support removal.
+     *
+     * @return iterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private ConsList<E> next = ConsList.this;
+
+            @Override
+            public boolean hasNext() {
+                return next.size > 0;
+            }
+
+            @Override
+            public E next() {
+                if (next.size == 0) throw new NoSuchElementException();
+                E val = next.first;
+                next = next.rest;
+                return val;
+            }
+        };
+    }
+}
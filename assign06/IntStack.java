@@ -0,0 +1,150 @@
+package assign06;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A last-in-first-out (LIFO) stack of primitive ints.
+ *
+ * Follows the same contract as {@link Stack}, but values are stored unboxed
+ * in a growable int array, so push and pop allocate nothing once the array
+ * has grown to the stack's working size. The array doubles when full and is
+ * never shrunk, including by clear(), so a reused stack stays allocation-free.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ */
+public class IntStack {
+
+    /** Initial capacity used by the no-argument constructor. */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    /** Backing storage; values[size - 1] is the stack top. */
+    private int[] values;
+
+    /** Number of values in the stack. */
+    private int size;
+
+    /**
+     * Constructs an empty stack with the default capacity.
+     */
+    public IntStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty stack with the given initial capacity.
+     *
+     * @param initialCapacity initial array length (must be positive)
+     * @throws IllegalArgumentException if initialCapacity is not positive
+     */
+    public IntStack(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive, got: " + initialCapacity);
+        }
+        this.values = new int[initialCapacity];
+        this.size = 0;
+    }
+
+    /**
+     * Removes all values from the stack. The capacity is kept.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Reports whether the stack contains no values.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns, but does not remove, the value at the top of the stack.
+     *
+     * @return the top value
+     * @throws NoSuchElementException if the stack is empty
+     */
+    public int peek() throws NoSuchElementException {
+        if (size == 0) {
+            throw new NoSuchElementException("Stack is empty");
+        }
+        return values[size - 1];
+    }
+
+    /**
+     * Returns and removes the value at the top of the stack.
+     *
+     * @return the removed top value
+     * @throws NoSuchElementException if the stack is empty
+     */
+    public int pop() throws NoSuchElementException {
+        if (size == 0) {
+            throw new NoSuchElementException("Stack is empty");
+        }
+        return values[--size];
+    }
+
+    /**
+     * Pushes a value onto the top of the stack.
+     *
+     * @param value value to add
+     */
+    public void push(int value) {
+        if (size == values.length) {
+            grow(size + 1);
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * Pushes a range of values in order, so values[off + len - 1] ends up on
+     * top. Equivalent to calling push on each value, but copies the range in
+     * one step.
+     *
+     * @param src array holding the values (must not be null)
+     * @param off index of the first value to push
+     * @param len number of values to push
+     * @throws IllegalArgumentException if src is null
+     * @throws IndexOutOfBoundsException if the range is outside src
+     */
+    public void pushAll(int[] src, int off, int len) {
+        if (src == null) {
+            throw new IllegalArgumentException("Source array cannot be null");
+        }
+        if (off < 0 || len < 0 || len > src.length - off) {
+            throw new IndexOutOfBoundsException("Range [" + off + ", " + off + " + " + len
+                    + ") out of bounds for length " + src.length);
+        }
+        if (len > values.length - size) {
+            grow(size + len);
+        }
+        System.arraycopy(src, off, values, size, len);
+        size += len;
+    }
+
+    /**
+     * Returns the number of values in the stack.
+     *
+     * @return current size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Grows the array to at least the given capacity, at least doubling it.
+     *
+     * @param minCapacity capacity needed
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("Stack capacity exceeded");
+        }
+        int doubled = values.length > (Integer.MAX_VALUE - 8) / 2 ? Integer.MAX_VALUE - 8 : values.length * 2;
+        values = Arrays.copyOf(values, Math.max(doubled, minCapacity));
+    }
+}
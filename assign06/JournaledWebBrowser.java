@@ -0,0 +1,169 @@
+package assign06;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+/**
+ * A WebBrowser whose navigation is recorded in an append-only journal file,
+ * so a session survives restarts with its back and forward history intact.
+ *
+ * Constructing a JournaledWebBrowser on an existing journal replays it, and
+ * every later visit, back, and forward is appended to it. Appends are
+ * group-committed: the journal is fsynced once per groupSize navigations, or
+ * whenever sync() or close() is called. The journal is periodically compacted
+ * to a snapshot of the current state, so it does not grow with the session's
+ * lifetime. See NavigationJournal for the file format.
+ *
+ * A failed write surfaces from visit, back, or forward as an
+ * UncheckedIOException after the navigation has already taken effect in
+ * memory.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ */
+public class JournaledWebBrowser extends WebBrowser implements Closeable {
+
+    /** Navigations per automatic fsync used when none is given. */
+    public static final int DEFAULT_GROUP_SIZE = 64;
+
+    /** Navigations between compactions used when none is given. */
+    public static final long DEFAULT_COMPACT_THRESHOLD = 1 << 16;
+
+    /** Journal the navigation is recorded in. */
+    private final NavigationJournal journal;
+
+    /**
+     * Opens a browser journaled to the given file, restoring any state it
+     * already holds. Pages are interned in a PageTable of the browser's own.
+     *
+     * @param journalFile journal file; created if it does not exist
+     * @throws IOException if the journal cannot be opened or is corrupt
+     */
+    public JournaledWebBrowser(Path journalFile) throws IOException {
+        this(journalFile, new PageTable(), DEFAULT_GROUP_SIZE, DEFAULT_COMPACT_THRESHOLD);
+    }
+
+    /**
+     * Opens a browser journaled to the given file, restoring any state it
+     * already holds.
+     *
+     * @param journalFile journal file; created if it does not exist
+     * @param pages the page table to use
+     * @param groupSize navigations per automatic fsync (must be positive)
+     * @param compactThreshold navigations between compactions (must be
+     * positive)
+     * @throws IOException if the journal cannot be opened or is corrupt
+     * @throws IllegalArgumentException if any argument is null or out of range
+     */
+    public JournaledWebBrowser(Path journalFile, PageTable pages, int groupSize, long compactThreshold)
+            throws IOException {
+        super(null, pages);
+        if (journalFile == null) {
+            throw new IllegalArgumentException("Journal file cannot be null");
+        }
+        if (groupSize <= 0) {
+            throw new IllegalArgumentException("Group size must be positive, got: " + groupSize);
+        }
+        if (compactThreshold <= 0) {
+            throw new IllegalArgumentException("Compact threshold must be positive, got: " + compactThreshold);
+        }
+        this.journal = new NavigationJournal(journalFile, this, groupSize, compactThreshold);
+    }
+
+    /**
+     * Visits a new webpage and records the visit.
+     *
+     * @param webpage the URL to visit
+     * @throws UncheckedIOException if the journal cannot be written
+     */
+    @Override
+    public void visit(URL webpage) {
+        super.visit(webpage);
+        try {
+            journal.logVisit(currentPage());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to journal visit", e);
+        }
+    }
+
+    /**
+     * Goes back one page and records the move.
+     *
+     * @return the URL that is now current after going back
+     * @throws NoSuchElementException if there is no previously-visited URL
+     * @throws UncheckedIOException if the journal cannot be written
+     */
+    @Override
+    public URL back() throws NoSuchElementException {
+        URL url = super.back();
+        try {
+            journal.logBack();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to journal back", e);
+        }
+        return url;
+    }
+
+    /**
+     * Goes forward one page and records the move.
+     *
+     * @return the URL that is now current after going forward
+     * @throws NoSuchElementException if there is no URL to visit next
+     * @throws UncheckedIOException if the journal cannot be written
+     */
+    @Override
+    public URL forward() throws NoSuchElementException {
+        URL url = super.forward();
+        try {
+            journal.logForward();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to journal forward", e);
+        }
+        return url;
+    }
+
+    /**
+     * Forces every navigation so far to disk.
+     *
+     * @throws IOException if the journal cannot be written
+     */
+    public void sync() throws IOException {
+        journal.commit();
+    }
+
+    /**
+     * Rewrites the journal as a snapshot of the current state now, rather
+     * than waiting for the compact threshold.
+     *
+     * @throws IOException if the journal cannot be rewritten
+     */
+    public void compact() throws IOException {
+        journal.compact();
+    }
+
+    /**
+     * Returns the size of the journal file in bytes, not counting navigations
+     * that have not been synced yet.
+     *
+     * @return journal size
+     * @throws IOException if the size cannot be read
+     */
+    public long journalSize() throws IOException {
+        return journal.fileSize();
+    }
+
+    /**
+     * Syncs the journal and closes it. The browser must not navigate
+     * afterwards.
+     *
+     * @throws IOException if the final sync fails
+     */
+    @Override
+    public void close() throws IOException {
+        journal.close();
+    }
+}
@@ -0,0 +1,498 @@
+package assign06;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A generic doubly-linked list that is both a List and a Stack, with O(1)
+ * insertion, access, and removal at either end.
+ *
+ * Each node links to its predecessor as well as its successor, so the last
+ * element is as cheap to reach as the first. get, insert, and delete at an
+ * index walk from whichever end is closer, visiting at most size / 2 nodes.
+ *
+ * As a Stack, the top is the first element: push is insertFirst, pop is
+ * deleteFirst, and peek is getFirst.
+ *
+ * listIterator() walks in both directions and can add, set, and remove
+ * elements as it goes. Iterators fail fast: one used after the deque was
+ * changed other than through that iterator throws
+ * ConcurrentModificationException.
+ *
+ * @author Tyler Gagliardi
+ * @version October 2025
+ *
+ * @param <E> element type
+ */
+public class LinkedDeque<E> implements List<E>, Stack<E> {
+
+    /**
+     * Node in the doubly linked list.
+     *
+     * @param <E> element type
+     */
+    private static final class Node<E> {
+        E data;
+        Node<E> prev;
+        Node<E> next;
+
+        /**
+         * Creates a node.
+         *
+         * @param prev previous node
+         * @param data element stored
+         * @param next next node
+         */
+        Node(Node<E> prev, E data, Node<E> next) {
+            this.prev = prev;
+            this.data = data;
+            this.next = next;
+        }
+    }
+
+    /** First node in the list, or null if empty. */
+    private Node<E> head;
+
+    /** Last node in the list, or null if empty. */
+    private Node<E> tail;
+
+    /** Number of elements in the list. */
+    private int size;
+
+    /** Count of structural changes, checked by iterators. */
+    private int modCount;
+
+    /**
+     * Constructs an empty deque.
+     */
+    public LinkedDeque() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Inserts an element at the beginning. O(1).
+     *
+     * @param element element to insert
+     */
+    @Override
+    public void insertFirst(E element) {
+        linkBefore(element, head);
+    }
+
+    /**
+     * Inserts an element at the end. O(1).
+     *
+     * @param element element to insert
+     */
+    public void insertLast(E element) {
+        linkBefore(element, null);
+    }
+
+    /**
+     * Inserts an element at an index. O(min(index, size - index)).
+     *
+     * @param index index to insert at
+     * @param element element to insert
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    @Override
+    public void insert(int index, E element) throws IndexOutOfBoundsException {
+        checkPositionIndex(index);
+        linkBefore(element, index == size ? null : nodeAt(index));
+    }
+
+    /**
+     * Returns the first element. O(1).
+     *
+     * @return first element
+     * @throws NoSuchElementException if empty
+     */
+    @Override
+    public E getFirst() throws NoSuchElementException {
+        if (head == null) throw new NoSuchElementException("List is empty");
+        return head.data;
+    }
+
+    /**
+     * Returns the last element. O(1).
+     *
+     * @return last element
+     * @throws NoSuchElementException if empty
+     */
+    public E getLast() throws NoSuchElementException {
+        if (tail == null) throw new NoSuchElementException("List is empty");
+        return tail.data;
+    }
+
+    /**
+     * Returns the element at an index. O(min(index, size - index)).
+     *
+     * @param index index to get
+     * @return element at index
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkElementIndex(index);
+        return nodeAt(index).data;
+    }
+
+    /**
+     * Deletes and returns the first element. O(1).
+     *
+     * @return deleted element
+     * @throws NoSuchElementException if empty
+     */
+    @Override
+    public E deleteFirst() throws NoSuchElementException {
+        if (head == null) throw new NoSuchElementException("List is empty");
+        return unlink(head);
+    }
+
+    /**
+     * Deletes and returns the last element. O(1).
+     *
+     * @return deleted element
+     * @throws NoSuchElementException if empty
+     */
+    public E deleteLast() throws NoSuchElementException {
+        if (tail == null) throw new NoSuchElementException("List is empty");
+        return unlink(tail);
+    }
+
+    /**
+     * Deletes and returns the element at an index.
+     * O(min(index, size - index)).
+     *
+     * @param index index to delete
+     * @return deleted element
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    @Override
+    public E delete(int index) throws IndexOutOfBoundsException {
+        checkElementIndex(index);
+        return unlink(nodeAt(index));
+    }
+
+    /**
+     * Returns the index of the first occurrence of an element.
+     *
+     * @param element element to find
+     * @return index or -1 if not found
+     */
+    @Override
+    public int indexOf(E element) {
+        int i = 0;
+        for (Node<E> curr = head; curr != null; curr = curr.next, i++) {
+            if (element == null ? curr.data == null : element.equals(curr.data)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of an element, searching from
+     * the end.
+     *
+     * @param element element to find
+     * @return index or -1 if not found
+     */
+    public int lastIndexOf(E element) {
+        int i = size - 1;
+        for (Node<E> curr = tail; curr != null; curr = curr.prev, i--) {
+            if (element == null ? curr.data == null : element.equals(curr.data)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the list is empty.
+     *
+     * @return true if empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all elements.
+     */
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns an array of all elements in order.
+     *
+     * @return array of elements
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] arr = new Object[size];
+        int i = 0;
+        for (Node<E> curr = head; curr != null; curr = curr.next) {
+            arr[i++] = curr.data;
+        }
+        return arr;
+    }
+
+    /**
+     * Returns, but does not remove, the top of the stack (the first element).
+     *
+     * @return the top element
+     * @throws NoSuchElementException if empty
+     */
+    @Override
+    public E peek() throws NoSuchElementException {
+        return getFirst();
+    }
+
+    /**
+     * Returns and removes the top of the stack (the first element).
+     *
+     * @return the removed top element
+     * @throws NoSuchElementException if empty
+     */
+    @Override
+    public E pop() throws NoSuchElementException {
+        return deleteFirst();
+    }
+
+    /**
+     * Pushes an element onto the top of the stack (the front of the list).
+     *
+     * @param element element to add
+     */
+    @Override
+    public void push(E element) {
+        insertFirst(element);
+    }
+
+    /**
+     * Returns an iterator from first to last.
+     *
+     * @return iterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new LinkedDequeIterator(0);
+    }
+
+    /**
+     * Returns a bidirectional iterator positioned before the first element.
+     *
+     * @return list iterator
+     */
+    public ListIterator<E> listIterator() {
+        return new LinkedDequeIterator(0);
+    }
+
+    /**
+     * Returns a bidirectional iterator positioned before the element at an
+     * index, so the first call to next returns get(index) and the first call
+     * to previous returns get(index - 1).
+     *
+     * @param index starting position (0 <= index <= size)
+     * @return list iterator
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    public ListIterator<E> listIterator(int index) throws IndexOutOfBoundsException {
+        checkPositionIndex(index);
+        return new LinkedDequeIterator(index);
+    }
+
+    /**
+     * Returns an iterator from last to first.
+     *
+     * @return descending iterator
+     */
+    public Iterator<E> descendingIterator() {
+        return new Iterator<E>() {
+            private final ListIterator<E> it = new LinkedDequeIterator(size);
+
+            @Override
+            public boolean hasNext() {
+                return it.hasPrevious();
+            }
+
+            @Override
+            public E next() {
+                return it.previous();
+            }
+
+            @Override
+            public void remove() {
+                it.remove();
+            }
+        };
+    }
+
+    /**
+     * Bidirectional iterator. The cursor sits between previous and next; the
+     * node last returned by next or previous is the one set and remove act on.
+     */
+    private final class LinkedDequeIterator implements ListIterator<E> {
+        private Node<E> next;
+        private int nextIndex;
+        private Node<E> lastReturned = null;
+        private int expectedModCount = modCount;
+
+        /**
+         * Creates an iterator positioned before the element at index.
+         *
+         * @param index starting position (0 <= index <= size)
+         */
+        LinkedDequeIterator(int index) {
+            next = index == size ? null : nodeAt(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (!hasNext()) throw new NoSuchElementException();
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.data;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (!hasPrevious()) throw new NoSuchElementException();
+            next = next == null ? tail : next.prev;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) throw new IllegalStateException();
+            if (lastReturned == next) {
+                next = next.next; // removing the element previous() returned
+            } else {
+                nextIndex--; // removing the element next() returned
+            }
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E element) {
+            checkForComodification();
+            if (lastReturned == null) throw new IllegalStateException();
+            lastReturned.data = element;
+        }
+
+        @Override
+        public void add(E element) {
+            checkForComodification();
+            linkBefore(element, next);
+            nextIndex++;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Links a new node before succ, or at the end if succ is null.
+     */
+    private void linkBefore(E element, Node<E> succ) {
+        Node<E> pred = succ == null ? tail : succ.prev;
+        Node<E> node = new Node<>(pred, element, succ);
+        if (pred == null) head = node;
+        else pred.next = node;
+        if (succ == null) tail = node;
+        else succ.prev = node;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Unlinks a node and returns its element.
+     */
+    private E unlink(Node<E> node) {
+        E data = node.data;
+        if (node.prev == null) head = node.next;
+        else node.prev.next = node.next;
+        if (node.next == null) tail = node.prev;
+        else node.next.prev = node.prev;
+        node.data = null;
+        node.prev = null;
+        node.next = null;
+        size--;
+        modCount++;
+        return data;
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    /**
+     * Returns the node at an index (0 <= index < size), walking from
+     * whichever end is closer.
+     */
+    private Node<E> nodeAt(int index) {
+        if (index < size / 2) {
+            Node<E> curr = head;
+            for (int i = 0; i < index; i++) curr = curr.next;
+            return curr;
+        }
+        Node<E> curr = tail;
+        for (int i = size - 1; i > index; i--) curr = curr.prev;
+        return curr;
+    }
+}
@@ -11,7 +11,7 @@ import java.util.NoSuchElementException;
 public class LinkedListStack<E> implements Stack<E> {
 
     /** Backing storage for the stack; the list's head represents the stack top. */
-    private final SinglyLinkedList<E> list;
+    private final List<E> list;
 
     /**
      * Constructs an empty stack.
@@ -20,6 +20,20 @@ public class LinkedListStack<E> implements Stack<E> {
         this.list = new SinglyLinkedList<>();
     }
 
+    /**
+     * Constructs a stack on top of the given list, e.g. an UnrolledLinkedList.
+     * The list's first element is the stack top.
+     *
+     * @param list backing list to use (must not be null)
+     * @throws IllegalArgumentException if list is null
+     */
+    public LinkedListStack(List<E> list) {
+        if (list == null) {
+            throw new IllegalArgumentException("Backing list cannot be null");
+        }
+        this.list = list;
+    }
+
     /**
      * Removes all elements from the stack.
      */
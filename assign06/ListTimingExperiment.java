@@ -0,0 +1,119 @@
+package assign06;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import timing.TimingExperiment;
+
+/**
+ * Timing experiments comparing SinglyLinkedList with UnrolledLinkedList on
+ * full iteration, random indexed access, and indexOf misses.
+ *
+ * @author Tyler Gagliardi
+ * @version October 2025
+ */
+public class ListTimingExperiment {
+
+    private static final List<Integer> PROBLEM_SIZES = TimingExperiment.buildProblemSizes(10_000, 10_000, 10);
+    private static final int ITERATIONS = 11;
+    private static final int RANDOM_GETS = 1_000;
+
+    /**
+     * Base for experiments that fill a fresh list of the problem size.
+     */
+    private abstract static class ListExperiment extends TimingExperiment {
+        protected final Supplier<assign06.List<Integer>> supplier;
+        protected assign06.List<Integer> list;
+        protected int n;
+
+        ListExperiment(Supplier<assign06.List<Integer>> supplier) {
+            super("N", PROBLEM_SIZES, ITERATIONS);
+            this.supplier = supplier;
+        }
+
+        @Override
+        protected void setupExperiment(int problemSize) {
+            list = supplier.get();
+            n = problemSize;
+            for (int i = 0; i < problemSize; i++) {
+                list.insert(i, i);
+            }
+        }
+    }
+
+    /** Sums every element through the iterator. */
+    private static final class IterateExperiment extends ListExperiment {
+        long sink;
+
+        IterateExperiment(Supplier<assign06.List<Integer>> supplier) {
+            super(supplier);
+        }
+
+        @Override
+        protected void runComputation() {
+            long sum = 0;
+            for (int v : list) {
+                sum += v;
+            }
+            sink += sum;
+        }
+    }
+
+    /** Reads RANDOM_GETS random indices. */
+    private static final class RandomGetExperiment extends ListExperiment {
+        private final Random rng = new Random(42);
+        long sink;
+
+        RandomGetExperiment(Supplier<assign06.List<Integer>> supplier) {
+            super(supplier);
+        }
+
+        @Override
+        protected void runComputation() {
+            long sum = 0;
+            for (int i = 0; i < RANDOM_GETS; i++) {
+                sum += list.get(rng.nextInt(n));
+            }
+            sink += sum;
+        }
+    }
+
+    /** Searches for an absent element, scanning the whole list. */
+    private static final class IndexOfExperiment extends ListExperiment {
+        long sink;
+
+        IndexOfExperiment(Supplier<assign06.List<Integer>> supplier) {
+            super(supplier);
+        }
+
+        @Override
+        protected void runComputation() {
+            sink += list.indexOf(-1);
+        }
+    }
+
+    public static void main(String[] args) {
+        Supplier<assign06.List<Integer>> linked = SinglyLinkedList::new;
+        Supplier<assign06.List<Integer>> unrolled = UnrolledLinkedList::new;
+
+        compare("iteration", new IterateExperiment(linked), new IterateExperiment(unrolled));
+        compare("random get (" + RANDOM_GETS + " per run)", new RandomGetExperiment(linked),
+                new RandomGetExperiment(unrolled));
+        compare("indexOf miss", new IndexOfExperiment(linked), new IndexOfExperiment(unrolled));
+    }
+
+    private static void compare(String name, TimingExperiment linked, TimingExperiment unrolled) {
+        for (TimingExperiment e : new TimingExperiment[]{linked, unrolled}) {
+            e.warmup(3);
+            e.run();
+        }
+        System.out.println("Median times for " + name + " (ns):");
+        System.out.printf("%8s%15s%15s%n", "N", "SLL", "UNROLLED");
+        for (int i = 0; i < PROBLEM_SIZES.size(); i++) {
+            System.out.printf("%8d%15d%15d%n", PROBLEM_SIZES.get(i), linked.getMedianTimes().get(i),
+                    unrolled.getMedianTimes().get(i));
+        }
+        System.out.println();
+    }
+}
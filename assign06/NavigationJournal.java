@@ -0,0 +1,547 @@
+package assign06;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import assign06.PageTable.Page;
+
+/**
+ * An append-only binary journal of one browser's navigation, used by
+ * JournaledWebBrowser to survive restarts.
+ *
+ * The file is a 4-byte magic number followed by records, each starting with a
+ * one-byte tag:
+ * - PAGE: int length, then the URL in UTF-8. Defines the next journal-local
+ * page id (0, 1, 2, ...). Each page is defined once, before its first use.
+ * - VISIT: int page id, or -1 for null.
+ * - BACK, FORWARD: no payload.
+ * - STATE: int current id, then the back and forward stacks as an int count
+ * followed by that many ids, top first. Replaces the whole replayed state.
+ *
+ * Page ids are local to the file rather than PageTable ids, because a
+ * PageTable's ids are only meaningful within the process that built it.
+ *
+ * Appends go into an in-memory buffer. commit() writes everything buffered
+ * and fsyncs it in one go, and runs automatically once groupSize records are
+ * pending, so at most groupSize - 1 navigations are lost on a crash. Appends
+ * never wait on an fsync in progress, and a thread that finds its records
+ * already forced by another commit returns without forcing again.
+ *
+ * Once compactThreshold events have been appended, the journal is rewritten
+ * as the PAGE records the browser still references plus one STATE record,
+ * written to a temporary file and moved over the journal, so its size tracks
+ * the browser's state rather than its lifetime. Only building that record
+ * holds up appends; the new file is written and forced while they carry on.
+ *
+ * On open, the file is memory-mapped and replayed into primitive int stacks,
+ * so recovery does no per-event allocation. A record cut short by a crash
+ * ends the replay and is truncated away before appending resumes.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ */
+final class NavigationJournal implements Closeable {
+
+    /** Format tag written at the start of every journal file. */
+    static final int MAGIC = 0x574A4E31; // "WJN1"
+
+    static final byte PAGE = 1;
+    static final byte VISIT = 2;
+    static final byte BACK = 3;
+    static final byte FORWARD = 4;
+    static final byte STATE = 5;
+
+    /** Journal file. */
+    private final Path file;
+
+    /** Browser whose state is journaled and compacted. */
+    private final WebBrowser browser;
+
+    /** Records pending before commit() is run automatically. */
+    private final int groupSize;
+
+    /** Events appended before the journal is compacted. */
+    private final long compactThreshold;
+
+    /** Held by commit and compaction so batches reach the file in order. */
+    private final Object commitLock = new Object();
+
+    /** Open channel positioned at the end of the journal. */
+    private FileChannel channel;
+
+    /** Journal-local id of every page defined in the file. */
+    private Map<Page, Integer> ids = new HashMap<>();
+
+    /** Next journal-local page id. */
+    private int nextId;
+
+    /** Records appended but not yet written. */
+    private ByteBuffer pending = ByteBuffer.allocate(4096);
+
+    /** Number of records in pending. */
+    private int pendingRecords;
+
+    /** Events appended since the journal was last compacted. */
+    private long eventsSinceCompaction;
+
+    /**
+     * Opens or creates a journal, replaying any existing contents into the
+     * browser.
+     *
+     * @param file journal file
+     * @param browser browser to restore into and journal
+     * @param groupSize records per automatic commit (must be positive)
+     * @param compactThreshold events between compactions (must be positive)
+     * @throws IOException if the file cannot be read or is not a journal
+     */
+    NavigationJournal(Path file, WebBrowser browser, int groupSize, long compactThreshold) throws IOException {
+        this.file = file;
+        this.browser = browser;
+        this.groupSize = groupSize;
+        this.compactThreshold = compactThreshold;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long end = channel.size() == 0 ? writeHeader() : replay();
+            channel.truncate(end);
+            channel.position(end);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends a visit to a page.
+     *
+     * @param page the page visited, or null
+     * @throws IOException if an automatic commit fails
+     */
+    void logVisit(Page page) throws IOException {
+        boolean full;
+        synchronized (this) {
+            int id = idOf(page);
+            ensureRoom(5);
+            pending.put(VISIT).putInt(id);
+            full = recorded();
+        }
+        afterAppend(full);
+    }
+
+    /**
+     * Appends a back navigation.
+     *
+     * @throws IOException if an automatic commit fails
+     */
+    void logBack() throws IOException {
+        logMove(BACK);
+    }
+
+    /**
+     * Appends a forward navigation.
+     *
+     * @throws IOException if an automatic commit fails
+     */
+    void logForward() throws IOException {
+        logMove(FORWARD);
+    }
+
+    /**
+     * Writes every pending record to the file and forces it to disk.
+     *
+     * @throws IOException if writing or forcing fails
+     */
+    void commit() throws IOException {
+        synchronized (commitLock) {
+            ByteBuffer batch;
+            synchronized (this) {
+                if (pendingRecords == 0) {
+                    return; // nothing new, or an earlier commit covered it
+                }
+                pending.flip();
+                batch = ByteBuffer.allocate(pending.remaining()).put(pending).flip();
+                pending.clear();
+                pendingRecords = 0;
+            }
+            while (batch.hasRemaining()) {
+                channel.write(batch);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Rewrites the journal as the browser's current state. Pending records
+     * are dropped, since the state already reflects them.
+     *
+     * The new contents are built under this object's monitor, then written,
+     * forced, and moved into place under commitLock alone, so appends are not
+     * held up by the I/O. Records appended meanwhile are folded into a STATE
+     * record when the new file is switched in. The new file's channel is open
+     * before the move, so nothing can fail once it is in place; if the
+     * rewrite fails, the old journal, its channel, and the pending records
+     * are kept.
+     *
+     * @throws IOException if the new journal cannot be written
+     */
+    void compact() throws IOException {
+        synchronized (commitLock) {
+            ByteBuffer contents;
+            Map<Page, Integer> newIds;
+            int newNextId;
+            long compacted;
+            synchronized (this) {
+                // Build the new file with the same helpers appends use, then put the live fields back
+                Map<Page, Integer> liveIds = ids;
+                int liveNextId = nextId;
+                ByteBuffer livePending = pending;
+                ids = new HashMap<>();
+                nextId = 0;
+                pending = ByteBuffer.allocate(livePending.capacity());
+                try {
+                    pending.putInt(MAGIC);
+                    putState();
+                    contents = pending.flip();
+                    newIds = ids;
+                    newNextId = nextId;
+                } finally {
+                    ids = liveIds;
+                    nextId = liveNextId;
+                    pending = livePending;
+                }
+                compacted = eventsSinceCompaction;
+                eventsSinceCompaction = 0;
+            }
+
+            Path tmp = file.resolveSibling(file.getFileName() + ".compact");
+            FileChannel out = null;
+            try {
+                out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE);
+                while (contents.hasRemaining()) {
+                    out.write(contents);
+                }
+                out.force(true);
+                // The move is the commit point; before it the old journal is intact
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException | RuntimeException e) {
+                try {
+                    if (out != null) {
+                        out.close();
+                    }
+                    Files.deleteIfExists(tmp);
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                synchronized (this) {
+                    eventsSinceCompaction += compacted;
+                }
+                throw e;
+            }
+
+            FileChannel old;
+            synchronized (this) {
+                old = channel;
+                channel = out;
+                ids = newIds;
+                nextId = newNextId;
+                // Pending records use the old file's ids; the browser's state reflects them
+                boolean appended = eventsSinceCompaction > 0;
+                pending.clear();
+                pendingRecords = 0;
+                if (appended) {
+                    putState();
+                    pendingRecords = 1;
+                }
+            }
+            old.close();
+        }
+    }
+
+    /**
+     * Returns the current size of the journal file in bytes.
+     *
+     * @return file size
+     * @throws IOException if the size cannot be read
+     */
+    synchronized long fileSize() throws IOException {
+        return channel.size();
+    }
+
+    /**
+     * Commits pending records and closes the file.
+     *
+     * @throws IOException if the final commit fails
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            commit();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void logMove(byte tag) throws IOException {
+        boolean full;
+        synchronized (this) {
+            ensureRoom(1);
+            pending.put(tag);
+            full = recorded();
+        }
+        afterAppend(full);
+    }
+
+    /**
+     * Counts an appended record. Caller holds this.
+     *
+     * @return true if a commit is due
+     */
+    private boolean recorded() {
+        eventsSinceCompaction++;
+        return ++pendingRecords >= groupSize;
+    }
+
+    private void afterAppend(boolean full) throws IOException {
+        boolean compactDue;
+        synchronized (this) {
+            compactDue = eventsSinceCompaction >= compactThreshold;
+        }
+        if (compactDue) {
+            compact();
+        } else if (full) {
+            commit();
+        }
+    }
+
+    /**
+     * Returns a page's journal-local id, appending a PAGE record the first
+     * time the page is seen. Caller holds this.
+     */
+    private int idOf(Page page) {
+        if (page == null) {
+            return -1;
+        }
+        Integer id = ids.get(page);
+        if (id == null) {
+            byte[] url = page.url().toExternalForm().getBytes(StandardCharsets.UTF_8);
+            ensureRoom(5 + url.length);
+            pending.put(PAGE).putInt(url.length).put(url);
+            id = nextId++;
+            ids.put(page, id);
+        }
+        return id;
+    }
+
+    /**
+     * Appends a STATE record of the browser's current state, defining any
+     * pages it needs first. Caller holds this.
+     */
+    private void putState() {
+        int[] back = idsOf(browser.backSnapshot());
+        int[] forward = idsOf(browser.forwardSnapshot());
+        int current = idOf(browser.currentPage());
+        ensureRoom(13 + 4 * (back.length + forward.length));
+        pending.put(STATE).putInt(current);
+        putIds(back);
+        putIds(forward);
+    }
+
+    private int[] idsOf(ConsList<Page> list) {
+        int[] out = new int[list.size()];
+        int i = 0;
+        for (Page page : list) {
+            out[i++] = idOf(page);
+        }
+        return out;
+    }
+
+    private void putIds(int[] list) {
+        pending.putInt(list.length);
+        for (int id : list) {
+            pending.putInt(id);
+        }
+    }
+
+    /**
+     * Grows the pending buffer so it can take n more bytes.
+     */
+    private void ensureRoom(int n) {
+        if (pending.remaining() < n) {
+            int capacity = Math.max(pending.capacity() * 2, pending.position() + n);
+            ByteBuffer grown = ByteBuffer.allocate(capacity);
+            pending.flip();
+            pending = grown.put(pending);
+        }
+    }
+
+    /**
+     * Writes the magic number to a new journal.
+     *
+     * @return the end of the header
+     */
+    private long writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(4).putInt(MAGIC).flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(false);
+        return 4;
+    }
+
+    /**
+     * Memory-maps the journal and replays it into the browser.
+     *
+     * @return the end of the last complete record
+     */
+    private long replay() throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Journal too large to map: " + file);
+        }
+        MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        if (size < 4 || in.getInt() != MAGIC) {
+            throw new IOException("Not a navigation journal: " + file);
+        }
+
+        PageTable pages = browser.getPageTable();
+        Page[] local = new Page[16];
+        int defined = 0;
+        IntStack back = new IntStack();
+        IntStack forward = new IntStack();
+        int current = -1;
+        long end = in.position();
+
+        replay:
+        while (in.hasRemaining()) {
+            try {
+                byte tag = in.get();
+                switch (tag) {
+                    case PAGE:
+                        int length = in.getInt();
+                        if (length < 0) {
+                            throw corrupt(end);
+                        }
+                        if (length > in.remaining()) {
+                            throw new BufferUnderflowException();
+                        }
+                        byte[] url = new byte[length];
+                        in.get(url);
+                        if (defined == local.length) {
+                            local = Arrays.copyOf(local, defined * 2);
+                        }
+                        local[defined++] = pages.intern(
+                                PageTable.parse(new String(url, StandardCharsets.UTF_8)));
+                        break;
+                    case VISIT:
+                        int page = in.getInt();
+                        if (page < -1 || page >= defined) {
+                            throw corrupt(end);
+                        }
+                        if (current >= 0) {
+                            back.push(current);
+                        }
+                        current = page;
+                        forward.clear();
+                        break;
+                    case BACK:
+                        if (back.isEmpty()) {
+                            throw corrupt(end);
+                        }
+                        if (current >= 0) {
+                            forward.push(current);
+                        }
+                        current = back.pop();
+                        break;
+                    case FORWARD:
+                        if (forward.isEmpty()) {
+                            throw corrupt(end);
+                        }
+                        if (current >= 0) {
+                            back.push(current);
+                        }
+                        current = forward.pop();
+                        break;
+                    case STATE:
+                        current = in.getInt();
+                        if (current < -1 || current >= defined
+                                || !readStack(in, back, defined) || !readStack(in, forward, defined)) {
+                            throw corrupt(end);
+                        }
+                        break;
+                    case 0:
+                        break replay; // zero-filled tail left by a crash
+                    default:
+                        throw corrupt(end);
+                }
+            } catch (BufferUnderflowException e) {
+                break; // record cut short by a crash
+            } catch (MalformedURLException e) {
+                throw new IOException("Bad URL in navigation journal " + file + " at byte " + end, e);
+            }
+            end = in.position();
+        }
+
+        for (int i = 0; i < defined; i++) {
+            ids.putIfAbsent(local[i], i);
+        }
+        nextId = defined;
+        browser.restore(current < 0 ? null : local[current], toList(back, local), toList(forward, local));
+        return end;
+    }
+
+    /**
+     * Replaces a stack's contents with ids stored top first.
+     *
+     * @return false if the stored ids are not valid page ids
+     */
+    private static boolean readStack(ByteBuffer in, IntStack stack, int defined) {
+        int n = in.getInt();
+        if (n < 0) {
+            return false;
+        }
+        if (n > in.remaining() / 4) {
+            throw new BufferUnderflowException();
+        }
+        int[] ids = new int[n];
+        for (int i = n - 1; i >= 0; i--) {
+            ids[i] = in.getInt();
+            if (ids[i] < -1 || ids[i] >= defined) {
+                return false;
+            }
+        }
+        stack.clear();
+        stack.pushAll(ids, 0, n);
+        return true;
+    }
+
+    /**
+     * Empties a stack of page ids into a list, top first.
+     */
+    private static ConsList<Page> toList(IntStack stack, Page[] local) {
+        int n = stack.size();
+        Object[] pages = new Object[n];
+        for (int i = 0; i < n; i++) {
+            int id = stack.pop();
+            pages[i] = id < 0 ? null : local[id];
+        }
+        return ConsList.fromArray(pages, n);
+    }
+
+    private IOException corrupt(long offset) {
+        return new IOException("Corrupt navigation journal " + file + " at byte " + offset);
+    }
+}
@@ -0,0 +1,205 @@
+package assign06;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interning table that maps URLs to canonical Page handles without ever
+ * touching the network.
+ *
+ * java.net.URL.equals and hashCode resolve host names, so putting URLs in
+ * lists or hash tables can block on DNS. PageTable instead keys each URL on a
+ * normalized string built only from the URL's text (scheme and host
+ * lowercased, default port dropped, empty path written as "/") and hands out
+ * one {@link Page} per distinct key. A table never holds two live Pages for
+ * the same key, so pages compare by identity and all later lookups and
+ * duplicate checks are reference comparisons.
+ *
+ * The table only holds its pages weakly: a page that nothing else references
+ * is dropped after garbage collection, and interning its URL again creates a
+ * new page with a new id. The table therefore never grows beyond the pages its
+ * callers are still using. While a page is live, the first URL interned for
+ * its key is kept and returned by {@link Page#url()}.
+ *
+ * intern is safe to call from any number of threads and never blocks on a
+ * table-wide lock.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ */
+public final class PageTable {
+
+    /**
+     * An interned page. Two Pages from the same table are equal exactly when
+     * their normalized URLs are equal, which for a canonical page is identity.
+     */
+    public static final class Page {
+        private final int id;
+        private final String key;
+        private final URL url;
+
+        private Page(int id, String key, URL url) {
+            this.id = id;
+            this.key = key;
+            this.url = url;
+        }
+
+        /**
+         * @return this page's id, assigned in interning order by its table
+         */
+        public int id() {
+            return id;
+        }
+
+        /**
+         * @return the normalized URL string this page was interned under
+         */
+        public String key() {
+            return key;
+        }
+
+        /**
+         * @return the URL this page was first interned from
+         */
+        public URL url() {
+            return url;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+
+        @Override
+        public String toString() {
+            return key;
+        }
+    }
+
+    /**
+     * Weak reference to an interned page that remembers its key, so the entry
+     * can be removed once the page has been collected.
+     */
+    private static final class PageRef extends WeakReference<Page> {
+        final String key;
+
+        PageRef(Page page, ReferenceQueue<Page> queue) {
+            super(page, queue);
+            this.key = page.key;
+        }
+    }
+
+    /** Normalized URL string to page. */
+    private final ConcurrentHashMap<String, PageRef> byKey = new ConcurrentHashMap<>();
+
+    /** References whose pages have been collected. */
+    private final ReferenceQueue<Page> cleared = new ReferenceQueue<>();
+
+    /** Id given to the next page created. */
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * Returns the page for a URL, creating it on first sight. Never performs
+     * name resolution.
+     *
+     * @param url the URL to intern (must not be null)
+     * @return the interned page
+     * @throws IllegalArgumentException if url is null
+     */
+    public Page intern(URL url) {
+        if (url == null) {
+            throw new IllegalArgumentException("URL cannot be null");
+        }
+        expungeCleared();
+        String key = normalize(url);
+        while (true) {
+            PageRef ref = byKey.get(key);
+            Page page = ref == null ? null : ref.get();
+            if (page != null) {
+                return page;
+            }
+            page = new Page(nextId.getAndIncrement(), key, url);
+            PageRef fresh = new PageRef(page, cleared);
+            // Publish only if no other thread got there first; otherwise retry
+            if (ref == null ? byKey.putIfAbsent(key, fresh) == null : byKey.replace(key, ref, fresh)) {
+                return page;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of pages interned and not yet collected.
+     *
+     * @return the number of live pages
+     */
+    public int size() {
+        expungeCleared();
+        return byKey.size();
+    }
+
+    /**
+     * Removes the entries of collected pages. An entry that has already been
+     * replaced by a newer page for the same key is left alone.
+     */
+    private void expungeCleared() {
+        PageRef ref;
+        while ((ref = (PageRef) cleared.poll()) != null) {
+            byKey.remove(ref.key, ref);
+        }
+    }
+
+    /**
+     * Rebuilds a URL from the string {@link URL#toExternalForm()} gave for
+     * it. The string is parsed as a URL, not a URI, because an external form
+     * may hold characters a URI does not allow, such as spaces.
+     *
+     * @param externalForm a URL's external form
+     * @return the URL
+     * @throws MalformedURLException if the string is not a URL
+     */
+    static URL parse(String externalForm) throws MalformedURLException {
+        return new URL(externalForm);
+    }
+
+    /**
+     * Builds the resolver-free key for a URL from its text alone.
+     *
+     * @param url the URL
+     * @return the normalized URL string
+     */
+    static String normalize(URL url) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(url.getProtocol().toLowerCase(Locale.ROOT)).append(':');
+        String host = url.getHost();
+        if (url.getAuthority() != null) {
+            sb.append("//");
+            if (url.getUserInfo() != null) {
+                sb.append(url.getUserInfo()).append('@');
+            }
+            sb.append(host.toLowerCase(Locale.ROOT));
+            int port = url.getPort();
+            if (port != -1 && port != url.getDefaultPort()) {
+                sb.append(':').append(port);
+            }
+        }
+        String file = url.getFile();
+        if (file.isEmpty() && url.getAuthority() != null) {
+            file = "/";
+        }
+        sb.append(file);
+        if (url.getRef() != null) {
+            sb.append('#').append(url.getRef());
+        }
+        return sb.toString();
+    }
+}
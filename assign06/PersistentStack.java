@@ -0,0 +1,112 @@
+package assign06;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A last-in-first-out (LIFO) stack whose contents are an immutable ConsList.
+ *
+ * push and pop replace the stack's reference with a list one cell longer or
+ * shorter; no cell is ever modified. {@link #snapshot()} hands out the current
+ * list in O(1), and that snapshot keeps showing the same elements no matter
+ * how the stack changes afterwards, while sharing all its cells with the live
+ * stack.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ *
+ * @param <E> element type stored in the stack
+ */
+public class PersistentStack<E> implements SnapshotStack<E> {
+
+    /** Current contents; the list's first element is the stack top. */
+    private ConsList<E> elements;
+
+    /**
+     * Constructs an empty stack.
+     */
+    public PersistentStack() {
+        this.elements = ConsList.empty();
+    }
+
+    /**
+     * Replaces the stack's contents with the given list, top first.
+     *
+     * @param contents new contents (must not be null)
+     */
+    @Override
+    public void replace(ConsList<E> contents) {
+        elements = contents;
+    }
+
+    /**
+     * Removes all elements from the stack. Earlier snapshots are unaffected.
+     */
+    @Override
+    public void clear() {
+        elements = ConsList.empty();
+    }
+
+    /**
+     * Reports whether the stack contains no elements.
+     *
+     * @return true if empty; false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return elements.isEmpty();
+    }
+
+    /**
+     * Returns, but does not remove, the element at the top of the stack.
+     *
+     * @return the top element
+     * @throws NoSuchElementException if the stack is empty
+     */
+    @Override
+    public E peek() throws NoSuchElementException {
+        return elements.getFirst();
+    }
+
+    /**
+     * Returns and removes the element at the top of the stack.
+     *
+     * @return the removed top element
+     * @throws NoSuchElementException if the stack is empty
+     */
+    @Override
+    public E pop() throws NoSuchElementException {
+        E top = elements.getFirst();
+        elements = elements.rest();
+        return top;
+    }
+
+    /**
+     * Pushes an element onto the top of the stack.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void push(E element) {
+        elements = elements.prepend(element);
+    }
+
+    /**
+     * Returns the number of elements in the stack.
+     *
+     * @return current size
+     */
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Returns the current contents, top first, as an immutable list. O(1).
+     *
+     * @return a snapshot of the stack
+     */
+    @Override
+    public ConsList<E> snapshot() {
+        return elements;
+    }
+}
@@ -0,0 +1,170 @@
+package assign06;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A last-in-first-out (LIFO) stack of fixed capacity backed by a circular
+ * array. Pushing onto a full stack overwrites the oldest (bottom) element, so
+ * the stack always holds the most recent pushes and its memory never grows.
+ *
+ * push, pop, and peek are O(1) and never allocate. clear() is also O(1): it
+ * only resets the indices, so cleared slots keep their old references until a
+ * later push overwrites them. At most capacity stale references are retained.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ *
+ * @param <E> element type stored in the stack
+ */
+public class RingBufferStack<E> implements SnapshotStack<E> {
+
+    /** Circular storage of fixed length. */
+    private final Object[] elements;
+
+    /** Index the next push writes to; the top is the slot before it. */
+    private int top;
+
+    /** Number of elements in the stack (at most elements.length). */
+    private int size;
+
+    /**
+     * Constructs an empty stack holding at most capacity elements.
+     *
+     * @param capacity maximum number of elements kept (must be positive)
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public RingBufferStack(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, got: " + capacity);
+        }
+        this.elements = new Object[capacity];
+    }
+
+    /**
+     * Removes all elements from the stack. O(1).
+     */
+    @Override
+    public void clear() {
+        top = 0;
+        size = 0;
+    }
+
+    /**
+     * Reports whether the stack contains no elements.
+     *
+     * @return true if empty; false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns, but does not remove, the element at the top of the stack.
+     *
+     * @return the top element
+     * @throws NoSuchElementException if the stack is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() throws NoSuchElementException {
+        if (size == 0) throw new NoSuchElementException("Stack is empty");
+        return (E) elements[previous(top)];
+    }
+
+    /**
+     * Returns and removes the element at the top of the stack.
+     *
+     * @return the removed top element
+     * @throws NoSuchElementException if the stack is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E pop() throws NoSuchElementException {
+        if (size == 0) throw new NoSuchElementException("Stack is empty");
+        top = previous(top);
+        size--;
+        E value = (E) elements[top];
+        elements[top] = null;
+        return value;
+    }
+
+    /**
+     * Pushes an element onto the top of the stack, overwriting the oldest
+     * element if the stack is full.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void push(E element) {
+        elements[top] = element;
+        top = top + 1 == elements.length ? 0 : top + 1;
+        if (size < elements.length) size++;
+    }
+
+    /**
+     * Returns the number of elements in the stack.
+     *
+     * @return current size
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of elements the stack keeps.
+     *
+     * @return capacity
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Copies the current contents, top first, into an immutable list.
+     * O(size).
+     *
+     * @return the stack's contents
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ConsList<E> snapshot() {
+        ConsList<E> list = ConsList.empty();
+        int i = top - size;
+        if (i < 0) i += elements.length;
+        for (int n = 0; n < size; n++) {
+            list = list.prepend((E) elements[i]);
+            i = i + 1 == elements.length ? 0 : i + 1;
+        }
+        return list;
+    }
+
+    /**
+     * Replaces the stack's contents with the given list, top first. If the
+     * list is longer than the capacity only its first capacity elements are
+     * kept.
+     *
+     * @param contents new contents (must not be null)
+     */
+    @Override
+    public void replace(ConsList<E> contents) {
+        Object[] arr = contents.toArray();
+        clear();
+        for (int i = Math.min(arr.length, elements.length) - 1; i >= 0; i--) {
+            elements[top++] = arr[i];
+            size++;
+        }
+        if (top == elements.length) top = 0;
+    }
+
+    /**
+     * Returns the index before i, wrapping around.
+     *
+     * @param i a slot index
+     * @return the previous slot index
+     */
+    private int previous(int i) {
+        return i == 0 ? elements.length - 1 : i - 1;
+    }
+}
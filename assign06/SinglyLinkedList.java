@@ -1,7 +1,16 @@
 package assign06;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A generic singly-linked list that implements the List interface.
@@ -37,15 +46,30 @@ public class SinglyLinkedList<E> implements List<E> {
     /** First node in the list. */
     private Node<E> head;
 
+    /** Last node in the list, so appends do not walk from head. */
+    private Node<E> tail;
+
     /** Number of elements in the list. */
     private int size;
 
+    /**
+     * Index of the most recently located node, or -1 if the cursor is unset.
+     * Walks for an index at or after the cursor start here instead of at head,
+     * so ascending indexed access costs O(1) amortized per call.
+     */
+    private int cursorIndex;
+
+    /** Node at cursorIndex, or null if the cursor is unset. */
+    private Node<E> cursorNode;
+
     /**
      * Constructs an empty list.
      */
     public SinglyLinkedList() {
         head = null;
+        tail = null;
         size = 0;
+        resetCursor();
     }
 
     /**
@@ -56,6 +80,8 @@ public class SinglyLinkedList<E> implements List<E> {
     @Override
     public void insertFirst(E element) {
         head = new Node<>(element, head);
+        if (tail == null) tail = head;
+        if (cursorIndex >= 0) cursorIndex++;
         size++;
     }
 
@@ -73,6 +99,13 @@ public class SinglyLinkedList<E> implements List<E> {
             insertFirst(element);
             return;
         }
+        if (index == size) {
+            tail.next = new Node<>(element, null);
+            tail = tail.next;
+            size++;
+            return;
+        }
+        // nodeAt leaves the cursor on prev, which does not shift
         Node<E> prev = nodeAt(index - 1);
         prev.next = new Node<>(element, prev.next);
         size++;
@@ -114,6 +147,9 @@ public class SinglyLinkedList<E> implements List<E> {
         if (head == null) throw new NoSuchElementException("List is empty");
         E val = head.data;
         head = head.next;
+        if (head == null) tail = null;
+        if (cursorIndex == 0) resetCursor();
+        else if (cursorIndex > 0) cursorIndex--;
         size--;
         return val;
     }
@@ -132,6 +168,7 @@ public class SinglyLinkedList<E> implements List<E> {
         Node<E> prev = nodeAt(index - 1);
         Node<E> target = prev.next;
         prev.next = target.next;
+        if (target == tail) tail = prev;
         size--;
         return target.data;
     }
@@ -186,7 +223,9 @@ public class SinglyLinkedList<E> implements List<E> {
     @Override
     public void clear() {
         head = null;
+        tail = null;
         size = 0;
+        resetCursor();
     }
 
     /**
@@ -206,6 +245,250 @@ public class SinglyLinkedList<E> implements List<E> {
         return arr;
     }
 
+    /**
+     * Returns an array of all elements in order, using the given array if it
+     * is large enough and otherwise a new array of the same runtime type. If
+     * the given array has room to spare, the slot after the last element is
+     * set to null.
+     *
+     * @param <T> component type of the array
+     * @param arr array to fill if large enough
+     * @return array of elements
+     * @throws IllegalArgumentException if arr is null
+     * @throws ArrayStoreException if an element is not an instance of T
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] arr) {
+        if (arr == null) throw new IllegalArgumentException("Array cannot be null");
+        T[] out = arr.length >= size ? arr : Arrays.copyOf(arr, size);
+        int i = 0;
+        for (Node<E> curr = head; curr != null; curr = curr.next) {
+            out[i++] = (T) curr.data;
+        }
+        if (out.length > size) out[size] = null;
+        return out;
+    }
+
+    /**
+     * Appends every element of an Iterable (a Collection or another List), in
+     * iteration order. The new nodes are chained in one pass and linked onto
+     * the tail, so this is O(k) for k elements rather than k indexed inserts.
+     *
+     * @param elements elements to append
+     * @return true if the list changed
+     * @throws IllegalArgumentException if elements is null
+     */
+    public boolean addAll(Iterable<? extends E> elements) {
+        if (elements == null) throw new IllegalArgumentException("Elements cannot be null");
+        Node<E> first = null;
+        Node<E> last = null;
+        int added = 0;
+        for (E element : elements) {
+            Node<E> node = new Node<>(element, null);
+            if (last == null) first = node;
+            else last.next = node;
+            last = node;
+            added++;
+        }
+        if (added == 0) return false;
+        if (tail == null) head = first;
+        else tail.next = first;
+        tail = last;
+        size += added;
+        return true;
+    }
+
+    /**
+     * Performs an action on each element in order, walking the nodes
+     * directly.
+     *
+     * @param action action to perform
+     * @throws NullPointerException if action is null
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (Node<E> curr = head; curr != null; curr = curr.next) {
+            action.accept(curr.data);
+        }
+    }
+
+    /**
+     * Removes every element matching a predicate. The predicate is applied
+     * to every element before any node is unlinked, so if it throws the list
+     * is left unchanged. O(N) time.
+     *
+     * @param filter predicate returning true for elements to remove
+     * @return true if any element was removed
+     * @throws IllegalArgumentException if filter is null
+     */
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) throw new IllegalArgumentException("Filter cannot be null");
+        boolean[] remove = new boolean[size];
+        int removed = 0;
+        int i = 0;
+        for (Node<E> curr = head; curr != null; curr = curr.next, i++) {
+            if (filter.test(curr.data)) {
+                remove[i] = true;
+                removed++;
+            }
+        }
+        if (removed == 0) return false;
+
+        Node<E> kept = null;
+        i = 0;
+        for (Node<E> curr = head; curr != null; curr = curr.next, i++) {
+            if (!remove[i]) {
+                if (kept == null) head = curr;
+                else kept.next = curr;
+                kept = curr;
+            }
+        }
+        if (kept == null) head = null;
+        else kept.next = null;
+        tail = kept;
+        size -= removed;
+        resetCursor();
+        return true;
+    }
+
+    /**
+     * Returns a sequential Stream over the elements. Call parallel() on it to
+     * process large lists in parallel; see {@link #spliterator()}.
+     *
+     * @return stream of elements
+     */
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a Spliterator over the elements that reports an exact size.
+     *
+     * A linked list cannot be split in the middle without walking to it, so
+     * trySplit copies the next batch of elements into an array and hands that
+     * off, keeping the rest of the chain. Batches grow by BATCH_UNIT each
+     * split, as in java.util.LinkedList, so a parallel stream gets work to
+     * other threads early and in ever larger pieces.
+     *
+     * The list must not be changed while the Spliterator is in use.
+     *
+     * @return spliterator
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new SinglyLinkedListSpliterator<>(head, size);
+    }
+
+    /**
+     * Sorts the list in place with a bottom-up merge sort that relinks the
+     * existing nodes. No nodes are allocated, elements are not copied, and
+     * only O(1) extra space is used. The sort is stable.
+     * O(N log N) time.
+     *
+     * If a comparison throws, the runs still waiting to be merged are linked
+     * back onto the partly merged chain before the exception is rethrown, so
+     * the list keeps every element and its size, in an unspecified order.
+     *
+     * @param comparator ordering to sort by, or null to use the elements'
+     *                   natural ordering
+     * @throws ClassCastException if comparator is null and the elements are
+     *                            not mutually Comparable
+     */
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> comparator) {
+        if (size < 2) return;
+        Comparator<? super E> cmp = comparator != null
+                ? comparator
+                : (a, b) -> ((Comparable<? super E>) a).compareTo(b);
+
+        for (int width = 1; width < size; width <<= 1) {
+            Node<E> remaining = head;
+            Node<E> newHead = null;
+            Node<E> tail = null;
+
+            while (remaining != null) {
+                Node<E> left = remaining;
+                Node<E> right = split(left, width);
+                remaining = split(right, width);
+
+                // Merge the two runs, taking from the left run on ties
+                try {
+                    while (left != null && right != null) {
+                        Node<E> next;
+                        if (cmp.compare(right.data, left.data) < 0) {
+                            next = right;
+                            right = right.next;
+                        } else {
+                            next = left;
+                            left = left.next;
+                        }
+                        if (tail == null) newHead = next;
+                        else tail.next = next;
+                        tail = next;
+                    }
+                } catch (RuntimeException | Error e) {
+                    // Relink the unmerged nodes so none are lost
+                    Node<E> pending = link(left, link(right, remaining));
+                    if (tail == null) newHead = pending;
+                    else tail.next = pending;
+                    head = newHead;
+                    this.tail = last(newHead);
+                    resetCursor();
+                    throw e;
+                }
+
+                Node<E> rest = (left != null) ? left : right;
+                if (tail == null) newHead = tail = rest;
+                else tail.next = rest;
+                while (tail.next != null) tail = tail.next;
+            }
+            head = newHead;
+            this.tail = tail;
+        }
+        resetCursor();
+    }
+
+    /**
+     * Links the end of a null-terminated run to rest.
+     *
+     * @param run first node of the run (may be null)
+     * @param rest chain to follow the run (may be null)
+     * @return first node of the combined chain
+     */
+    private static <E> Node<E> link(Node<E> run, Node<E> rest) {
+        if (run == null) return rest;
+        last(run).next = rest;
+        return run;
+    }
+
+    /**
+     * Returns the last node of a null-terminated chain.
+     *
+     * @param start first node of the chain (may be null)
+     * @return last node, or null if the chain is empty
+     */
+    private static <E> Node<E> last(Node<E> start) {
+        if (start == null) return null;
+        while (start.next != null) start = start.next;
+        return start;
+    }
+
+    /**
+     * Cuts the chain after the first {@code width} nodes starting at start.
+     *
+     * @param start first node of the run (may be null)
+     * @param width number of nodes to keep in the run
+     * @return first node after the run, or null if none
+     */
+    private static <E> Node<E> split(Node<E> start, int width) {
+        for (int i = 1; start != null && i < width; i++) start = start.next;
+        if (start == null) return null;
+        Node<E> rest = start.next;
+        start.next = null;
+        return rest;
+    }
+
     /**
      * Returns an iterator over the elements from first to last.
      *
@@ -266,6 +549,8 @@ public class SinglyLinkedList<E> implements List<E> {
             } else {
                 lastReturnedPrev.next = lastReturned.next;
             }
+            if (lastReturned == tail) tail = lastReturnedPrev;
+            resetCursor();
             size--;
             prev = lastReturnedPrev;
             lastReturned = null;
@@ -273,6 +558,81 @@ public class SinglyLinkedList<E> implements List<E> {
         }
     }
 
+    /**
+     * Spliterator that walks the chain and splits off array batches.
+     */
+    private static final class SinglyLinkedListSpliterator<E> implements Spliterator<E> {
+        /** Growth step of split batch sizes. */
+        private static final int BATCH_UNIT = 1 << 10;
+
+        /** Largest batch split off at once. */
+        private static final int MAX_BATCH = 1 << 25;
+
+        private Node<E> current;
+        private int remaining;
+        private int batch = 0;
+
+        /**
+         * Creates a spliterator over count nodes starting at first.
+         *
+         * @param first first node
+         * @param count number of nodes to cover
+         */
+        SinglyLinkedListSpliterator(Node<E> first, int count) {
+            this.current = first;
+            this.remaining = count;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            if (remaining <= 0 || current == null) return false;
+            E value = current.data;
+            current = current.next;
+            remaining--;
+            action.accept(value);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            Node<E> curr = current;
+            int n = remaining;
+            current = null;
+            remaining = 0;
+            for (; n > 0 && curr != null; n--, curr = curr.next) {
+                action.accept(curr.data);
+            }
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            if (remaining <= 1 || current == null) return null;
+            int n = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), remaining);
+            Object[] arr = new Object[n];
+            int j = 0;
+            Node<E> curr = current;
+            for (; j < n && curr != null; j++, curr = curr.next) {
+                arr[j] = curr.data;
+            }
+            current = curr;
+            remaining -= j;
+            batch = j;
+            return Spliterators.spliterator(arr, 0, j, ORDERED);
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
     /**
      * Checks an index for element access (0 <= index < size).
      *
@@ -296,14 +656,35 @@ public class SinglyLinkedList<E> implements List<E> {
     }
 
     /**
-     * Returns the node at an index.
+     * Unsets the cursor, dropping its node so it cannot keep unlinked nodes
+     * reachable.
+     */
+    private void resetCursor() {
+        cursorIndex = -1;
+        cursorNode = null;
+    }
+
+    /**
+     * Returns the node at an index, starting from the tail or the cursor when
+     * that is closer than head, and moves the cursor there.
      *
-     * @param index index to locate
+     * @param index index to locate (0 <= index < size)
      * @return node at index
      */
     private Node<E> nodeAt(int index) {
-        Node<E> curr = head;
-        for (int i = 0; i < index; i++) curr = curr.next;
+        if (index == size - 1) return tail;
+        Node<E> curr;
+        int i;
+        if (cursorIndex >= 0 && cursorIndex <= index) {
+            curr = cursorNode;
+            i = cursorIndex;
+        } else {
+            curr = head;
+            i = 0;
+        }
+        for (; i < index; i++) curr = curr.next;
+        cursorIndex = index;
+        cursorNode = curr;
         return curr;
     }
 }
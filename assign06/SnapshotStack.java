@@ -0,0 +1,28 @@
+package assign06;
+
+/**
+ * A stack whose whole contents can be read and replaced as an immutable
+ * ConsList. WebBrowser uses it to hand out history and to restore a session
+ * without caring whether its stacks are persistent or fixed-size.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ *
+ * @param <E> element type stored in the stack
+ */
+interface SnapshotStack<E> extends Stack<E> {
+
+    /**
+     * Returns the current contents, top first, as an immutable list.
+     *
+     * @return the stack's contents
+     */
+    ConsList<E> snapshot();
+
+    /**
+     * Replaces the stack's contents with the given list, top first.
+     *
+     * @param contents new contents (must not be null)
+     */
+    void replace(ConsList<E> contents);
+}
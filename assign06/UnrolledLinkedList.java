@@ -0,0 +1,449 @@
+package assign06;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A generic unrolled linked list that implements the List interface.
+ *
+ * Each node holds up to a fixed number of elements (64 by default) in an
+ * array instead of a single element. That cuts the per-element node
+ * allocation of SinglyLinkedList, and iteration, indexOf and toArray scan
+ * contiguous arrays instead of chasing one pointer per element. get(index)
+ * skips whole nodes by their element counts, so it visits about
+ * index / nodeCapacity nodes.
+ *
+ * A full node is split in half before an insert. After a delete, a node that
+ * drops below half full is merged with its successor when both fit in one
+ * node, and an empty node is unlinked. Appending to a full tail starts a new
+ * node, so lists built by appending stay densely packed.
+ *
+ * @author Tyler Gagliardi
+ * @version October 2025
+ *
+ * @param <E> element type
+ */
+public class UnrolledLinkedList<E> implements List<E> {
+
+    /** Node capacity used by the no-argument constructor. */
+    public static final int DEFAULT_NODE_CAPACITY = 64;
+
+    /** Smallest node capacity accepted. */
+    public static final int MIN_NODE_CAPACITY = 4;
+
+    /**
+     * Node holding a run of consecutive elements in items[0..count).
+     */
+    private static final class Node {
+        final Object[] items;
+        int count;
+        Node next;
+
+        /**
+         * Creates an empty node.
+         *
+         * @param capacity length of the element array
+         */
+        Node(int capacity) {
+            items = new Object[capacity];
+        }
+    }
+
+    /** First node in the list, or null if empty. */
+    private Node head;
+
+    /** Last node in the list, or null if empty. */
+    private Node tail;
+
+    /** Number of elements in the list. */
+    private int size;
+
+    /** Maximum number of elements per node. */
+    private final int nodeCapacity;
+
+    /**
+     * Constructs an empty list with the default node capacity.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the given node capacity.
+     *
+     * @param nodeCapacity maximum elements per node (at least
+     *                     MIN_NODE_CAPACITY)
+     * @throws IllegalArgumentException if nodeCapacity is too small
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < MIN_NODE_CAPACITY)
+            throw new IllegalArgumentException("Node capacity must be at least " + MIN_NODE_CAPACITY
+                    + ", got: " + nodeCapacity);
+        this.nodeCapacity = nodeCapacity;
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Inserts an element at the beginning.
+     * O(nodeCapacity) time.
+     *
+     * @param element element to insert
+     */
+    @Override
+    public void insertFirst(E element) {
+        insert(0, element);
+    }
+
+    /**
+     * Inserts an element at a position.
+     * O(index / nodeCapacity + nodeCapacity) time; O(1) amortized at the end.
+     *
+     * @param index position to insert at (0-based, inclusive)
+     * @param element element to insert
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    @Override
+    public void insert(int index, E element) throws IndexOutOfBoundsException {
+        checkPositionIndex(index);
+        if (head == null) {
+            head = tail = new Node(nodeCapacity);
+        }
+
+        Node node;
+        int offset;
+        if (index == size) {
+            node = tail;
+            offset = tail.count;
+        } else {
+            node = head;
+            offset = index;
+            while (offset >= node.count) {
+                offset -= node.count;
+                node = node.next;
+            }
+        }
+
+        if (node.count == nodeCapacity) {
+            if (offset == nodeCapacity) {
+                // Appending past a full node: start a fresh node after it
+                Node fresh = new Node(nodeCapacity);
+                fresh.next = node.next;
+                node.next = fresh;
+                if (tail == node) tail = fresh;
+                node = fresh;
+                offset = 0;
+            } else {
+                Node upper = split(node);
+                if (offset > node.count) {
+                    offset -= node.count;
+                    node = upper;
+                }
+            }
+        }
+
+        System.arraycopy(node.items, offset, node.items, offset + 1, node.count - offset);
+        node.items[offset] = element;
+        node.count++;
+        size++;
+    }
+
+    /**
+     * Returns the first element.
+     *
+     * @return first element
+     * @throws NoSuchElementException if empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E getFirst() throws NoSuchElementException {
+        if (size == 0) throw new NoSuchElementException("List is empty");
+        return (E) head.items[0];
+    }
+
+    /**
+     * Returns the element at an index.
+     * O(index / nodeCapacity) time.
+     *
+     * @param index index to get
+     * @return element at index
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkElementIndex(index);
+        if (index >= size - tail.count) return (E) tail.items[index - (size - tail.count)];
+        Node node = head;
+        int offset = index;
+        while (offset >= node.count) {
+            offset -= node.count;
+            node = node.next;
+        }
+        return (E) node.items[offset];
+    }
+
+    /**
+     * Deletes and returns the first element.
+     *
+     * @return removed element
+     * @throws NoSuchElementException if empty
+     */
+    @Override
+    public E deleteFirst() throws NoSuchElementException {
+        if (size == 0) throw new NoSuchElementException("List is empty");
+        return delete(0);
+    }
+
+    /**
+     * Deletes and returns the element at an index.
+     * O(index / nodeCapacity + nodeCapacity) time.
+     *
+     * @param index index to delete
+     * @return removed element
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E delete(int index) throws IndexOutOfBoundsException {
+        checkElementIndex(index);
+        Node prev = null;
+        Node node = head;
+        int offset = index;
+        while (offset >= node.count) {
+            offset -= node.count;
+            prev = node;
+            node = node.next;
+        }
+
+        E val = (E) node.items[offset];
+        System.arraycopy(node.items, offset + 1, node.items, offset, node.count - offset - 1);
+        node.items[--node.count] = null;
+        size--;
+
+        if (node.count == 0) {
+            unlink(prev, node);
+        } else if (node.count < nodeCapacity / 2 && node.next != null
+                && node.count + node.next.count <= nodeCapacity) {
+            Node next = node.next;
+            System.arraycopy(next.items, 0, node.items, node.count, next.count);
+            node.count += next.count;
+            node.next = next.next;
+            if (tail == next) tail = node;
+        }
+        return val;
+    }
+
+    /**
+     * Returns the index of the first occurrence of an element.
+     *
+     * @param element element to find
+     * @return index or -1 if not found
+     */
+    @Override
+    public int indexOf(E element) {
+        int base = 0;
+        for (Node node = head; node != null; node = node.next) {
+            Object[] items = node.items;
+            int count = node.count;
+            if (element == null) {
+                for (int i = 0; i < count; i++) {
+                    if (items[i] == null) return base + i;
+                }
+            } else {
+                for (int i = 0; i < count; i++) {
+                    if (element.equals(items[i])) return base + i;
+                }
+            }
+            base += count;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the list is empty.
+     *
+     * @return true if empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all elements.
+     */
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Returns an array of all elements in order.
+     *
+     * @return array of elements
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] arr = new Object[size];
+        int i = 0;
+        for (Node node = head; node != null; node = node.next) {
+            System.arraycopy(node.items, 0, arr, i, node.count);
+            i += node.count;
+        }
+        return arr;
+    }
+
+    /**
+     * Returns an iterator over the elements from first to last.
+     *
+     * @return iterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new UnrolledLinkedListIterator();
+    }
+
+    /**
+     * Returns the number of nodes currently in the list (for testing).
+     *
+     * @return node count
+     */
+    int nodeCount() {
+        int n = 0;
+        for (Node node = head; node != null; node = node.next) n++;
+        return n;
+    }
+
+    /**
+     * Iterator over the list that supports removal. Removal compacts the
+     * current node and unlinks it once empty, but does not merge nodes, so the
+     * iterator's position is never moved under it.
+     */
+    private final class UnrolledLinkedListIterator implements Iterator<E> {
+        private Node node = head;
+        private Node nodePrev = null;
+        private int offset = 0;
+        private int remaining = size;
+        private boolean canRemove = false;
+
+        /**
+         * Returns whether another element exists.
+         *
+         * @return true if another element is available
+         */
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        /**
+         * Returns the next element.
+         *
+         * @return next element
+         * @throws NoSuchElementException if none remain
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (remaining == 0) throw new NoSuchElementException();
+            while (offset == node.count) {
+                nodePrev = node;
+                node = node.next;
+                offset = 0;
+            }
+            remaining--;
+            canRemove = true;
+            return (E) node.items[offset++];
+        }
+
+        /**
+         * Removes the last element returned by next().
+         *
+         * @throws IllegalStateException if next() not called or remove() already used
+         */
+        @Override
+        public void remove() {
+            if (!canRemove) throw new IllegalStateException();
+            offset--;
+            System.arraycopy(node.items, offset + 1, node.items, offset, node.count - offset - 1);
+            node.items[--node.count] = null;
+            size--;
+            if (node.count == 0) {
+                Node next = node.next;
+                unlink(nodePrev, node);
+                node = next; // may be null, but then remaining is 0
+                offset = 0;
+            }
+            canRemove = false;
+        }
+    }
+
+    /**
+     * Moves the upper half of a full node into a new node linked after it.
+     *
+     * @param node node to split
+     * @return the new node holding the upper half
+     */
+    private Node split(Node node) {
+        Node upper = new Node(nodeCapacity);
+        int keep = node.count / 2;
+        int move = node.count - keep;
+        System.arraycopy(node.items, keep, upper.items, 0, move);
+        Arrays.fill(node.items, keep, node.count, null);
+        upper.count = move;
+        node.count = keep;
+        upper.next = node.next;
+        node.next = upper;
+        if (tail == node) tail = upper;
+        return upper;
+    }
+
+    /**
+     * Removes a node from the chain.
+     *
+     * @param prev node before it, or null if it is head
+     * @param node node to remove
+     */
+    private void unlink(Node prev, Node node) {
+        if (prev == null) head = node.next;
+        else prev.next = node.next;
+        if (tail == node) tail = prev;
+    }
+
+    /**
+     * Checks an index for element access (0 <= index < size).
+     *
+     * @param index index to check
+     * @throws IndexOutOfBoundsException if invalid
+     */
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    /**
+     * Checks an index for insertion (0 <= index <= size).
+     *
+     * @param index index to check
+     * @throws IndexOutOfBoundsException if invalid
+     */
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+}
@@ -3,64 +3,149 @@ package assign06;
 import java.net.URL;
 import java.util.NoSuchElementException;
 
+import assign06.PageTable.Page;
+
 /**
  * Simulates a web browser with back and forward navigation functionality. Uses
  * two stacks to maintain browsing history and forward history.
  *
+ * By default both stacks are PersistentStacks backed by immutable ConsLists,
+ * so the browsing history can be handed out as an O(1) snapshot that shares
+ * its cells with the live back stack and stays valid after further
+ * navigation.
+ *
+ * Pages are stored as interned {@link Page} handles from a {@link PageTable}
+ * rather than as URLs, because URL.equals and hashCode perform blocking DNS
+ * lookups. URLs only appear at the API boundary: visit interns the URL it is
+ * given, and back, forward, and history return the interned URL.
+ *
+ * A browser may instead be given a capacity, for long-lived sessions whose
+ * memory must stay flat. The back and forward stacks are then fixed-size
+ * RingBufferStacks: once one holds capacity pages, each new entry overwrites
+ * its oldest, and navigation allocates nothing. historyView() has to copy the
+ * back stack in that mode, so it costs O(capacity) instead of O(1).
+ *
  * @author Alex Waldmann
  * @author Tyler Gagliardi
  * @version October 16, 2025
  */
 public class WebBrowser {
 
+    /** Capacity meaning the back and forward stacks grow without limit. */
+    public static final int UNBOUNDED = 0;
+
     /**
      * Stack to maintain history of previously visited pages (for back button).
      */
-    private final Stack<URL> backStack;
+    private final SnapshotStack<Page> backStack;
 
     /**
      * Stack to maintain forward navigation history (for forward button).
      */
-    private final Stack<URL> forwardStack;
+    private final SnapshotStack<Page> forwardStack;
+
+    /**
+     * Maximum pages kept on each stack, or UNBOUNDED.
+     */
+    private final int capacity;
 
     /**
      * The current webpage being viewed.
      */
-    private URL currentPage;
+    private Page currentPage;
+
+    /**
+     * Table the browser's pages are interned in.
+     */
+    private final PageTable pages;
 
     /**
-     * Constructs a new web browser with no history.
+     * Constructs a new web browser with no history and its own page table.
      */
     public WebBrowser() {
-        this.backStack = new LinkedListStack<>();
-        this.forwardStack = new LinkedListStack<>();
-        this.currentPage = null;
+        this(null, new PageTable());
+    }
+
+    /**
+     * Constructs a new web browser with no history whose back and forward
+     * stacks each keep at most capacity pages, dropping the oldest beyond
+     * that. The browser has its own page table.
+     *
+     * @param capacity maximum pages kept on each stack, or UNBOUNDED
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public WebBrowser(int capacity) {
+        this(null, new PageTable(), capacity);
     }
 
     /**
      * Constructs a new web browser with a preloaded history of visited
      * webpages. The first webpage in the list is the "current" page, and the
      * remaining webpages are ordered from most recently visited to least
-     * recently visited.
+     * recently visited. The browser has its own page table.
+     *
+     * @param history list of URLs representing browsing history
+     */
+    public WebBrowser(List<URL> history) {
+        this(history, new PageTable());
+    }
+
+    /**
+     * Constructs a new web browser with a preloaded history (which may be null
+     * or empty) that interns its pages in the given table. Browsers that
+     * share a table share its Page objects, which is worthwhile when many of
+     * them visit the same URLs.
      *
      * @param history list of URLs representing browsing history
+     * @param pages the page table to use
+     * @throws IllegalArgumentException if pages is null
      */
-    public WebBrowser(SinglyLinkedList<URL> history) {
-        this.backStack = new LinkedListStack<>();
-        this.forwardStack = new LinkedListStack<>();
+    public WebBrowser(List<URL> history, PageTable pages) {
+        this(history, pages, UNBOUNDED);
+    }
+
+    /**
+     * Constructs a new web browser with a preloaded history (which may be null
+     * or empty) that interns its pages in the given table, and whose back and
+     * forward stacks each keep at most capacity pages. If the preloaded
+     * history has more than capacity previous pages, the oldest are dropped.
+     *
+     * @param history list of URLs representing browsing history
+     * @param pages the page table to use
+     * @param capacity maximum pages kept on each stack, or UNBOUNDED
+     * @throws IllegalArgumentException if pages is null or capacity is
+     * negative
+     */
+    public WebBrowser(List<URL> history, PageTable pages, int capacity) {
+        if (pages == null) {
+            throw new IllegalArgumentException("Page table cannot be null");
+        }
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative, got: " + capacity);
+        }
+        this.pages = pages;
+        this.capacity = capacity;
+        if (capacity == UNBOUNDED) {
+            this.backStack = new PersistentStack<>();
+            this.forwardStack = new PersistentStack<>();
+        } else {
+            this.backStack = new RingBufferStack<>(capacity);
+            this.forwardStack = new RingBufferStack<>(capacity);
+        }
+        this.currentPage = null;
 
         if (history == null || history.isEmpty()) {
-            this.currentPage = null;
             return;
         }
 
         // First element becomes current page
-        this.currentPage = history.getFirst();
+        this.currentPage = intern(history.getFirst());
 
         // Remaining elements go into back stack in reverse order
         // (push from last to first, so when we pop we get them in correct order)
-        for (int i = history.size() - 1; i >= 1; i--) {
-            backStack.push(history.get(i));
+        Object[] urls = history.toArray();
+        for (int i = urls.length - 1; i >= 1; i--) {
+            backStack.push(intern((URL) urls[i]));
         }
     }
 
@@ -77,9 +162,9 @@ public class WebBrowser {
         }
 
         // Set the new current page
-        currentPage = webpage;
+        currentPage = intern(webpage);
 
-        // Clear forward stack (like a real browser)
+        // Clear forward stack (like a real browser); O(1) for either stack type
         forwardStack.clear();
     }
 
@@ -103,7 +188,7 @@ public class WebBrowser {
         // Pop from back stack and make it current
         currentPage = backStack.pop();
 
-        return currentPage;
+        return urlOf(currentPage);
     }
 
     /**
@@ -126,7 +211,7 @@ public class WebBrowser {
         // Pop from forward stack and make it current
         currentPage = forwardStack.pop();
 
-        return currentPage;
+        return urlOf(currentPage);
     }
 
     /**
@@ -134,34 +219,128 @@ public class WebBrowser {
      * visited to least recently visited (including the current page). Forward
      * links are not included. This method does not alter the browser's state.
      *
-     * Time complexity: O(N) where N is the number of URLs in history
+     * Time complexity: O(N) where N is the number of URLs in history. Use
+     * {@link #historyView()} for an O(1) read-only snapshot.
      *
      * @return a list of URLs in browsing history
      */
     public SinglyLinkedList<URL> history() {
         SinglyLinkedList<URL> historyList = new SinglyLinkedList<>();
-
-        // Add current page first
-        if (currentPage != null) {
-            historyList.insertFirst(currentPage);
+        for (Page page : historyView()) {
+            historyList.insert(historyList.size(), urlOf(page)); // O(1) append
         }
+        return historyList;
+    }
 
-        // We need to get all items from back stack without modifying it
-        // Use a temporary stack to preserve order
-        Stack<URL> tempStack = new LinkedListStack<>();
+    /**
+     * Returns the browsing history, ordered from most recently visited to least
+     * recently visited (including the current page), as an immutable list that
+     * shares its cells with the back stack. Later calls to visit, back, or
+     * forward do not change a view that was already returned. Interned pages
+     * compare by identity, so searching the view never resolves host names.
+     *
+     * Time complexity: O(1), or O(capacity) for a browser with a capacity
+     *
+     * @return an immutable snapshot of the browsing history
+     */
+    public ConsList<Page> historyView() {
+        ConsList<Page> back = backStack.snapshot();
+        return currentPage == null ? back : back.prepend(currentPage);
+    }
 
-        // Pop all items from back stack to temp stack, adding to history as we go
-        while (!backStack.isEmpty()) {
-            URL page = backStack.pop();
-            historyList.insert(historyList.size(), page); // Add to history in correct order
-            tempStack.push(page);
-        }
+    /**
+     * Returns the current page (for session persistence).
+     *
+     * @return the current page, or null if none
+     */
+    Page currentPage() {
+        return currentPage;
+    }
 
-        // Restore back stack from temp stack
-        while (!tempStack.isEmpty()) {
-            backStack.push(tempStack.pop());
-        }
+    /**
+     * Returns the back stack, most recent first (for session persistence).
+     *
+     * @return snapshot of the back stack
+     */
+    ConsList<Page> backSnapshot() {
+        return backStack.snapshot();
+    }
 
-        return historyList;
+    /**
+     * Returns the forward stack, next page first (for session persistence).
+     *
+     * @return snapshot of the forward stack
+     */
+    ConsList<Page> forwardSnapshot() {
+        return forwardStack.snapshot();
+    }
+
+    /**
+     * Replaces the browser's entire state (for session persistence).
+     *
+     * @param current the current page, or null
+     * @param back the back stack, most recent first
+     * @param forward the forward stack, next page first
+     */
+    void restore(Page current, ConsList<Page> back, ConsList<Page> forward) {
+        currentPage = current;
+        backStack.replace(back);
+        forwardStack.replace(forward);
+    }
+
+    /**
+     * Returns the number of pages on the back stack. O(1).
+     *
+     * @return the back stack's size
+     */
+    int backSize() {
+        return backStack.size();
+    }
+
+    /**
+     * Returns the number of pages on the forward stack. O(1).
+     *
+     * @return the forward stack's size
+     */
+    int forwardSize() {
+        return forwardStack.size();
+    }
+
+    /**
+     * Returns the page table this browser interns its pages in.
+     *
+     * @return the page table
+     */
+    public PageTable getPageTable() {
+        return pages;
+    }
+
+    /**
+     * Returns the capacity of each of the back and forward stacks.
+     *
+     * @return the capacity, or UNBOUNDED
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Interns a URL, keeping null as null.
+     *
+     * @param url the URL, possibly null
+     * @return the interned page, or null
+     */
+    private Page intern(URL url) {
+        return url == null ? null : pages.intern(url);
+    }
+
+    /**
+     * Returns the URL of a page, keeping null as null.
+     *
+     * @param page the page, possibly null
+     * @return the page's URL, or null
+     */
+    private static URL urlOf(Page page) {
+        return page == null ? null : page.url();
     }
 }
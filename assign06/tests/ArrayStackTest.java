@@ -0,0 +1,147 @@
+package assign06;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for ArrayStack, covering stack behavior and the growth and shrink
+ * policy of the backing array.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ */
+public class ArrayStackTest {
+
+    private ArrayStack<Integer> stack;
+
+    @BeforeEach
+    void setUp() {
+        stack = new ArrayStack<>();
+    }
+
+    // ========== Constructor Tests ==========
+    @Test
+    void testConstructor() {
+        assertEquals(0, stack.size());
+        assertTrue(stack.isEmpty());
+        assertEquals(ArrayStack.DEFAULT_CAPACITY, stack.capacity());
+    }
+
+    @Test
+    void testConstructorInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ArrayStack<Integer>(0));
+        assertThrows(IllegalArgumentException.class, () -> new ArrayStack<Integer>(4, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new ArrayStack<Integer>(4, Double.NaN));
+    }
+
+    // ========== Stack Behavior Tests ==========
+    @Test
+    void testPushPopLIFO() {
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+        assertEquals(100, stack.size());
+        assertEquals(99, stack.peek());
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(i, stack.pop());
+        }
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    void testEmptyThrows() {
+        assertThrows(NoSuchElementException.class, () -> stack.pop());
+        assertThrows(NoSuchElementException.class, () -> stack.peek());
+    }
+
+    @Test
+    void testPushNull() {
+        stack.push(1);
+        stack.push(null);
+        assertNull(stack.peek());
+        assertNull(stack.pop());
+        assertEquals(1, stack.pop());
+    }
+
+    @Test
+    void testClearAndReuse() {
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+        stack.clear();
+        assertTrue(stack.isEmpty());
+        assertEquals(ArrayStack.DEFAULT_CAPACITY, stack.capacity());
+        stack.push(7);
+        assertEquals(7, stack.peek());
+    }
+
+    // ========== Growth and Shrink Tests ==========
+    @Test
+    void testGrowthFactor() {
+        ArrayStack<Integer> s = new ArrayStack<>(4, 1.5);
+        for (int i = 0; i < 5; i++) {
+            s.push(i);
+        }
+        assertEquals(6, s.capacity());
+    }
+
+    @Test
+    void testSmallGrowthFactorStillGrows() {
+        ArrayStack<Integer> s = new ArrayStack<>(1, 1.1);
+        for (int i = 0; i < 10; i++) {
+            s.push(i);
+        }
+        assertEquals(10, s.size());
+        assertEquals(9, s.peek());
+    }
+
+    @Test
+    void testShrinkAtQuarter() {
+        ArrayStack<Integer> s = new ArrayStack<>(4);
+        for (int i = 0; i < 16; i++) {
+            s.push(i);
+        }
+        assertEquals(16, s.capacity());
+        while (s.size() > 5) {
+            s.pop();
+        }
+        assertEquals(16, s.capacity());
+        s.pop(); // size 4 == capacity / 4
+        assertEquals(8, s.capacity());
+        assertEquals(3, s.peek());
+    }
+
+    @Test
+    void testNoThrashingAtBoundary() {
+        ArrayStack<Integer> s = new ArrayStack<>(4);
+        for (int i = 0; i < 8; i++) {
+            s.push(i);
+        }
+        assertEquals(8, s.capacity());
+        // Oscillating across the grow point must not shrink straight back
+        for (int i = 0; i < 10; i++) {
+            s.push(-1);
+            assertEquals(16, s.capacity());
+            s.pop();
+            assertEquals(16, s.capacity());
+        }
+    }
+
+    @Test
+    void testNeverShrinksBelowInitialCapacity() {
+        ArrayStack<Integer> s = new ArrayStack<>(32);
+        for (int i = 0; i < 100; i++) {
+            s.push(i);
+        }
+        while (!s.isEmpty()) {
+            s.pop();
+        }
+        assertEquals(32, s.capacity());
+    }
+}
@@ -0,0 +1,221 @@
+package assign06;
+
+import java.net.URI;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test suite for BrowserSessionManager navigation, history capping, and
+ * eviction to disk.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ */
+public class BrowserSessionManagerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static URL url(int i) {
+        try {
+            return URI.create("https://example.com/page" + i).toURL();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private long spillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void testSessionsAreIndependent() {
+        BrowserSessionManager manager = new BrowserSessionManager(4, 100, 10_000, tempDir);
+        manager.visit("alice", url(1));
+        manager.visit("alice", url(2));
+        manager.visit("bob", url(3));
+
+        assertEquals(url(1).toString(), manager.back("alice").toString());
+        assertEquals(url(2).toString(), manager.forward("alice").toString());
+        assertThrows(NoSuchElementException.class, () -> manager.back("bob"));
+        assertEquals(1, manager.history("bob").size());
+        assertEquals(2, manager.residentSessions());
+    }
+
+    @Test
+    void testHistoryDepthIsCapped() {
+        BrowserSessionManager manager = new BrowserSessionManager(1, 10, 10_000, tempDir);
+        for (int i = 0; i < 1000; i++) {
+            manager.visit("s", url(i));
+            assertTrue(manager.history("s").size() <= 11);
+        }
+        SinglyLinkedList<URL> history = manager.history("s");
+        assertEquals(11, history.size());
+        assertEquals(url(999).toString(), history.getFirst().toString());
+        assertEquals(url(989).toString(), history.get(10).toString());
+        assertEquals(11, manager.residentPages());
+
+        for (int i = 0; i < 10; i++) {
+            manager.back("s");
+        }
+        assertThrows(NoSuchElementException.class, () -> manager.back("s"));
+        assertEquals(11, manager.residentPages());
+    }
+
+    @Test
+    void testEvictionAndLazyRestore() throws IOException {
+        // One stripe with room for about two sessions of 5 pages
+        BrowserSessionManager manager = new BrowserSessionManager(1, 100, 10, tempDir);
+        for (int s = 0; s < 5; s++) {
+            for (int i = 0; i < 5; i++) {
+                manager.visit("session" + s, url(s * 10 + i));
+            }
+            manager.back("session" + s); // leave a forward entry to persist too
+        }
+        assertTrue(manager.residentPages() <= 10);
+        assertTrue(manager.spilledSessions() >= 3);
+        assertEquals(manager.spilledSessions(), spillFiles());
+
+        // Restoring session0 brings back its full state
+        SinglyLinkedList<URL> history = manager.history("session0");
+        assertEquals(4, history.size());
+        assertEquals(url(3).toString(), history.getFirst().toString());
+        assertEquals(url(4).toString(), manager.forward("session0").toString());
+        assertEquals(url(3).toString(), manager.back("session0").toString());
+        assertTrue(manager.residentPages() <= 10);
+    }
+
+    @Test
+    void testRestoresUrlsThatAreNotUris() throws Exception {
+        // URL accepts a space in the path, which URI would reject
+        URL spaced = new URL("http://example.com/a b");
+        BrowserSessionManager manager = new BrowserSessionManager(1, 100, 4, tempDir);
+        manager.visit("s0", url(1));
+        manager.visit("s0", spaced);
+        manager.visit("s0", url(2));
+        manager.back("s0");
+        for (int i = 0; i < 4; i++) {
+            manager.visit("s1", url(10 + i));
+        }
+        assertEquals(1, manager.spilledSessions());
+        assertEquals(1, spillFiles());
+
+        assertEquals(spaced.toString(), manager.history("s0").getFirst().toString());
+        assertEquals(url(2).toString(), manager.forward("s0").toString());
+        assertEquals(spaced.toString(), manager.back("s0").toString());
+        assertEquals(url(1).toString(), manager.back("s0").toString());
+    }
+
+    @Test
+    void testRemove() throws IOException {
+        BrowserSessionManager manager = new BrowserSessionManager(1, 100, 4, tempDir);
+        for (int s = 0; s < 3; s++) {
+            manager.visit("s" + s, url(s));
+            manager.visit("s" + s, url(s + 100));
+            manager.visit("s" + s, url(s + 200));
+        }
+        assertTrue(manager.spilledSessions() > 0);
+        for (int s = 0; s < 3; s++) {
+            manager.remove("s" + s);
+        }
+        assertEquals(0, manager.residentSessions());
+        assertEquals(0, manager.spilledSessions());
+        assertEquals(0, manager.residentPages());
+        assertEquals(0, spillFiles());
+        assertEquals(0, manager.history("s0").size());
+    }
+
+    @Test
+    void testConcurrentSessions() throws InterruptedException {
+        BrowserSessionManager manager = new BrowserSessionManager(8, 50, 400, tempDir);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            final int id = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    for (int round = 0; round < 200; round++) {
+                        String session = "user" + (id * 10 + round % 10);
+                        manager.visit(session, url(round));
+                        if (round >= 10 && round % 3 == 0) {
+                            manager.back(session);
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure.get());
+        assertEquals(80, manager.residentSessions() + manager.spilledSessions());
+        for (int s = 0; s < 80; s++) {
+            assertTrue(manager.history("user" + s).size() > 0);
+        }
+    }
+
+    @Test
+    void testReclaimWhileSpilling() throws Exception {
+        // A budget of one page per stripe evicts on nearly every call, so
+        // sessions are regularly reclaimed while their spill is being written
+        BrowserSessionManager manager = new BrowserSessionManager(1, 20, 1, tempDir);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final int id = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    for (int round = 0; round < 300; round++) {
+                        String session = "user" + (round % 4);
+                        manager.visit(session, url(id * 1000 + round));
+                        SinglyLinkedList<URL> history = manager.history(session);
+                        assertTrue(history.size() > 0 && history.size() <= 21);
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure.get());
+        assertEquals(4, manager.residentSessions() + manager.spilledSessions());
+        assertEquals(manager.spilledSessions(), spillFiles());
+        for (int s = 0; s < 4; s++) {
+            assertEquals(21, manager.history("user" + s).size());
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BrowserSessionManager(0, 10, 10, tempDir));
+        assertThrows(IllegalArgumentException.class, () -> new BrowserSessionManager(1, 0, 10, tempDir));
+        assertThrows(IllegalArgumentException.class, () -> new BrowserSessionManager(4, 10, 3, tempDir));
+        assertThrows(IllegalArgumentException.class, () -> new BrowserSessionManager(1, 10, 10, null));
+        BrowserSessionManager manager = new BrowserSessionManager(1, 10, 10, tempDir);
+        assertThrows(IllegalArgumentException.class, () -> manager.visit(null, url(1)));
+    }
+}
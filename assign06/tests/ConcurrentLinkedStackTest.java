@@ -0,0 +1,142 @@
+package assign06;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for ConcurrentLinkedStack, covering single-threaded stack
+ * behavior and element conservation under concurrent push/pop.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ */
+public class ConcurrentLinkedStackTest {
+
+    // ========== Single-Threaded Tests ==========
+    @Test
+    void testLIFOBehavior() {
+        ConcurrentLinkedStack<Integer> stack = new ConcurrentLinkedStack<>();
+        assertTrue(stack.isEmpty());
+        for (int i = 0; i < 10; i++) {
+            stack.push(i);
+        }
+        assertEquals(10, stack.size());
+        assertEquals(9, stack.peek());
+        for (int i = 9; i >= 0; i--) {
+            assertEquals(i, stack.pop());
+        }
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.size());
+    }
+
+    @Test
+    void testEmptyThrows() {
+        ConcurrentLinkedStack<Integer> stack = new ConcurrentLinkedStack<>(4);
+        assertThrows(NoSuchElementException.class, () -> stack.pop());
+        assertThrows(NoSuchElementException.class, () -> stack.peek());
+    }
+
+    @Test
+    void testPushNull() {
+        ConcurrentLinkedStack<String> stack = new ConcurrentLinkedStack<>();
+        stack.push("a");
+        stack.push(null);
+        assertNull(stack.pop());
+        assertEquals("a", stack.pop());
+    }
+
+    @Test
+    void testClear() {
+        ConcurrentLinkedStack<Integer> stack = new ConcurrentLinkedStack<>();
+        for (int i = 0; i < 5; i++) {
+            stack.push(i);
+        }
+        stack.clear();
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.size());
+        stack.push(1);
+        assertFalse(stack.isEmpty());
+        assertEquals(1, stack.size());
+    }
+
+    @Test
+    void testNegativeSlots() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentLinkedStack<Integer>(-1));
+    }
+
+    // ========== Concurrent Tests ==========
+    /**
+     * Each thread pushes a disjoint range of values and pops as many elements
+     * as it pushed. Every value must come out exactly once.
+     */
+    private void assertConservesElements(ConcurrentLinkedStack<Integer> stack) throws InterruptedException {
+        int threads = 8;
+        int perThread = 20_000;
+        ConcurrentLinkedQueue<Integer> popped = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            final int base = t * perThread;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                int owed = 0;
+                for (int i = 0; i < perThread; i++) {
+                    stack.push(base + i);
+                    owed++;
+                    if ((i & 1) == 1) {
+                        while (owed > 0) {
+                            try {
+                                popped.add(stack.pop());
+                                owed--;
+                            } catch (NoSuchElementException e) {
+                                break;
+                            }
+                        }
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        while (!stack.isEmpty()) {
+            popped.add(stack.pop());
+        }
+
+        boolean[] seen = new boolean[threads * perThread];
+        for (int value : popped) {
+            assertFalse(seen[value], "Value popped twice: " + value);
+            seen[value] = true;
+        }
+        assertEquals(threads * perThread, popped.size());
+        assertEquals(0, stack.size());
+    }
+
+    @Test
+    void testConcurrentWithoutElimination() throws InterruptedException {
+        assertConservesElements(new ConcurrentLinkedStack<>());
+    }
+
+    @Test
+    void testConcurrentWithElimination() throws InterruptedException {
+        assertConservesElements(new ConcurrentLinkedStack<>(4));
+    }
+}
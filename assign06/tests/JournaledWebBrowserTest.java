@@ -0,0 +1,207 @@
+package assign06;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test suite for JournaledWebBrowser and its NavigationJournal.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ */
+public class JournaledWebBrowserTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static URL url(int i) {
+        try {
+            return URI.create("https://example.com/page" + i).toURL();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private JournaledWebBrowser open(Path file, int groupSize, long compactThreshold) throws IOException {
+        return new JournaledWebBrowser(file, new PageTable(), groupSize, compactThreshold);
+    }
+
+    @Test
+    void testReopenRestoresBackAndForward() throws IOException {
+        Path file = tempDir.resolve("session.journal");
+        try (JournaledWebBrowser browser = open(file, 4, 1000)) {
+            browser.visit(url(1));
+            browser.visit(url(2));
+            browser.visit(url(3));
+            browser.back();
+            browser.visit(url(4));
+            browser.visit(url(5));
+            browser.back();
+        }
+        try (JournaledWebBrowser browser = open(file, 4, 1000)) {
+            SinglyLinkedList<URL> history = browser.history();
+            assertEquals(3, history.size());
+            assertEquals(url(4).toString(), history.get(0).toString());
+            assertEquals(url(2).toString(), history.get(1).toString());
+            assertEquals(url(1).toString(), history.get(2).toString());
+            assertEquals(url(5).toString(), browser.forward().toString());
+            assertThrows(NoSuchElementException.class, () -> browser.forward());
+        }
+    }
+
+    @Test
+    void testAppendsAfterReopen() throws IOException {
+        Path file = tempDir.resolve("session.journal");
+        try (JournaledWebBrowser browser = open(file, 1, 1000)) {
+            browser.visit(url(1));
+            browser.visit(url(2));
+        }
+        try (JournaledWebBrowser browser = open(file, 1, 1000)) {
+            browser.visit(url(1)); // already defined in the journal
+            browser.visit(url(3));
+        }
+        try (JournaledWebBrowser browser = open(file, 1, 1000)) {
+            assertEquals(4, browser.history().size());
+            assertEquals(url(1).toString(), browser.back().toString());
+            assertEquals(url(2).toString(), browser.back().toString());
+            assertEquals(url(1).toString(), browser.back().toString());
+        }
+    }
+
+    @Test
+    void testGroupCommit() throws IOException {
+        Path file = tempDir.resolve("session.journal");
+        try (JournaledWebBrowser browser = open(file, 3, 1000)) {
+            long empty = browser.journalSize();
+            browser.visit(url(1));
+            browser.visit(url(2));
+            assertEquals(empty, browser.journalSize());
+            browser.visit(url(3)); // third record commits the group
+            long grouped = browser.journalSize();
+            assertTrue(grouped > empty);
+            browser.back();
+            assertEquals(grouped, browser.journalSize());
+            browser.sync();
+            assertEquals(grouped + 1, browser.journalSize());
+        }
+    }
+
+    @Test
+    void testCompactionBoundsJournalSize() throws IOException {
+        Path file = tempDir.resolve("session.journal");
+        long small;
+        try (JournaledWebBrowser browser = open(file, 8, 100)) {
+            for (int i = 0; i < 5000; i++) {
+                browser.visit(url(i % 3));
+            }
+            browser.back();
+            browser.compact();
+            small = browser.journalSize();
+        }
+        // 4999 back pages of 4-byte ids, plus three URLs
+        assertTrue(small < 4 * 5000 + 200);
+        try (JournaledWebBrowser browser = open(file, 8, 100)) {
+            assertEquals(5000 - 1, browser.history().size());
+            assertEquals(url(4999 % 3).toString(), browser.forward().toString());
+        }
+    }
+
+    @Test
+    void testReopenRestoresUrlsThatAreNotUris() throws IOException {
+        // URL accepts a space in the path, which URI would reject
+        URL spaced = new URL("http://example.com/a b");
+        Path file = tempDir.resolve("session.journal");
+        try (JournaledWebBrowser browser = open(file, 1, 1000)) {
+            browser.visit(url(1));
+            browser.visit(spaced);
+            browser.visit(url(2));
+            browser.back();
+        }
+        try (JournaledWebBrowser browser = open(file, 1, 1000)) {
+            assertEquals(spaced.toString(), browser.history().getFirst().toString());
+            assertEquals(url(1).toString(), browser.history().get(1).toString());
+            assertEquals(url(2).toString(), browser.forward().toString());
+            assertEquals(spaced.toString(), browser.back().toString());
+            assertEquals(url(1).toString(), browser.back().toString());
+        }
+    }
+
+    @Test
+    void testFailedCompactionKeepsJournal() throws IOException {
+        Path file = tempDir.resolve("session.journal");
+        // A non-empty directory where the temporary file goes makes compaction fail
+        Path blocker = tempDir.resolve("session.journal.compact");
+        Files.createDirectory(blocker);
+        Files.createFile(blocker.resolve("keep"));
+        try (JournaledWebBrowser browser = open(file, 1, 1000)) {
+            browser.visit(url(1));
+            browser.visit(url(2));
+            assertThrows(IOException.class, browser::compact);
+            browser.visit(url(3));
+
+            Files.delete(blocker.resolve("keep"));
+            Files.delete(blocker);
+            browser.compact();
+            browser.visit(url(4));
+        }
+        try (JournaledWebBrowser browser = open(file, 1, 1000)) {
+            assertEquals(4, browser.history().size());
+            assertEquals(url(4).toString(), browser.history().getFirst().toString());
+            assertEquals(url(3).toString(), browser.back().toString());
+        }
+    }
+
+    @Test
+    void testRecoversFromTornTail() throws IOException {
+        Path file = tempDir.resolve("session.journal");
+        try (JournaledWebBrowser browser = open(file, 1, 1000)) {
+            browser.visit(url(1));
+            browser.visit(url(2));
+        }
+        // A VISIT record cut off after two of its four id bytes
+        Files.write(file, new byte[]{NavigationJournal.VISIT, 0, 0}, StandardOpenOption.APPEND);
+        try (JournaledWebBrowser browser = open(file, 1, 1000)) {
+            assertEquals(2, browser.history().size());
+            browser.visit(url(3));
+        }
+        try (JournaledWebBrowser browser = open(file, 1, 1000)) {
+            assertEquals(url(3).toString(), browser.history().getFirst().toString());
+            assertEquals(url(2).toString(), browser.back().toString());
+        }
+    }
+
+    @Test
+    void testRejectsCorruptJournal() throws IOException {
+        Path notJournal = tempDir.resolve("other.txt");
+        Files.write(notJournal, new byte[]{1, 2, 3, 4, 5});
+        assertThrows(IOException.class, () -> open(notJournal, 1, 1000));
+
+        Path badBack = tempDir.resolve("bad.journal");
+        try (JournaledWebBrowser browser = open(badBack, 1, 1000)) {
+            browser.visit(url(1));
+        }
+        Files.write(badBack, new byte[]{NavigationJournal.BACK}, StandardOpenOption.APPEND);
+        assertThrows(IOException.class, () -> open(badBack, 1, 1000));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        Path file = tempDir.resolve("session.journal");
+        assertThrows(IllegalArgumentException.class, () -> open(null, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> open(file, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> open(file, 1, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new JournaledWebBrowser(file, null, 1, 1));
+    }
+}
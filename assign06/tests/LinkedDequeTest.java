@@ -0,0 +1,189 @@
+package assign06;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for LinkedDeque as a List, a Stack, and a deque.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ */
+public class LinkedDequeTest {
+
+    private LinkedDeque<Integer> deque;
+
+    @BeforeEach
+    void setUp() {
+        deque = new LinkedDeque<>();
+    }
+
+    private void fill(int n) {
+        for (int i = 0; i < n; i++) {
+            deque.insertLast(i);
+        }
+    }
+
+    // ========== Deque Tests ==========
+    @Test
+    void testBothEnds() {
+        deque.insertFirst(2);
+        deque.insertLast(3);
+        deque.insertFirst(1);
+        deque.insertLast(4);
+        assertArrayEquals(new Object[]{1, 2, 3, 4}, deque.toArray());
+        assertEquals(1, deque.getFirst());
+        assertEquals(4, deque.getLast());
+        assertEquals(4, deque.deleteLast());
+        assertEquals(1, deque.deleteFirst());
+        assertEquals(3, deque.deleteLast());
+        assertEquals(2, deque.deleteLast());
+        assertTrue(deque.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> deque.getFirst());
+        assertThrows(NoSuchElementException.class, () -> deque.getLast());
+        assertThrows(NoSuchElementException.class, () -> deque.deleteFirst());
+        assertThrows(NoSuchElementException.class, () -> deque.deleteLast());
+    }
+
+    @Test
+    void testStackUsesFront() {
+        deque.push(1);
+        deque.push(2);
+        deque.insertLast(0);
+        assertEquals(2, deque.peek());
+        assertEquals(2, deque.pop());
+        assertEquals(1, deque.pop());
+        assertEquals(0, deque.pop());
+        assertThrows(NoSuchElementException.class, () -> deque.pop());
+        assertThrows(NoSuchElementException.class, () -> deque.peek());
+    }
+
+    // ========== Indexed Access Tests ==========
+    @Test
+    void testIndexedOperationsMatchArrayList() {
+        Random rng = new Random(44);
+        ArrayList<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 2000; step++) {
+            int op = rng.nextInt(3);
+            if (op < 2 || expected.isEmpty()) {
+                int index = rng.nextInt(expected.size() + 1);
+                deque.insert(index, step);
+                expected.add(index, step);
+            } else {
+                int index = rng.nextInt(expected.size());
+                assertEquals(expected.remove(index), deque.delete(index));
+            }
+            if (!expected.isEmpty()) {
+                int index = rng.nextInt(expected.size());
+                assertEquals(expected.get(index), deque.get(index));
+                assertEquals(expected.get(expected.size() - 1), deque.getLast());
+            }
+        }
+        assertArrayEquals(expected.toArray(), deque.toArray());
+    }
+
+    @Test
+    void testIndexOutOfBounds() {
+        fill(3);
+        assertThrows(IndexOutOfBoundsException.class, () -> deque.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> deque.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> deque.delete(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> deque.insert(4, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> deque.listIterator(4));
+    }
+
+    @Test
+    void testIndexOf() {
+        fill(5);
+        deque.insertLast(2);
+        deque.insertLast(null);
+        assertEquals(2, deque.indexOf(2));
+        assertEquals(5, deque.lastIndexOf(2));
+        assertEquals(6, deque.indexOf(null));
+        assertEquals(-1, deque.indexOf(42));
+        assertEquals(-1, deque.lastIndexOf(42));
+    }
+
+    @Test
+    void testClear() {
+        fill(10);
+        deque.clear();
+        assertEquals(0, deque.size());
+        assertArrayEquals(new Object[0], deque.toArray());
+        deque.insertLast(7);
+        assertEquals(7, deque.getFirst());
+        assertEquals(7, deque.getLast());
+    }
+
+    // ========== Iterator Tests ==========
+    @Test
+    void testIteratorsBothDirections() {
+        fill(5);
+        int expected = 0;
+        for (int value : deque) {
+            assertEquals(expected++, value);
+        }
+        Iterator<Integer> descending = deque.descendingIterator();
+        for (int i = 4; i >= 0; i--) {
+            assertEquals(i, descending.next());
+        }
+        assertFalse(descending.hasNext());
+
+        ListIterator<Integer> it = deque.listIterator(2);
+        assertEquals(1, it.previousIndex());
+        assertEquals(2, it.next());
+        assertEquals(2, it.previous());
+        assertEquals(1, it.previous());
+        assertEquals(0, it.previous());
+        assertFalse(it.hasPrevious());
+        assertThrows(NoSuchElementException.class, () -> it.previous());
+    }
+
+    @Test
+    void testListIteratorModifications() {
+        fill(5);
+        ListIterator<Integer> it = deque.listIterator();
+        it.next();                  // 0
+        it.remove();                // [1, 2, 3, 4]
+        it.next();                  // 1
+        it.set(10);                 // [10, 2, 3, 4]
+        it.add(11);                 // [10, 11, 2, 3, 4]
+        assertEquals(2, it.next());
+        assertEquals(2, it.previous());
+        it.remove();                // [10, 11, 3, 4]
+        assertEquals(2, it.nextIndex());
+        assertEquals(3, it.next());
+        assertThrows(IllegalStateException.class, () -> {
+            it.remove();
+            it.remove();
+        });
+        assertArrayEquals(new Object[]{10, 11, 4}, deque.toArray());
+
+        Iterator<Integer> descending = deque.descendingIterator();
+        descending.next();
+        descending.remove();
+        assertArrayEquals(new Object[]{10, 11}, deque.toArray());
+        assertEquals(11, deque.getLast());
+    }
+
+    @Test
+    void testIteratorFailsFast() {
+        fill(3);
+        Iterator<Integer> it = deque.iterator();
+        it.next();
+        deque.insertLast(3);
+        assertThrows(ConcurrentModificationException.class, () -> it.next());
+    }
+}
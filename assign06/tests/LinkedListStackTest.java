@@ -360,4 +360,20 @@ public class LinkedListStackTest {
         assertThrows(NoSuchElementException.class, () -> stack.peek());
         assertThrows(NoSuchElementException.class, () -> stack.pop());
     }
+
+    // ========== Backing List Tests ==========
+    @Test
+    void testUnrolledBackingList() {
+        LinkedListStack<Integer> unrolled = new LinkedListStack<>(new UnrolledLinkedList<>(4));
+        for (int i = 0; i < 100; i++) {
+            unrolled.push(i);
+        }
+        assertEquals(100, unrolled.size());
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(i, unrolled.peek());
+            assertEquals(i, unrolled.pop());
+        }
+        assertTrue(unrolled.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new LinkedListStack<Integer>(null));
+    }
 }
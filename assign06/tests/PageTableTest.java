@@ -0,0 +1,144 @@
+package assign06;
+
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import assign06.PageTable.Page;
+
+/**
+ * Test suite for PageTable URL normalization and interning.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ */
+public class PageTableTest {
+
+    private PageTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new PageTable();
+    }
+
+    private static URL url(String s) throws Exception {
+        return URI.create(s).toURL();
+    }
+
+    // ========== normalize Tests ==========
+    @Test
+    void testNormalizeLowercasesSchemeAndHost() throws Exception {
+        assertEquals("https://www.example.com/Path", PageTable.normalize(url("HTTPS://WWW.Example.COM/Path")));
+    }
+
+    @Test
+    void testNormalizeDropsDefaultPort() throws Exception {
+        assertEquals("http://example.com/", PageTable.normalize(url("http://example.com:80/")));
+        assertEquals("http://example.com:8080/", PageTable.normalize(url("http://example.com:8080/")));
+    }
+
+    @Test
+    void testNormalizeEmptyPath() throws Exception {
+        assertEquals("https://example.com/", PageTable.normalize(url("https://example.com")));
+    }
+
+    @Test
+    void testNormalizeKeepsQueryAndFragment() throws Exception {
+        assertEquals("https://example.com/a?b=1#c", PageTable.normalize(url("https://example.com/a?b=1#c")));
+    }
+
+    // ========== intern Tests ==========
+    @Test
+    void testInternSameKeyReturnsSamePage() throws Exception {
+        Page a = table.intern(url("https://example.com"));
+        Page b = table.intern(url("https://EXAMPLE.com:443/"));
+        assertSame(a, b);
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void testInternDistinctPages() throws Exception {
+        Page a = table.intern(url("https://example.com/a"));
+        Page b = table.intern(url("https://example.com/b"));
+        assertNotEquals(a, b);
+        assertEquals(0, a.id());
+        assertEquals(1, b.id());
+        assertSame(b, table.intern(url("https://example.com/b")));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    void testInternKeepsFirstUrl() throws Exception {
+        URL first = url("https://example.com");
+        Page page = table.intern(first);
+        assertSame(first, table.intern(url("https://example.com/")).url());
+        assertSame(page, table.intern(url("https://example.com/")));
+    }
+
+    @Test
+    void testManyPagesGrowTable() throws Exception {
+        List<Page> held = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            held.add(table.intern(url("https://example.com/" + i)));
+            assertEquals(i, held.get(i).id());
+        }
+        assertEquals(100, table.size());
+        assertSame(held.get(57), table.intern(url("https://example.com/57")));
+    }
+
+    @Test
+    void testUnreferencedPagesAreDropped() throws Exception {
+        Page kept = table.intern(url("https://example.com/kept"));
+        for (int i = 0; i < 1000; i++) {
+            table.intern(url("https://example.com/" + i));
+        }
+        for (int attempt = 0; attempt < 50 && table.size() > 1; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(1, table.size());
+        assertSame(kept, table.intern(url("https://example.com/kept")));
+    }
+
+    @Test
+    void testConcurrentInternReturnsOnePage() throws Exception {
+        URL[] urls = new URL[200];
+        for (int i = 0; i < urls.length; i++) {
+            urls[i] = url("https://example.com/" + i);
+        }
+        Page[][] seen = new Page[8][urls.length];
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < seen.length; t++) {
+            final Page[] mine = seen[t];
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < mine.length; i++) {
+                    mine[i] = table.intern(urls[i]);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (Page[] mine : seen) {
+            for (int i = 0; i < mine.length; i++) {
+                assertSame(seen[0][i], mine[i]);
+            }
+        }
+        assertEquals(urls.length, table.size());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> table.intern(null));
+    }
+}
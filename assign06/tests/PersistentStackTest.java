@@ -0,0 +1,105 @@
+package assign06;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for PersistentStack and the ConsList snapshots it hands out.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ */
+public class PersistentStackTest {
+
+    private PersistentStack<Integer> stack;
+
+    @BeforeEach
+    void setUp() {
+        stack = new PersistentStack<>();
+    }
+
+    // ========== Stack Behavior Tests ==========
+    @Test
+    void testLIFOBehavior() {
+        for (int i = 0; i < 10; i++) {
+            stack.push(i);
+        }
+        assertEquals(10, stack.size());
+        assertEquals(9, stack.peek());
+        for (int i = 9; i >= 0; i--) {
+            assertEquals(i, stack.pop());
+        }
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    void testEmptyThrows() {
+        assertThrows(NoSuchElementException.class, () -> stack.pop());
+        assertThrows(NoSuchElementException.class, () -> stack.peek());
+    }
+
+    @Test
+    void testClear() {
+        stack.push(1);
+        stack.push(2);
+        stack.clear();
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.size());
+    }
+
+    // ========== Snapshot Tests ==========
+    @Test
+    void testSnapshotUnaffectedByLaterChanges() {
+        stack.push(1);
+        stack.push(2);
+        stack.push(3);
+        ConsList<Integer> snapshot = stack.snapshot();
+
+        stack.pop();
+        stack.push(4);
+        stack.clear();
+
+        assertEquals(3, snapshot.size());
+        assertArrayEquals(new Object[]{3, 2, 1}, snapshot.toArray());
+    }
+
+    @Test
+    void testSnapshotReadOperations() {
+        stack.push(null);
+        stack.push(5);
+        stack.push(7);
+        ConsList<Integer> snapshot = stack.snapshot();
+
+        assertEquals(7, snapshot.getFirst());
+        assertEquals(5, snapshot.get(1));
+        assertEquals(1, snapshot.indexOf(5));
+        assertEquals(2, snapshot.indexOf(null));
+        assertEquals(-1, snapshot.indexOf(9));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(3));
+
+        Iterator<Integer> it = snapshot.iterator();
+        assertEquals(7, it.next());
+        assertEquals(5, it.next());
+        assertEquals(null, it.next());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, () -> it.next());
+    }
+
+    @Test
+    void testEmptyConsList() {
+        ConsList<Integer> empty = ConsList.empty();
+        assertTrue(empty.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> empty.getFirst());
+        assertThrows(NoSuchElementException.class, () -> empty.rest());
+        assertEquals(1, empty.prepend(3).size());
+        assertTrue(empty.isEmpty());
+    }
+}
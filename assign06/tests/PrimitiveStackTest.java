@@ -0,0 +1,97 @@
+package assign06;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for the primitive IntStack and LongStack.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ */
+public class PrimitiveStackTest {
+
+    // ========== IntStack Tests ==========
+    @Test
+    void testIntStackLIFO() {
+        IntStack stack = new IntStack(1);
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+        assertEquals(100, stack.size());
+        assertEquals(99, stack.peek());
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(i, stack.pop());
+        }
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    void testIntStackEmptyThrows() {
+        IntStack stack = new IntStack();
+        assertThrows(NoSuchElementException.class, () -> stack.pop());
+        assertThrows(NoSuchElementException.class, () -> stack.peek());
+        stack.push(1);
+        stack.clear();
+        assertTrue(stack.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> stack.pop());
+    }
+
+    @Test
+    void testIntStackPushAll() {
+        IntStack stack = new IntStack(2);
+        stack.push(-1);
+        stack.pushAll(new int[]{9, 1, 2, 3, 4, 9}, 1, 4);
+        assertEquals(5, stack.size());
+        assertEquals(4, stack.pop());
+        assertEquals(3, stack.pop());
+        assertEquals(2, stack.pop());
+        assertEquals(1, stack.pop());
+        assertEquals(-1, stack.pop());
+        stack.pushAll(new int[0], 0, 0);
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    void testIntStackInvalidArguments() {
+        IntStack stack = new IntStack();
+        assertThrows(IllegalArgumentException.class, () -> new IntStack(0));
+        assertThrows(IllegalArgumentException.class, () -> stack.pushAll(null, 0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> stack.pushAll(new int[3], 2, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> stack.pushAll(new int[3], -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> stack.pushAll(new int[3], 0, -1));
+        assertTrue(stack.isEmpty());
+    }
+
+    // ========== LongStack Tests ==========
+    @Test
+    void testLongStackLIFO() {
+        LongStack stack = new LongStack(1);
+        for (long i = 0; i < 100; i++) {
+            stack.push(i << 33);
+        }
+        assertEquals(100, stack.size());
+        for (long i = 99; i >= 0; i--) {
+            assertEquals(i << 33, stack.peek());
+            assertEquals(i << 33, stack.pop());
+        }
+        assertThrows(NoSuchElementException.class, () -> stack.pop());
+    }
+
+    @Test
+    void testLongStackPushAll() {
+        LongStack stack = new LongStack();
+        long[] values = new long[50];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Long.MAX_VALUE - i;
+        }
+        stack.pushAll(values, 0, values.length);
+        assertEquals(50, stack.size());
+        assertEquals(Long.MAX_VALUE - 49, stack.peek());
+        assertThrows(IndexOutOfBoundsException.class, () -> stack.pushAll(values, 40, 11));
+    }
+}
@@ -0,0 +1,101 @@
+package assign06;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for RingBufferStack.
+ *
+ * @author Alex Waldmann && Tyler Gagliardi
+ * @version October 16, 2025
+ */
+public class RingBufferStackTest {
+
+    private RingBufferStack<Integer> stack;
+
+    @BeforeEach
+    void setUp() {
+        stack = new RingBufferStack<>(4);
+    }
+
+    @Test
+    void testLIFOBehavior() {
+        for (int i = 0; i < 4; i++) {
+            stack.push(i);
+        }
+        assertEquals(4, stack.size());
+        assertEquals(3, stack.peek());
+        for (int i = 3; i >= 0; i--) {
+            assertEquals(i, stack.pop());
+        }
+        assertTrue(stack.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> stack.pop());
+        assertThrows(NoSuchElementException.class, () -> stack.peek());
+    }
+
+    @Test
+    void testOverwritesOldest() {
+        for (int i = 0; i < 10; i++) {
+            stack.push(i);
+        }
+        assertEquals(4, stack.size());
+        assertEquals(9, stack.pop());
+        assertEquals(8, stack.pop());
+        stack.push(42);
+        assertEquals(42, stack.pop());
+        assertEquals(7, stack.pop());
+        assertEquals(6, stack.pop());
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    void testClearThenReuse() {
+        for (int i = 0; i < 6; i++) {
+            stack.push(i);
+        }
+        stack.clear();
+        assertTrue(stack.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> stack.peek());
+        stack.push(1);
+        stack.push(2);
+        assertEquals(2, stack.size());
+        assertEquals(2, stack.pop());
+        assertEquals(1, stack.pop());
+    }
+
+    @Test
+    void testSnapshotAndReplace() {
+        for (int i = 0; i < 6; i++) {
+            stack.push(i);
+        }
+        assertArrayEquals(new Object[]{5, 4, 3, 2}, stack.snapshot().toArray());
+
+        ConsList<Integer> contents = ConsList.<Integer>empty().prepend(3).prepend(2).prepend(1);
+        stack.replace(contents);
+        assertArrayEquals(new Object[]{1, 2, 3}, stack.snapshot().toArray());
+        stack.push(0);
+        stack.push(-1);
+        assertArrayEquals(new Object[]{-1, 0, 1, 2}, stack.snapshot().toArray());
+
+        // Longer than the capacity: the top four are kept
+        ConsList<Integer> longer = ConsList.empty();
+        for (int i = 9; i >= 0; i--) {
+            longer = longer.prepend(i);
+        }
+        stack.replace(longer);
+        assertArrayEquals(new Object[]{0, 1, 2, 3}, stack.snapshot().toArray());
+        assertEquals(0, stack.pop());
+    }
+
+    @Test
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferStack<Integer>(0));
+        assertEquals(4, stack.capacity());
+    }
+}
@@ -1,8 +1,16 @@
 package assign06;
 
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -528,4 +536,353 @@ public class SinglyLinkedListTest {
         assertEquals(3, list.deleteFirst());
         assertEquals(1, list.size());
     }
+
+    // ========== sort Tests ==========
+    @Test
+    void testSortEmptyAndSingle() {
+        list.sort(null);
+        assertTrue(list.isEmpty());
+        list.insertFirst(7);
+        list.sort(null);
+        assertEquals(1, list.size());
+        assertEquals(7, list.getFirst());
+    }
+
+    @Test
+    void testSortNaturalOrder() {
+        int[] values = {5, 3, 9, 1, 4, 1, 8};
+        for (int v : values) {
+            list.insertFirst(v);
+        }
+        list.sort(null);
+        assertArrayEquals(new Object[]{1, 1, 3, 4, 5, 8, 9}, list.toArray());
+    }
+
+    @Test
+    void testSortWithComparator() {
+        for (int i = 0; i < 10; i++) {
+            list.insertFirst(i);
+        }
+        list.sort(Comparator.reverseOrder());
+        assertArrayEquals(new Object[]{9, 8, 7, 6, 5, 4, 3, 2, 1, 0}, list.toArray());
+    }
+
+    @Test
+    void testSortIsStable() {
+        String[] words = {"pear", "fig", "kiwi", "yam", "plum", "ox"};
+        for (int i = words.length - 1; i >= 0; i--) {
+            stringList.insertFirst(words[i]);
+        }
+        stringList.sort(Comparator.comparingInt(String::length));
+        assertArrayEquals(new Object[]{"ox", "fig", "yam", "pear", "kiwi", "plum"}, stringList.toArray());
+    }
+
+    @Test
+    void testSortLargeRandomAndStillUsable() {
+        Random rng = new Random(42);
+        ArrayList<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1001; i++) {
+            int v = rng.nextInt(500);
+            list.insertFirst(v);
+            expected.add(v);
+        }
+        Collections.sort(expected);
+
+        list.sort(Integer::compare);
+
+        assertEquals(1001, list.size());
+        int i = 0;
+        for (Integer v : list) {
+            assertEquals(expected.get(i++), v);
+        }
+        // Links must still be consistent for further mutation
+        list.insert(1001, -1);
+        assertEquals(-1, list.get(1001));
+        assertEquals(expected.get(0), list.deleteFirst());
+    }
+
+    @Test
+    void testSortWithIncomparableElementKeepsEveryNode() {
+        SinglyLinkedList<Object> mixed = new SinglyLinkedList<>();
+        ArrayList<String> expected = new ArrayList<>();
+        for (int i = 20; i > 0; i--) {
+            mixed.insert(mixed.size(), i);
+            expected.add(String.valueOf(i));
+        }
+        mixed.insert(13, "x");
+        expected.add("x");
+
+        assertThrows(ClassCastException.class, () -> mixed.sort(null));
+
+        assertEquals(21, mixed.size());
+        ArrayList<String> actual = new ArrayList<>();
+        for (Object o : mixed.toArray()) {
+            actual.add(String.valueOf(o));
+        }
+        Collections.sort(actual);
+        Collections.sort(expected);
+        assertEquals(expected, actual);
+        // Tail must be the real last node
+        mixed.insert(mixed.size(), "end");
+        assertEquals("end", mixed.get(21));
+    }
+
+    @Test
+    void testSortWithThrowingComparatorKeepsEveryNode() {
+        for (int i = 0; i < 100; i++) {
+            list.insertFirst(i);
+        }
+        int[] calls = {0};
+        assertThrows(IllegalStateException.class, () -> list.sort((a, b) -> {
+            if (++calls[0] == 150) {
+                throw new IllegalStateException("comparator failed");
+            }
+            return Integer.compare(a, b);
+        }));
+
+        assertEquals(100, list.size());
+        list.sort(null);
+        Object[] expected = new Object[100];
+        for (int i = 0; i < 100; i++) {
+            expected[i] = i;
+        }
+        assertArrayEquals(expected, list.toArray());
+    }
+
+    // ========== Tail and Cursor Tests ==========
+    @Test
+    void testAppendAfterDeletingLast() {
+        for (int i = 0; i < 5; i++) {
+            list.insert(i, i);
+        }
+        list.delete(4);
+        list.insert(list.size(), 10);
+        assertArrayEquals(new Object[]{0, 1, 2, 3, 10}, list.toArray());
+    }
+
+    @Test
+    void testAppendAfterDeleteFirstEmptiesList() {
+        list.insertFirst(1);
+        list.deleteFirst();
+        list.insert(0, 2);
+        list.insert(1, 3);
+        assertArrayEquals(new Object[]{2, 3}, list.toArray());
+    }
+
+    @Test
+    void testAppendAfterIteratorRemovesLast() {
+        for (int i = 0; i < 3; i++) {
+            list.insert(i, i);
+        }
+        Iterator<Integer> it = list.iterator();
+        while (it.hasNext()) {
+            if (it.next() == 2) {
+                it.remove();
+            }
+        }
+        list.insert(list.size(), 9);
+        assertArrayEquals(new Object[]{0, 1, 9}, list.toArray());
+    }
+
+    @Test
+    void testAppendAfterSort() {
+        list.insertFirst(1);
+        list.insertFirst(3);
+        list.insertFirst(2);
+        list.sort(null);
+        list.insert(list.size(), 4);
+        assertArrayEquals(new Object[]{1, 2, 3, 4}, list.toArray());
+    }
+
+    @Test
+    void testAppendAfterClear() {
+        list.insertFirst(1);
+        list.clear();
+        list.insert(0, 5);
+        list.insert(1, 6);
+        assertArrayEquals(new Object[]{5, 6}, list.toArray());
+    }
+
+    @Test
+    void testCursorSurvivesMutations() {
+        for (int i = 0; i < 10; i++) {
+            list.insert(i, i);
+        }
+        assertEquals(5, list.get(5)); // cursor at index 5
+        list.insertFirst(-1);         // cursor shifts to index 6
+        assertEquals(5, list.get(6));
+        assertEquals(6, list.get(7));
+        list.deleteFirst();
+        list.deleteFirst();
+        assertEquals(1, list.get(0));
+        assertEquals(7, list.get(6));
+        list.delete(3);
+        assertEquals(5, list.get(3));
+        list.insert(2, 42);
+        assertArrayEquals(new Object[]{1, 2, 42, 3, 5, 6, 7, 8, 9}, list.toArray());
+    }
+
+    /**
+     * Reads the private cursor node, which must not outlive the nodes it
+     * pointed into.
+     */
+    private static Object cursorNode(SinglyLinkedList<?> list) throws ReflectiveOperationException {
+        Field field = SinglyLinkedList.class.getDeclaredField("cursorNode");
+        field.setAccessible(true);
+        return field.get(list);
+    }
+
+    @Test
+    void testClearReleasesCursorNode() throws ReflectiveOperationException {
+        for (int i = 0; i < 10; i++) {
+            list.insert(i, i);
+        }
+        assertEquals(7, list.get(7));
+        assertTrue(cursorNode(list) != null);
+        list.clear();
+        assertNull(cursorNode(list));
+
+        for (int i = 0; i < 10; i++) {
+            list.insert(i, i);
+        }
+        list.get(5);
+        list.removeIf(x -> x % 2 == 0);
+        assertNull(cursorNode(list));
+        list.get(2);
+        list.sort(null);
+        assertNull(cursorNode(list));
+        list.get(0);
+        list.deleteFirst();
+        assertNull(cursorNode(list));
+    }
+
+    @Test
+    void testAscendingAndRandomAccess() {
+        Random rng = new Random(7);
+        ArrayList<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int index = rng.nextInt(expected.size() + 1);
+            list.insert(index, i);
+            expected.add(index, i);
+            if (expected.size() > 1 && rng.nextInt(4) == 0) {
+                int del = rng.nextInt(expected.size());
+                assertEquals(expected.remove(del), list.delete(del));
+            }
+            int probe = rng.nextInt(expected.size());
+            assertEquals(expected.get(probe), list.get(probe));
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    // ========== Bulk Operation Tests ==========
+    @Test
+    void testAddAllAppendsInOrder() {
+        list.insertFirst(0);
+        assertTrue(list.addAll(java.util.List.of(1, 2, 3)));
+        assertFalse(list.addAll(new ArrayList<>()));
+        assertArrayEquals(new Object[]{0, 1, 2, 3}, list.toArray());
+        // Appends go through the tail, which must now be the last new node
+        list.insert(list.size(), 4);
+        assertEquals(4, list.get(4));
+        assertEquals(5, list.size());
+    }
+
+    @Test
+    void testAddAllFromEmptyAndSelf() {
+        assertTrue(list.addAll(java.util.List.of(1, 2)));
+        assertTrue(list.addAll(list));
+        assertArrayEquals(new Object[]{1, 2, 1, 2}, list.toArray());
+        assertThrows(IllegalArgumentException.class, () -> list.addAll(null));
+    }
+
+    @Test
+    void testTypedToArray() {
+        stringList.addAll(java.util.List.of("a", "b", "c"));
+        String[] exact = stringList.toArray(new String[0]);
+        assertArrayEquals(new String[]{"a", "b", "c"}, exact);
+
+        String[] roomy = {"x", "x", "x", "x", "x"};
+        assertTrue(roomy == stringList.toArray(roomy));
+        assertArrayEquals(new String[]{"a", "b", "c", null, "x"}, roomy);
+        assertThrows(ArrayStoreException.class, () -> stringList.toArray(new Integer[3]));
+    }
+
+    @Test
+    void testForEach() {
+        list.addAll(java.util.List.of(3, 1, 2));
+        ArrayList<Integer> seen = new ArrayList<>();
+        list.forEach(seen::add);
+        assertEquals(java.util.List.of(3, 1, 2), seen);
+        assertThrows(NullPointerException.class, () -> list.forEach(null));
+    }
+
+    @Test
+    void testRemoveIf() {
+        for (int i = 0; i < 10; i++) {
+            list.insert(list.size(), i);
+        }
+        list.get(5); // set the cursor
+        assertTrue(list.removeIf(x -> x % 3 == 0));
+        assertArrayEquals(new Object[]{1, 2, 4, 5, 7, 8}, list.toArray());
+        assertEquals(5, list.get(3));
+        assertEquals(8, list.get(5));
+        list.insert(list.size(), 10);
+        assertEquals(10, list.get(6));
+        assertFalse(list.removeIf(x -> x > 100));
+        assertTrue(list.removeIf(x -> true));
+        assertTrue(list.isEmpty());
+        list.insert(0, 1);
+        assertEquals(1, list.getFirst());
+    }
+
+    @Test
+    void testRemoveIfThrowingPredicateLeavesListUnchanged() {
+        for (int i = 0; i < 10; i++) {
+            list.insert(list.size(), i);
+        }
+        assertThrows(IllegalStateException.class, () -> list.removeIf(x -> {
+            if (x == 7) {
+                throw new IllegalStateException("predicate failed");
+            }
+            return x % 2 == 0;
+        }));
+        assertEquals(10, list.size());
+        assertArrayEquals(new Object[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, list.toArray());
+        list.insert(list.size(), 10);
+        assertEquals(10, list.get(10));
+    }
+
+    @Test
+    void testStreamSequentialAndParallel() {
+        java.util.List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            values.add(i);
+        }
+        list.addAll(values);
+        assertEquals(100_000, list.spliterator().estimateSize());
+        assertEquals(values, list.stream().collect(Collectors.toList()));
+        assertEquals(values, list.stream().parallel().collect(Collectors.toList()));
+        long sum = list.stream().parallel().mapToLong(Integer::longValue).sum();
+        assertEquals(99_999L * 100_000 / 2, sum);
+    }
+
+    @Test
+    void testSpliteratorSplitsBatches() {
+        for (int i = 0; i < 5000; i++) {
+            list.insert(list.size(), i);
+        }
+        Spliterator<Integer> rest = list.spliterator();
+        Spliterator<Integer> first = rest.trySplit();
+        assertEquals(1024, first.estimateSize());
+        assertEquals(5000 - 1024, rest.estimateSize());
+        Spliterator<Integer> second = rest.trySplit();
+        assertEquals(2048, second.estimateSize());
+        int[] next = {0};
+        for (Spliterator<Integer> part : java.util.List.of(first, second, rest)) {
+            part.forEachRemaining(x -> assertEquals(next[0]++, x));
+        }
+        assertEquals(5000, next[0]);
+    }
 }
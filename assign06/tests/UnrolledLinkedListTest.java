@@ -0,0 +1,199 @@
+package assign06;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for UnrolledLinkedList, including node split and merge behavior.
+ *
+ * @author Tyler Gagliardi
+ * @version October 2025
+ */
+public class UnrolledLinkedListTest {
+
+    private UnrolledLinkedList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        // Small nodes so splits and merges happen with few elements
+        list = new UnrolledLinkedList<>(4);
+    }
+
+    // ========== Basic Tests ==========
+    @Test
+    void testEmpty() {
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        assertThrows(NoSuchElementException.class, () -> list.getFirst());
+        assertThrows(NoSuchElementException.class, () -> list.deleteFirst());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insert(1, 5));
+        assertEquals(0, list.toArray().length);
+        assertFalse(list.iterator().hasNext());
+    }
+
+    @Test
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new UnrolledLinkedList<Integer>(3));
+    }
+
+    @Test
+    void testInsertFirstAndGet() {
+        for (int i = 0; i < 10; i++) {
+            list.insertFirst(i);
+        }
+        assertEquals(10, list.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(9 - i, list.get(i));
+        }
+        assertEquals(9, list.getFirst());
+    }
+
+    @Test
+    void testAppendPacksNodes() {
+        for (int i = 0; i < 12; i++) {
+            list.insert(list.size(), i);
+        }
+        assertEquals(3, list.nodeCount());
+        assertArrayEquals(new Object[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11}, list.toArray());
+    }
+
+    @Test
+    void testInsertMiddleSplits() {
+        for (int i = 0; i < 4; i++) {
+            list.insert(i, i);
+        }
+        list.insert(2, 99);
+        assertEquals(2, list.nodeCount());
+        assertArrayEquals(new Object[]{0, 1, 99, 2, 3}, list.toArray());
+    }
+
+    @Test
+    void testDeleteMergesAndUnlinks() {
+        for (int i = 0; i < 12; i++) {
+            list.insert(list.size(), i);
+        }
+        list.delete(0);
+        list.delete(0);
+        list.delete(0); // first node drops to 1 element, cannot merge with a full node
+        assertEquals(3, list.nodeCount());
+        list.delete(0); // first node now empty and unlinked
+        assertEquals(2, list.nodeCount());
+        list.delete(7); // nodes now [4, 5, 6, 7] [8, 9, 10]
+        list.delete(1);
+        list.delete(1);
+        assertEquals(2, list.nodeCount());
+        list.delete(1); // node down to 1 (< half), merges with the next node
+        assertEquals(1, list.nodeCount());
+        assertArrayEquals(new Object[]{4, 8, 9, 10}, list.toArray());
+    }
+
+    @Test
+    void testDeleteLastThenAppend() {
+        for (int i = 0; i < 5; i++) {
+            list.insert(i, i);
+        }
+        assertEquals(4, list.delete(4));
+        list.insert(list.size(), 7);
+        assertArrayEquals(new Object[]{0, 1, 2, 3, 7}, list.toArray());
+    }
+
+    @Test
+    void testIndexOf() {
+        list.insert(0, 1);
+        list.insert(1, null);
+        list.insert(2, 3);
+        for (int i = 0; i < 10; i++) {
+            list.insert(list.size(), 100 + i);
+        }
+        assertEquals(0, list.indexOf(1));
+        assertEquals(1, list.indexOf(null));
+        assertEquals(12, list.indexOf(109));
+        assertEquals(-1, list.indexOf(42));
+    }
+
+    @Test
+    void testClearAndReuse() {
+        for (int i = 0; i < 10; i++) {
+            list.insertFirst(i);
+        }
+        list.clear();
+        assertTrue(list.isEmpty());
+        list.insertFirst(5);
+        assertEquals(5, list.getFirst());
+    }
+
+    // ========== Iterator Tests ==========
+    @Test
+    void testIteratorRemoveAll() {
+        for (int i = 0; i < 10; i++) {
+            list.insert(list.size(), i);
+        }
+        Iterator<Integer> it = list.iterator();
+        while (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+        assertTrue(list.isEmpty());
+        list.insert(0, 1);
+        assertEquals(1, list.getFirst());
+    }
+
+    @Test
+    void testIteratorRemoveEvens() {
+        for (int i = 0; i < 20; i++) {
+            list.insert(list.size(), i);
+        }
+        Iterator<Integer> it = list.iterator();
+        assertThrows(IllegalStateException.class, () -> it.remove());
+        while (it.hasNext()) {
+            if (it.next() % 2 == 0) {
+                it.remove();
+            }
+        }
+        assertEquals(10, list.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(2 * i + 1, list.get(i));
+        }
+        list.insert(list.size(), 99);
+        assertEquals(99, list.get(10));
+    }
+
+    // ========== Randomized Test ==========
+    @Test
+    void testRandomOperationsMatchArrayList() {
+        Random rng = new Random(11);
+        ArrayList<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            int op = rng.nextInt(10);
+            if (op < 6 || expected.isEmpty()) {
+                int index = rng.nextInt(expected.size() + 1);
+                list.insert(index, step);
+                expected.add(index, step);
+            } else {
+                int index = rng.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.delete(index));
+            }
+            assertEquals(expected.size(), list.size());
+            if (!expected.isEmpty()) {
+                int probe = rng.nextInt(expected.size());
+                assertEquals(expected.get(probe), list.get(probe));
+            }
+        }
+        assertArrayEquals(expected.toArray(), list.toArray());
+        int i = 0;
+        for (Integer v : list) {
+            assertEquals(expected.get(i++), v);
+        }
+    }
+}
@@ -4,9 +4,15 @@ import java.net.URI;
 import java.net.URL;
 import java.util.NoSuchElementException;
 
+import assign06.PageTable.Page;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -476,4 +482,168 @@ public class WebBrowserTest {
         browser.back(); // Should still work
         assertEquals(url1.toString(), browser.history().get(0).toString());
     }
+
+    // ========== historyView Tests ==========
+    @Test
+    void testHistoryViewMatchesHistory() {
+        browser.visit(url1);
+        browser.visit(url2);
+        browser.visit(url3);
+        browser.back();
+
+        ConsList<Page> view = browser.historyView();
+        SinglyLinkedList<URL> history = browser.history();
+        assertEquals(history.size(), view.size());
+        for (int i = 0; i < view.size(); i++) {
+            assertSame(history.get(i), view.get(i).url());
+        }
+    }
+
+    @Test
+    void testHistoryViewEmpty() {
+        assertTrue(browser.historyView().isEmpty());
+    }
+
+    @Test
+    void testHistoryViewUnchangedByNavigation() {
+        PageTable pages = browser.getPageTable();
+        browser.visit(url1);
+        browser.visit(url2);
+        browser.visit(url3);
+        ConsList<Page> view = browser.historyView();
+
+        browser.back();
+        browser.back();
+        browser.visit(url4);
+        browser.visit(url5);
+
+        assertArrayEquals(new Object[]{pages.intern(url3), pages.intern(url2), pages.intern(url1)},
+                view.toArray());
+        assertArrayEquals(new Object[]{pages.intern(url5), pages.intern(url4), pages.intern(url1)},
+                browser.historyView().toArray());
+    }
+
+    @Test
+    void testHistoryViewIsImmutable() {
+        browser.visit(url1);
+        ConsList<Page> view = browser.historyView();
+        ConsList<Page> longer = view.prepend(view.getFirst());
+        assertEquals(2, longer.size());
+        assertEquals(0, view.rest().size());
+        assertEquals(1, view.size());
+        assertEquals(url1.toString(), view.getFirst().url().toString());
+    }
+
+    @Test
+    void testDefaultBrowsersDoNotShareAPageTable() {
+        WebBrowser other = new WebBrowser();
+        assertNotSame(new WebBrowser().getPageTable(), other.getPageTable());
+        assertNotSame(new WebBrowser(3).getPageTable(), other.getPageTable());
+        other.visit(url1);
+        assertEquals(0, new WebBrowser().getPageTable().size());
+    }
+
+    @Test
+    void testHistoryViewSharesCells() {
+        browser.visit(url1);
+        browser.visit(url2);
+        ConsList<Page> before = browser.historyView();
+        browser.visit(url3);
+        // The older pages are the same cells, not a copy
+        assertSame(before.rest(), browser.historyView().rest().rest());
+    }
+
+    // ========== Page Identity Tests ==========
+    @Test
+    void testEquivalentUrlsShareOnePage() throws Exception {
+        WebBrowser b = new WebBrowser(null, new PageTable());
+        b.visit(URI.create("HTTPS://WWW.Example.com:443").toURL());
+        b.visit(URI.create("https://www.example.com/").toURL());
+        ConsList<Page> view = b.historyView();
+        assertEquals(view.get(0), view.get(1));
+        assertEquals(1, b.getPageTable().size());
+        assertEquals(0, view.indexOf(b.getPageTable().intern(URI.create("https://www.example.com/").toURL())));
+    }
+
+    @Test
+    void testBackReturnsInternedUrl() {
+        WebBrowser b = new WebBrowser(null, new PageTable());
+        b.visit(url1);
+        b.visit(url2);
+        assertSame(url1, b.back());
+        assertSame(url2, b.forward());
+    }
+
+    @Test
+    void testHistoryConstructorUnrolledList() {
+        UnrolledLinkedList<URL> history = new UnrolledLinkedList<>();
+        history.insert(0, url1);
+        history.insert(1, url2);
+        history.insert(2, url3);
+        WebBrowser newBrowser = new WebBrowser(history);
+        assertEquals(url2.toString(), newBrowser.back().toString());
+        assertEquals(url3.toString(), newBrowser.back().toString());
+    }
+
+    // ========== Bounded Capacity Tests ==========
+    @Test
+    void testBoundedBrowserDropsOldestBackPages() {
+        WebBrowser b = new WebBrowser(2);
+        assertEquals(2, b.capacity());
+        b.visit(url1);
+        b.visit(url2);
+        b.visit(url3);
+        b.visit(url4);
+        // Back stack keeps url3 and url2; url1 was overwritten
+        assertEquals(url3.toString(), b.back().toString());
+        assertEquals(url2.toString(), b.back().toString());
+        assertThrows(NoSuchElementException.class, () -> b.back());
+        assertEquals(url3.toString(), b.forward().toString());
+        assertEquals(url4.toString(), b.forward().toString());
+        assertThrows(NoSuchElementException.class, () -> b.forward());
+    }
+
+    @Test
+    void testBoundedBrowserVisitClearsForward() {
+        WebBrowser b = new WebBrowser(3);
+        b.visit(url1);
+        b.visit(url2);
+        b.back();
+        b.visit(url3);
+        assertThrows(NoSuchElementException.class, () -> b.forward());
+        assertEquals(url1.toString(), b.back().toString());
+    }
+
+    @Test
+    void testBoundedBrowserHistory() {
+        WebBrowser b = new WebBrowser(2);
+        for (URL url : new URL[]{url1, url2, url3, url4, url5}) {
+            b.visit(url);
+        }
+        SinglyLinkedList<URL> history = b.history();
+        assertEquals(3, history.size());
+        assertEquals(url5.toString(), history.get(0).toString());
+        assertEquals(url4.toString(), history.get(1).toString());
+        assertEquals(url3.toString(), history.get(2).toString());
+    }
+
+    @Test
+    void testBoundedBrowserPreloadedHistory() {
+        SinglyLinkedList<URL> history = new SinglyLinkedList<>();
+        history.insert(0, url1);
+        history.insert(1, url2);
+        history.insert(2, url3);
+        history.insert(3, url4);
+        WebBrowser b = new WebBrowser(history, new PageTable(), 2);
+        assertEquals(url2.toString(), b.back().toString());
+        assertEquals(url3.toString(), b.back().toString());
+        assertThrows(NoSuchElementException.class, () -> b.back());
+    }
+
+    @Test
+    void testCapacityArguments() {
+        assertEquals(WebBrowser.UNBOUNDED, browser.capacity());
+        assertEquals(WebBrowser.UNBOUNDED, new WebBrowser(WebBrowser.UNBOUNDED).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new WebBrowser(-1));
+    }
 }
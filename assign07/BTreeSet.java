@@ -0,0 +1,951 @@
+package assign07;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * B+ tree that implements the SortedSet interface. Stores unique, comparable
+ * items in sorted order, many to a node.
+ *
+ * A binary tree visits one node per level, and each node is a separate object
+ * somewhere on the heap, so a search of N items costs about log2(N) cache
+ * misses. Here each node holds up to fanout keys in one array that is
+ * binary-searched, so a search visits only about log(N) / log(fanout / 2)
+ * nodes: 4 or 5 for a few million items at the default fanout of 64.
+ *
+ * All items live in the leaves, which are linked to their neighbors in both
+ * directions. Internal nodes only hold separator keys that route a search:
+ * every item in the subtree left of a separator is less than it, and every
+ * item in the subtree to its right is greater than or equal to it. Iteration,
+ * range views, and the navigation methods walk the leaf links instead of
+ * going back up the tree.
+ *
+ * add splits a node that overflows and passes its middle key up to the
+ * parent; remove refills a node that falls below half full by borrowing from
+ * or merging with a sibling. Every leaf is at the same depth, so add, remove,
+ * and contains are O(log N). addAll rebuilds the tree bottom-up from sorted
+ * input in O(N) when the collection is at least as large as this set.
+ *
+ * @param <Type> the type of elements in this tree, must be Comparable
+ * @author Alex Waldmann
+ * @author Tyler Gagliardi
+ * @version October 23, 2025
+ */
+public class BTreeSet<Type extends Comparable<? super Type>> implements SortedSet<Type> {
+
+    /** Smallest fanout accepted by the constructor. */
+    public static final int MIN_FANOUT = 32;
+
+    /** Largest fanout accepted by the constructor. */
+    public static final int MAX_FANOUT = 128;
+
+    /** Fanout used by the no-argument constructor. */
+    public static final int DEFAULT_FANOUT = 64;
+
+    /**
+     * Node in the tree. A leaf holds n items in keys and links to its
+     * neighboring leaves; an internal node holds n separator keys and n + 1
+     * children. Arrays have one slot more than a node may keep, so a node can
+     * overflow by one before it is split.
+     */
+    private static final class Node {
+
+        final Object[] keys;
+        final Node[] children;
+        int n;
+        Node prev, next;
+
+        /**
+         * Constructs an empty node.
+         *
+         * @param fanout the tree's fanout
+         * @param leaf true for a leaf, false for an internal node
+         */
+        Node(int fanout, boolean leaf) {
+            keys = new Object[fanout + 1];
+            children = leaf ? null : new Node[fanout + 1];
+        }
+
+        boolean isLeaf() {
+            return children == null;
+        }
+    }
+
+    /** Most items in a leaf, and most children of an internal node. */
+    private final int fanout;
+
+    /** Fewest items in a leaf other than the root. */
+    private final int minKeys;
+
+    /** Fewest children of an internal node other than the root. */
+    private final int minChildren;
+
+    private Node root;
+    private Node firstLeaf;
+    private int size;
+
+    /** Count of changes to the set, checked by iterators to fail fast. */
+    private int modCount;
+
+    /** Set by insert and delete when they change the set. */
+    private boolean changed;
+
+    /** Key passed up to the parent by the last split. */
+    private Object promoted;
+
+    /**
+     * Constructs an empty tree with the default fanout.
+     */
+    public BTreeSet() {
+        this(DEFAULT_FANOUT);
+    }
+
+    /**
+     * Constructs an empty tree with the given fanout. Larger nodes mean a
+     * shallower tree but more keys to shift on each add and remove.
+     *
+     * @param fanout most items per leaf and most children per internal node
+     * @throws IllegalArgumentException if fanout is not between MIN_FANOUT
+     * and MAX_FANOUT
+     */
+    public BTreeSet(int fanout) {
+        if (fanout < MIN_FANOUT || fanout > MAX_FANOUT) {
+            throw new IllegalArgumentException("Fanout must be between " + MIN_FANOUT + " and "
+                    + MAX_FANOUT + ", got: " + fanout);
+        }
+        this.fanout = fanout;
+        this.minKeys = fanout / 2;
+        this.minChildren = (fanout + 1) / 2;
+        root = new Node(fanout, true);
+        firstLeaf = root;
+    }
+
+    /**
+     * Returns the fanout this tree was created with.
+     *
+     * @return most items per leaf and most children per internal node
+     */
+    public int fanout() {
+        return fanout;
+    }
+
+    /**
+     * Ensures that this set contains the specified item. O(log N).
+     *
+     * @param item the item whose presence is ensured in this set
+     * @return true if this set changed (item was added), false otherwise
+     * @throws NullPointerException if item is null
+     */
+    @Override
+    public boolean add(Type item) {
+        Objects.requireNonNull(item);
+        changed = false;
+        Node sibling = insert(root, item);
+        if (sibling != null) {
+            Node newRoot = new Node(fanout, false);
+            newRoot.keys[0] = promoted;
+            newRoot.children[0] = root;
+            newRoot.children[1] = sibling;
+            newRoot.n = 1;
+            root = newRoot;
+        }
+        promoted = null;
+        if (changed) {
+            size++;
+            modCount++;
+        }
+        return changed;
+    }
+
+    /**
+     * Recursive helper method to insert an item into a subtree.
+     *
+     * @param node the root of the subtree
+     * @param item the item to insert
+     * @return the new right sibling if node was split, with its separator in
+     * promoted, or null if it was not
+     */
+    private Node insert(Node node, Type item) {
+        if (node.isLeaf()) {
+            int i = Arrays.binarySearch(node.keys, 0, node.n, item);
+            if (i >= 0) {
+                return null;
+            }
+            insertAt(node.keys, node.n, -(i + 1), item);
+            node.n++;
+            changed = true;
+            return node.n > fanout ? splitLeaf(node) : null;
+        }
+        int c = childIndex(node, item);
+        Node sibling = insert(node.children[c], item);
+        if (sibling == null) {
+            return null;
+        }
+        insertAt(node.keys, node.n, c, promoted);
+        insertAt(node.children, node.n + 1, c + 1, sibling);
+        node.n++;
+        return node.n + 1 > fanout ? splitInternal(node) : null;
+    }
+
+    /**
+     * Moves the upper half of an overflowing leaf into a new leaf linked after
+     * it. The new leaf's first item becomes the separator.
+     */
+    private Node splitLeaf(Node node) {
+        int keep = node.n / 2;
+        Node right = new Node(fanout, true);
+        right.n = node.n - keep;
+        System.arraycopy(node.keys, keep, right.keys, 0, right.n);
+        Arrays.fill(node.keys, keep, node.n, null);
+        node.n = keep;
+        right.next = node.next;
+        if (right.next != null) {
+            right.next.prev = right;
+        }
+        right.prev = node;
+        node.next = right;
+        promoted = right.keys[0];
+        return right;
+    }
+
+    /**
+     * Moves the keys and children after the middle key of an overflowing
+     * internal node into a new node. The middle key moves up to the parent.
+     */
+    private Node splitInternal(Node node) {
+        int mid = node.n / 2;
+        Node right = new Node(fanout, false);
+        right.n = node.n - mid - 1;
+        promoted = node.keys[mid];
+        System.arraycopy(node.keys, mid + 1, right.keys, 0, right.n);
+        System.arraycopy(node.children, mid + 1, right.children, 0, right.n + 1);
+        Arrays.fill(node.keys, mid, node.n, null);
+        Arrays.fill(node.children, mid + 1, node.n + 1, null);
+        node.n = mid;
+        return right;
+    }
+
+    /**
+     * Ensures that this set contains all items in the specified collection.
+     *
+     * When the collection is at least as large as this set, the tree is
+     * rebuilt instead of added to one item at a time: the items are sorted
+     * (skipped if they already are), de-duplicated, merged with this set's
+     * items, and packed into full leaves from which each level of internal
+     * nodes is built in turn. That is O(N) for sorted input.
+     *
+     * @param items the collection of items whose presence is ensured in this
+     * set
+     * @return true if this set changed as a result of this call, false
+     * otherwise
+     * @throws NullPointerException if any item is null
+     */
+    @Override
+    public boolean addAll(Collection<? extends Type> items) {
+        if (items.size() < size) {
+            boolean changed = false;
+            for (Type t : items) {
+                changed |= add(t);
+            }
+            return changed;
+        }
+        ArrayList<Type> sorted = SortedInput.sortedDistinct(items);
+        if (size > 0) {
+            sorted = SortedInput.mergeDistinct(toArrayList(), sorted);
+        }
+        int before = size;
+        build(sorted);
+        size = sorted.size();
+        modCount++;
+        return size != before;
+    }
+
+    /**
+     * Replaces the tree with one built bottom-up from sorted, distinct items.
+     * Each level is split into as few nodes as will hold it, sharing the
+     * entries out evenly so that no node other than the root is under half
+     * full.
+     *
+     * @param items the sorted items
+     */
+    private void build(ArrayList<Type> items) {
+        int count = items.size();
+        root = new Node(fanout, true);
+        firstLeaf = root;
+        if (count == 0) {
+            return;
+        }
+        int leaves = (count + fanout - 1) / fanout;
+        List<Node> level = new ArrayList<>(leaves);
+        List<Object> mins = new ArrayList<>(leaves);
+        Node prev = null;
+        int from = 0;
+        for (int j = 1; j <= leaves; j++) {
+            int to = (int) ((long) count * j / leaves);
+            Node leaf = new Node(fanout, true);
+            for (int i = from; i < to; i++) {
+                leaf.keys[leaf.n++] = items.get(i);
+            }
+            leaf.prev = prev;
+            if (prev != null) {
+                prev.next = leaf;
+            }
+            level.add(leaf);
+            mins.add(leaf.keys[0]);
+            prev = leaf;
+            from = to;
+        }
+        firstLeaf = level.get(0);
+        while (level.size() > 1) {
+            int parents = (level.size() + fanout - 1) / fanout;
+            List<Node> up = new ArrayList<>(parents);
+            List<Object> upMins = new ArrayList<>(parents);
+            from = 0;
+            for (int j = 1; j <= parents; j++) {
+                int to = (int) ((long) level.size() * j / parents);
+                Node parent = new Node(fanout, false);
+                parent.children[0] = level.get(from);
+                for (int i = from + 1; i < to; i++) {
+                    parent.keys[parent.n] = mins.get(i);
+                    parent.children[++parent.n] = level.get(i);
+                }
+                up.add(parent);
+                upMins.add(mins.get(from));
+                from = to;
+            }
+            level = up;
+            mins = upMins;
+        }
+        root = level.get(0);
+    }
+
+    /**
+     * Removes all items from this set. The set will be empty after this call.
+     */
+    @Override
+    public void clear() {
+        root = new Node(fanout, true);
+        firstLeaf = root;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Determines if there is an item in this set that is equal to the specified
+     * item. O(log N).
+     *
+     * @param item the item sought in this set
+     * @return true if the item is in this set, false otherwise
+     * @throws NullPointerException if item is null
+     */
+    @Override
+    public boolean contains(Type item) {
+        Objects.requireNonNull(item);
+        Node leaf = leafFor(item);
+        return Arrays.binarySearch(leaf.keys, 0, leaf.n, item) >= 0;
+    }
+
+    /**
+     * Determines if for each item in the specified collection, there is an item
+     * in this set that is equal to it.
+     *
+     * @param items the collection of items sought in this set
+     * @return true if all items in the collection are in this set, false
+     * otherwise
+     */
+    @Override
+    public boolean containsAll(Collection<? extends Type> items) {
+        for (Type t : items) {
+            if (!contains(t)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the first (i.e., smallest) item in this set. O(1).
+     *
+     * @return the smallest item in this set
+     * @throws NoSuchElementException if the set is empty
+     */
+    @Override
+    public Type first() {
+        if (size == 0) {
+            throw new NoSuchElementException("empty");
+        }
+        return key(firstLeaf, 0);
+    }
+
+    /**
+     * Returns true if this set contains no items.
+     *
+     * @return true if this set is empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the last (i.e., largest) item in this set. O(log N).
+     *
+     * @return the largest item in this set
+     * @throws NoSuchElementException if the set is empty
+     */
+    @Override
+    public Type last() {
+        if (size == 0) {
+            throw new NoSuchElementException("empty");
+        }
+        Node node = root;
+        while (!node.isLeaf()) {
+            node = node.children[node.n];
+        }
+        return key(node, node.n - 1);
+    }
+
+    /**
+     * Ensures that this set does not contain the specified item. O(log N).
+     *
+     * @param item the item whose absence is ensured in this set
+     * @return true if this set changed (item was removed), false otherwise
+     * @throws NullPointerException if item is null
+     */
+    @Override
+    public boolean remove(Type item) {
+        Objects.requireNonNull(item);
+        changed = false;
+        delete(root, item);
+        if (!root.isLeaf() && root.n == 0) {
+            root = root.children[0];
+        }
+        if (changed) {
+            size--;
+            modCount++;
+        }
+        return changed;
+    }
+
+    /**
+     * Recursive helper method to delete an item from a subtree. A child left
+     * under half full is refilled before returning.
+     *
+     * Separators are not updated when the item they were copied from is
+     * deleted; they still route searches correctly.
+     *
+     * @param node the root of the subtree
+     * @param item the item to delete
+     * @return true if node itself is now under half full
+     */
+    private boolean delete(Node node, Type item) {
+        if (node.isLeaf()) {
+            int i = Arrays.binarySearch(node.keys, 0, node.n, item);
+            if (i < 0) {
+                return false;
+            }
+            removeAt(node.keys, node.n, i);
+            node.n--;
+            changed = true;
+            return node.n < minKeys;
+        }
+        int c = childIndex(node, item);
+        if (delete(node.children[c], item)) {
+            rebalance(node, c);
+        }
+        return node.n + 1 < minChildren;
+    }
+
+    /**
+     * Refills the under-full child at index c of parent by borrowing an entry
+     * from a sibling that can spare one, or else by merging it with a
+     * sibling.
+     */
+    private void rebalance(Node parent, int c) {
+        Node child = parent.children[c];
+        Node left = (c > 0) ? parent.children[c - 1] : null;
+        Node right = (c < parent.n) ? parent.children[c + 1] : null;
+        if (left != null && canSpare(left)) {
+            borrowFromLeft(parent, c, left, child);
+        } else if (right != null && canSpare(right)) {
+            borrowFromRight(parent, c, child, right);
+        } else if (left != null) {
+            merge(parent, c - 1, left, child);
+        } else {
+            merge(parent, c, child, right);
+        }
+    }
+
+    private boolean canSpare(Node node) {
+        return node.isLeaf() ? node.n > minKeys : node.n + 1 > minChildren;
+    }
+
+    /**
+     * Moves the last entry of left to the front of child, its right neighbor.
+     */
+    private void borrowFromLeft(Node parent, int c, Node left, Node child) {
+        if (child.isLeaf()) {
+            insertAt(child.keys, child.n, 0, left.keys[left.n - 1]);
+            child.n++;
+            left.keys[--left.n] = null;
+            parent.keys[c - 1] = child.keys[0];
+        } else {
+            insertAt(child.keys, child.n, 0, parent.keys[c - 1]);
+            insertAt(child.children, child.n + 1, 0, left.children[left.n]);
+            child.n++;
+            parent.keys[c - 1] = left.keys[left.n - 1];
+            left.keys[left.n - 1] = null;
+            left.children[left.n] = null;
+            left.n--;
+        }
+    }
+
+    /**
+     * Moves the first entry of right to the end of child, its left neighbor.
+     */
+    private void borrowFromRight(Node parent, int c, Node child, Node right) {
+        if (child.isLeaf()) {
+            child.keys[child.n++] = right.keys[0];
+            removeAt(right.keys, right.n, 0);
+            right.n--;
+            parent.keys[c] = right.keys[0];
+        } else {
+            child.keys[child.n] = parent.keys[c];
+            child.children[child.n + 1] = right.children[0];
+            child.n++;
+            parent.keys[c] = right.keys[0];
+            removeAt(right.keys, right.n, 0);
+            removeAt(right.children, right.n + 1, 0);
+            right.n--;
+        }
+    }
+
+    /**
+     * Appends right, the child after separator k of parent, to left and
+     * removes it and the separator from parent.
+     */
+    private void merge(Node parent, int k, Node left, Node right) {
+        if (left.isLeaf()) {
+            System.arraycopy(right.keys, 0, left.keys, left.n, right.n);
+            left.n += right.n;
+            left.next = right.next;
+            if (left.next != null) {
+                left.next.prev = left;
+            }
+        } else {
+            left.keys[left.n] = parent.keys[k];
+            System.arraycopy(right.keys, 0, left.keys, left.n + 1, right.n);
+            System.arraycopy(right.children, 0, left.children, left.n + 1, right.n + 1);
+            left.n += right.n + 1;
+        }
+        removeAt(parent.keys, parent.n, k);
+        removeAt(parent.children, parent.n + 1, k + 1);
+        parent.n--;
+    }
+
+    /**
+     * Ensures that this set does not contain any of the items in the specified
+     * collection.
+     *
+     * @param items the collection of items whose absence is ensured in this set
+     * @return true if this set changed as a result of this call, false
+     * otherwise
+     */
+    @Override
+    public boolean removeAll(Collection<? extends Type> items) {
+        boolean changed = false;
+        for (Type t : items) {
+            changed |= remove(t);
+        }
+        return changed;
+    }
+
+    /**
+     * Returns the number of items in this set.
+     *
+     * @return the number of items in this set
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an ArrayList containing all of the items in this set, in sorted
+     * order, read leaf by leaf along the leaf links.
+     *
+     * @return an ArrayList of all items in sorted (ascending) order
+     */
+    @Override
+    public ArrayList<Type> toArrayList() {
+        ArrayList<Type> list = new ArrayList<>(size);
+        for (Node leaf = firstLeaf; leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.n; i++) {
+                list.add(key(leaf, i));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Returns an iterator over the items in ascending order. It walks each
+     * leaf's array and then follows the link to the next leaf. It supports
+     * remove, and fails fast with ConcurrentModificationException if the set
+     * is changed other than through the iterator.
+     *
+     * @return an iterator over this set
+     */
+    @Override
+    public Iterator<Type> iterator() {
+        return new LeafIterator(null);
+    }
+
+    /**
+     * Returns the greatest item less than or equal to the given item, or null
+     * if there is none. O(log N).
+     *
+     * @param item the item to compare against
+     * @return the floor of item, or null
+     * @throws NullPointerException if item is null
+     */
+    @Override
+    public Type floor(Type item) {
+        return nearest(item, true, true);
+    }
+
+    /**
+     * Returns the least item greater than or equal to the given item, or null
+     * if there is none. O(log N).
+     *
+     * @param item the item to compare against
+     * @return the ceiling of item, or null
+     * @throws NullPointerException if item is null
+     */
+    @Override
+    public Type ceiling(Type item) {
+        return nearest(item, false, true);
+    }
+
+    /**
+     * Returns the least item strictly greater than the given item, or null if
+     * there is none. O(log N).
+     *
+     * @param item the item to compare against
+     * @return the next item after item, or null
+     * @throws NullPointerException if item is null
+     */
+    @Override
+    public Type higher(Type item) {
+        return nearest(item, false, false);
+    }
+
+    /**
+     * Returns the greatest item strictly less than the given item, or null if
+     * there is none. O(log N).
+     *
+     * @param item the item to compare against
+     * @return the item before item, or null
+     * @throws NullPointerException if item is null
+     */
+    @Override
+    public Type lower(Type item) {
+        return nearest(item, true, false);
+    }
+
+    /**
+     * Returns a view of the items from fromItem (inclusive) to toItem
+     * (exclusive), backed by this tree. Iterating the view descends once to
+     * fromItem's leaf and then reads leaves in order.
+     *
+     * @param fromItem low endpoint (inclusive)
+     * @param toItem high endpoint (exclusive)
+     * @return a view of the range
+     * @throws NullPointerException if either endpoint is null
+     * @throws IllegalArgumentException if fromItem is greater than toItem
+     */
+    @Override
+    public SortedSet<Type> subSet(Type fromItem, Type toItem) {
+        Objects.requireNonNull(fromItem);
+        Objects.requireNonNull(toItem);
+        return new SortedSubSet<>(this, fromItem, toItem, LeafIterator::new);
+    }
+
+    /**
+     * Returns a view of the items strictly less than toItem, backed by this
+     * tree.
+     *
+     * @param toItem high endpoint (exclusive)
+     * @return a view of the range
+     * @throws NullPointerException if toItem is null
+     */
+    @Override
+    public SortedSet<Type> headSet(Type toItem) {
+        Objects.requireNonNull(toItem);
+        return new SortedSubSet<>(this, null, toItem, LeafIterator::new);
+    }
+
+    /**
+     * Returns a view of the items greater than or equal to fromItem, backed by
+     * this tree.
+     *
+     * @param fromItem low endpoint (inclusive)
+     * @return a view of the range
+     * @throws NullPointerException if fromItem is null
+     */
+    @Override
+    public SortedSet<Type> tailSet(Type fromItem) {
+        Objects.requireNonNull(fromItem);
+        return new SortedSubSet<>(this, fromItem, null, LeafIterator::new);
+    }
+
+    /**
+     * Returns a string representation of the tree in sorted order.
+     *
+     * @return a string representation of this tree
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (Iterator<Type> it = iterator(); it.hasNext();) {
+            sb.append(it.next());
+            if (it.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Finds the closest item to the given one in one direction, stepping to
+     * a neighboring leaf if it is not in item's own leaf.
+     *
+     * @param item the item to compare against
+     * @param below true to look for items less than item, false for greater
+     * @param inclusive true if item itself qualifies
+     * @return the closest qualifying item, or null if there is none
+     */
+    private Type nearest(Type item, boolean below, boolean inclusive) {
+        Objects.requireNonNull(item);
+        Node leaf = leafFor(item);
+        int i = Arrays.binarySearch(leaf.keys, 0, leaf.n, item);
+        int pos;
+        if (i >= 0) {
+            pos = inclusive ? i : (below ? i - 1 : i + 1);
+        } else {
+            pos = below ? -(i + 1) - 1 : -(i + 1);
+        }
+        if (pos < 0) {
+            leaf = leaf.prev;
+            return leaf == null ? null : key(leaf, leaf.n - 1);
+        }
+        if (pos >= leaf.n) {
+            leaf = leaf.next;
+            return leaf == null ? null : key(leaf, 0);
+        }
+        return key(leaf, pos);
+    }
+
+    /**
+     * Returns the leaf that holds item, or would hold it if it were added.
+     */
+    private Node leafFor(Type item) {
+        Node node = root;
+        while (!node.isLeaf()) {
+            node = node.children[childIndex(node, item)];
+        }
+        return node;
+    }
+
+    /**
+     * Returns the index of the child of an internal node to search for item:
+     * the number of separators less than or equal to it.
+     */
+    private static int childIndex(Node node, Object item) {
+        int i = Arrays.binarySearch(node.keys, 0, node.n, item);
+        return (i >= 0) ? i + 1 : -(i + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Type key(Node node, int i) {
+        return (Type) node.keys[i];
+    }
+
+    /**
+     * Inserts x at index i of the first len slots of a, shifting later
+     * entries right.
+     */
+    private static void insertAt(Object[] a, int len, int i, Object x) {
+        System.arraycopy(a, i, a, i + 1, len - i);
+        a[i] = x;
+    }
+
+    /**
+     * Removes index i from the first len slots of a, shifting later entries
+     * left and clearing the freed slot.
+     */
+    private static void removeAt(Object[] a, int len, int i) {
+        System.arraycopy(a, i + 1, a, i, len - i - 1);
+        a[len - 1] = null;
+    }
+
+    /**
+     * Iterator that reads each leaf's keys in turn and follows the leaf links.
+     */
+    private class LeafIterator implements Iterator<Type> {
+
+        private Node leaf;
+        private int index;
+        private Type lastReturned;
+        private int expectedModCount = modCount;
+
+        /**
+         * Creates an iterator starting at the least item greater than or
+         * equal to from, or at the first item if from is null.
+         *
+         * @param from the item to start at, or null
+         */
+        LeafIterator(Type from) {
+            if (from == null) {
+                leaf = firstLeaf;
+                index = 0;
+            } else {
+                seek(from, true);
+            }
+        }
+
+        /**
+         * Positions the iterator at the least item after from (inclusive or
+         * not), descending once from the root.
+         */
+        private void seek(Type from, boolean inclusive) {
+            leaf = leafFor(from);
+            int i = Arrays.binarySearch(leaf.keys, 0, leaf.n, from);
+            index = (i >= 0) ? (inclusive ? i : i + 1) : -(i + 1);
+            if (index == leaf.n) {
+                leaf = leaf.next;
+                index = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return leaf != null && index < leaf.n;
+        }
+
+        @Override
+        public Type next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = key(leaf, index++);
+            if (index == leaf.n) {
+                leaf = leaf.next;
+                index = 0;
+            }
+            return lastReturned;
+        }
+
+        /**
+         * Removes the last item returned. Removing may shift, borrow, or merge
+         * keys between leaves, so the position is found again by seeking past
+         * the removed item. O(log N).
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            BTreeSet.this.remove(lastReturned);
+            seek(lastReturned, false);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * Returns the number of levels in the tree, counting the leaves (1 if
+     * empty). O(log N); intended for tests.
+     *
+     * @return the tree's height
+     */
+    int height() {
+        int height = 1;
+        for (Node node = root; !node.isLeaf(); node = node.children[0]) {
+            height++;
+        }
+        return height;
+    }
+
+    /**
+     * Checks key order, node occupancy, uniform leaf depth, and the leaf links
+     * over the whole tree. O(N); intended for tests.
+     *
+     * @return true if the tree is a valid B+ tree
+     */
+    boolean isValid() {
+        List<Node> leaves = new ArrayList<>();
+        if (checkNode(root, null, null, true, leaves) < 0) {
+            return false;
+        }
+        Node expected = firstLeaf;
+        Node prev = null;
+        int count = 0;
+        for (Node leaf : leaves) {
+            if (leaf != expected || leaf.prev != prev) {
+                return false;
+            }
+            count += leaf.n;
+            prev = leaf;
+            expected = leaf.next;
+        }
+        return expected == null && count == size;
+    }
+
+    /**
+     * Checks a subtree whose keys must lie in [lo, hi), collecting its leaves
+     * in order.
+     *
+     * @return the depth of the subtree's leaves, or -1 if a rule is broken
+     */
+    private int checkNode(Node node, Type lo, Type hi, boolean isRoot, List<Node> leaves) {
+        int min = isRoot ? (node.isLeaf() ? 0 : 1) : (node.isLeaf() ? minKeys : minChildren - 1);
+        if (node.n < min || node.n > (node.isLeaf() ? fanout : fanout - 1)) {
+            return -1;
+        }
+        for (int i = 0; i < node.n; i++) {
+            Type k = key(node, i);
+            if ((i > 0 && key(node, i - 1).compareTo(k) >= 0)
+                    || (lo != null && k.compareTo(lo) < 0)
+                    || (hi != null && k.compareTo(hi) >= 0)) {
+                return -1;
+            }
+        }
+        if (node.isLeaf()) {
+            leaves.add(node);
+            return 0;
+        }
+        int depth = -1;
+        for (int i = 0; i <= node.n; i++) {
+            Type childLo = (i == 0) ? lo : key(node, i - 1);
+            Type childHi = (i == node.n) ? hi : key(node, i);
+            int d = checkNode(node.children[i], childLo, childHi, false, leaves);
+            if (d < 0 || (i > 0 && d != depth)) {
+                return -1;
+            }
+            depth = d;
+        }
+        return depth + 1;
+    }
+}
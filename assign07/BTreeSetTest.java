@@ -0,0 +1,228 @@
+package assign07;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for BTreeSet: SortedSet behavior, node splits and merges at
+ * every supported fanout, bulk loading, and agreement with java.util.TreeSet
+ * under random operations.
+ *
+ * @author Alex Waldmann
+ * @author Tyler Gagliardi
+ * @version October 23, 2025
+ */
+class BTreeSetTest {
+
+    private BTreeSet<Integer> tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new BTreeSet<>(BTreeSet.MIN_FANOUT);
+    }
+
+    private static List<Integer> range(int from, int to) {
+        List<Integer> items = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            items.add(i);
+        }
+        return items;
+    }
+
+    // ========== Basic Set Tests ==========
+    @Test
+    void testEmptyTree() {
+        assertTrue(tree.isEmpty());
+        assertEquals(0, tree.size());
+        assertFalse(tree.contains(1));
+        assertFalse(tree.remove(1));
+        assertThrows(NoSuchElementException.class, () -> tree.first());
+        assertThrows(NoSuchElementException.class, () -> tree.last());
+        assertEquals("[]", tree.toString());
+        assertEquals(1, tree.height());
+        assertTrue(tree.isValid());
+    }
+
+    @Test
+    void testAddContainsRemove() {
+        assertTrue(tree.add(5));
+        assertTrue(tree.add(3));
+        assertTrue(tree.add(8));
+        assertFalse(tree.add(5));
+        assertEquals(3, tree.size());
+        assertTrue(tree.contains(3));
+        assertFalse(tree.contains(4));
+        assertEquals(3, tree.first());
+        assertEquals(8, tree.last());
+        assertTrue(tree.remove(5));
+        assertFalse(tree.remove(5));
+        assertEquals(Arrays.asList(3, 8), tree.toArrayList());
+    }
+
+    @Test
+    void testNullThrows() {
+        assertThrows(NullPointerException.class, () -> tree.add(null));
+        assertThrows(NullPointerException.class, () -> tree.contains(null));
+        assertThrows(NullPointerException.class, () -> tree.remove(null));
+    }
+
+    @Test
+    void testFanoutBounds() {
+        assertEquals(BTreeSet.DEFAULT_FANOUT, new BTreeSet<Integer>().fanout());
+        assertEquals(128, new BTreeSet<Integer>(128).fanout());
+        assertThrows(IllegalArgumentException.class, () -> new BTreeSet<Integer>(31));
+        assertThrows(IllegalArgumentException.class, () -> new BTreeSet<Integer>(129));
+    }
+
+    // ========== Split and Merge Tests ==========
+    @Test
+    void testSortedInsertionSplitsEvenly() {
+        int n = 100_000;
+        for (int i = 0; i < n; i++) {
+            tree.add(i);
+        }
+        assertEquals(n, tree.size());
+        assertTrue(tree.isValid());
+        // Half-full nodes of fanout 32 give at most ceil(log16(N)) + 1 levels
+        assertTrue(tree.height() <= 6, "height " + tree.height());
+        assertEquals(0, tree.first());
+        assertEquals(n - 1, tree.last());
+        assertEquals(range(0, n), tree.toArrayList());
+    }
+
+    @Test
+    void testRemovingEverythingShrinksTree() {
+        for (int fanout : new int[]{32, 33, 64, 127, 128}) {
+            BTreeSet<Integer> set = new BTreeSet<>(fanout);
+            List<Integer> items = range(0, 20_000);
+            Collections.shuffle(items, new Random(fanout));
+            for (int item : items) {
+                set.add(item);
+            }
+            assertTrue(set.isValid(), "fanout " + fanout);
+            Collections.shuffle(items, new Random(-fanout));
+            for (int i = 0; i < items.size(); i++) {
+                assertTrue(set.remove(items.get(i)));
+                if (i % 1000 == 0) {
+                    assertTrue(set.isValid(), "fanout " + fanout + " after " + i);
+                }
+            }
+            assertTrue(set.isEmpty());
+            assertTrue(set.isValid());
+            assertEquals(1, set.height());
+        }
+    }
+
+    // ========== Random Operation Tests ==========
+    @Test
+    void testRandomOperationsMatchTreeSet() {
+        Random rng = new Random(50);
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int step = 0; step < 50_000; step++) {
+            int value = rng.nextInt(5000);
+            if (rng.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), tree.remove(value));
+            } else {
+                assertEquals(expected.add(value), tree.add(value));
+            }
+            if (step % 5000 == 0) {
+                assertEquals(new ArrayList<>(expected), tree.toArrayList());
+                assertTrue(tree.isValid());
+            }
+        }
+        assertEquals(expected.size(), tree.size());
+        assertEquals(new ArrayList<>(expected), tree.toArrayList());
+        assertTrue(tree.isValid());
+    }
+
+    @Test
+    void testIteratorRemoveAcrossLeaves() {
+        tree.addAll(range(0, 5000));
+        Iterator<Integer> it = tree.iterator();
+        while (it.hasNext()) {
+            if (it.next() % 3 != 0) {
+                it.remove();
+            }
+        }
+        assertTrue(tree.isValid());
+        assertEquals(1667, tree.size());
+        int expected = 0;
+        for (int item : tree) {
+            assertEquals(expected, item);
+            expected += 3;
+        }
+    }
+
+    // ========== Bulk Load Tests ==========
+    @Test
+    void testBulkLoadIsValidForEverySize() {
+        for (int n = 0; n <= 3000; n += (n < 200 ? 1 : 97)) {
+            BTreeSet<Integer> bulk = new BTreeSet<>(BTreeSet.MIN_FANOUT);
+            List<Integer> items = range(0, n);
+            assertEquals(n > 0, bulk.addAll(items));
+            assertEquals(n, bulk.size());
+            assertTrue(bulk.isValid(), "n = " + n);
+            assertEquals(items, bulk.toArrayList());
+        }
+    }
+
+    @Test
+    void testBulkLoadIsShallow() {
+        BTreeSet<Integer> bulk = new BTreeSet<>();
+        bulk.addAll(range(0, 1_000_000));
+        // Full leaves of 64 and full internal nodes: 15625 leaves, 245, 4, 1
+        assertEquals(4, bulk.height());
+        assertTrue(bulk.contains(765_432));
+        assertFalse(bulk.contains(1_000_000));
+    }
+
+    @Test
+    void testBulkLoadUnsortedWithDuplicatesThenMutate() {
+        Random rng = new Random(51);
+        List<Integer> items = new ArrayList<>();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            int value = rng.nextInt(6000);
+            items.add(value);
+            expected.add(value);
+        }
+        assertTrue(tree.addAll(items));
+        assertTrue(tree.isValid());
+        assertEquals(new ArrayList<>(expected), tree.toArrayList());
+        for (int i = 0; i < 10_000; i++) {
+            int value = rng.nextInt(6000);
+            if (rng.nextBoolean()) {
+                assertEquals(expected.add(value), tree.add(value));
+            } else {
+                assertEquals(expected.remove(value), tree.remove(value));
+            }
+        }
+        assertTrue(tree.isValid());
+        assertEquals(new ArrayList<>(expected), tree.toArrayList());
+    }
+
+    @Test
+    void testBulkLoadMergesWithExistingItems() {
+        tree.add(5);
+        tree.add(100);
+        assertTrue(tree.addAll(Arrays.asList(1, 5, 7, 9)));
+        assertEquals(Arrays.asList(1, 5, 7, 9, 100), tree.toArrayList());
+        assertTrue(tree.isValid());
+        assertFalse(tree.addAll(Arrays.asList(1, 5, 7, 9, 100)));
+        assertThrows(NullPointerException.class, () -> tree.addAll(Arrays.asList(1, null, 2, 3, 4, 6)));
+        assertEquals(5, tree.size());
+    }
+}
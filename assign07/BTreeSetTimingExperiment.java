@@ -0,0 +1,148 @@
+package assign07;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import timing.TimingExperiment;
+
+/**
+ * Timing experiments comparing BTreeSet with BinarySearchTree on lookups,
+ * inserts, and range scans.
+ *
+ * Each set is loaded with N distinct random integers through addAll, so the
+ * BinarySearchTree starts perfectly balanced and the comparison isolates node
+ * layout: one object per item for the BST against sorted arrays of up to
+ * fanout items for the B-tree. Every timed computation performs BATCH
+ * operations so that a single measurement is well above timer resolution.
+ *
+ * @author Alex Waldmann
+ * @author Tyler Gagliardi
+ * @version October 23, 2025
+ */
+public class BTreeSetTimingExperiment {
+
+    /** Operations performed per timed computation. */
+    private static final int BATCH = 1000;
+
+    /** Number of consecutive keys visited by each range scan. */
+    private static final int SCAN_LENGTH = 100;
+
+    /**
+     * Operation being timed
+     */
+    public enum Operation {
+        LOOKUP, INSERT, RANGE_SCAN
+    }
+
+    /**
+     * Timing experiment for one operation on one SortedSet implementation
+     */
+    public static class SetExperiment extends TimingExperiment {
+
+        private final Supplier<SortedSet<Integer>> factory;
+        private final Operation operation;
+        private final Random rng = new Random(50);
+        private SortedSet<Integer> set;
+        private int[] probes;
+        private int n;
+
+        public SetExperiment(String problemSizeName, List<Integer> problemSizes, int iterationCount,
+                Supplier<SortedSet<Integer>> factory, Operation operation) {
+            super(problemSizeName, problemSizes, iterationCount);
+            this.factory = factory;
+            this.operation = operation;
+        }
+
+        @Override
+        protected void setupExperiment(int problemSize) {
+            n = problemSize;
+            // Even keys are loaded, so odd keys are always new to INSERT
+            List<Integer> items = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                items.add(2 * i);
+            }
+            Collections.shuffle(items, rng);
+            set = factory.get();
+            set.addAll(items);
+            probes = new int[BATCH];
+            for (int i = 0; i < BATCH; i++) {
+                probes[i] = 2 * rng.nextInt(n);
+            }
+        }
+
+        @Override
+        protected void runComputation() {
+            switch (operation) {
+                case LOOKUP -> {
+                    for (int probe : probes) {
+                        set.contains(probe);
+                    }
+                }
+                case INSERT -> {
+                    for (int i = 0; i < BATCH; i++) {
+                        set.add(2 * rng.nextInt(n) + 1);
+                    }
+                }
+                case RANGE_SCAN -> {
+                    for (int probe : probes) {
+                        Iterator<Integer> it = set.subSet(probe, probe + 2 * SCAN_LENGTH).iterator();
+                        while (it.hasNext()) {
+                            it.next();
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<Integer> makeProblemSizes(int count, int min, double factor) {
+        List<Integer> sizes = new ArrayList<>();
+        int current = min;
+
+        for (int i = 0; i < count; i++) {
+            sizes.add(current);
+            current = (int) Math.round(current * factor);
+        }
+
+        return sizes;
+    }
+
+    /**
+     * Main method to run every operation against the BST and B-trees of the
+     * smallest, default, and largest fanout
+     */
+    public static void main(String[] args) {
+        System.out.println("=== BTreeSet vs BinarySearchTree ===\n");
+
+        List<Integer> problemSizes = makeProblemSizes(10, 10_000, 2.0); // 10k to ~5M
+        int iterationCount = 10;
+        int warmupIterations = 3;
+
+        System.out.println("Problem sizes: " + problemSizes);
+        System.out.println("Operations per measurement: " + BATCH + "\n");
+
+        List<String> names = List.of("BinarySearchTree", "BTreeSet (fanout=" + BTreeSet.MIN_FANOUT + ")",
+                "BTreeSet (fanout=" + BTreeSet.DEFAULT_FANOUT + ")", "BTreeSet (fanout=" + BTreeSet.MAX_FANOUT + ")");
+        List<Supplier<SortedSet<Integer>>> factories = List.of(BinarySearchTree::new,
+                () -> new BTreeSet<>(BTreeSet.MIN_FANOUT), BTreeSet::new,
+                () -> new BTreeSet<>(BTreeSet.MAX_FANOUT));
+
+        for (Operation operation : Operation.values()) {
+            System.out.println("--- " + operation + " ---");
+            for (int i = 0; i < factories.size(); i++) {
+                System.out.println("Testing " + names.get(i));
+                SetExperiment experiment = new SetExperiment(names.get(i) + " " + operation,
+                        problemSizes, iterationCount, factories.get(i), operation);
+
+                experiment.warmup(warmupIterations);
+                experiment.run();
+                experiment.print();
+                System.out.println();
+            }
+        }
+    }
+}
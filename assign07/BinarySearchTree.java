@@ -1,7 +1,10 @@
 package assign07;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 
@@ -11,7 +14,14 @@ import java.util.Objects;
  * contains smaller items, right subtree contains larger items.
  *
  * This implementation does not maintain balance, so operations may degrade to
- * O(N) in worst case with skewed insertions.
+ * O(N) in worst case with skewed insertions. addAll rebuilds a balanced tree
+ * when given a large collection, but later single adds and removes do not
+ * rebalance.
+ *
+ * Each node also records the size of its subtree, which answers order
+ * statistics without copying the tree: select finds the item at a sorted
+ * index, rank counts the items before a given one, and countRange counts the
+ * items in a range, each in O(height).
  *
  * @param <Type> the type of elements in this tree, must be Comparable
  * @author Alex Waldmann
@@ -23,14 +33,19 @@ public class BinarySearchTree<Type extends Comparable<? super Type>> implements
     private Node root;
     private int size;
 
+    /** Count of changes to the set, checked by iterators to fail fast. */
+    private int modCount;
+
     /**
      * Inner class representing a node in the binary search tree. Each node
-     * contains data and references to left and right children.
+     * contains data, references to left and right children, and the number of
+     * nodes in the subtree rooted at it.
      */
     private class Node {
 
         Type data;
         Node left, right;
+        int count = 1;
 
         /**
          * Constructs a node with the given data and null children.
@@ -68,6 +83,7 @@ public class BinarySearchTree<Type extends Comparable<? super Type>> implements
     private Node insert(Node cur, Type item) {
         if (cur == null) {
             size++;
+            modCount++;
             return new Node(item);
         }
         int cmp = item.compareTo(cur.data);
@@ -76,24 +92,65 @@ public class BinarySearchTree<Type extends Comparable<? super Type>> implements
         }else if (cmp > 0) {
             cur.right = insert(cur.right, item);
         }
+        cur.count = 1 + count(cur.left) + count(cur.right);
         return cur;
     }
 
     /**
      * Ensures that this set contains all items in the specified collection.
      *
+     * When the collection is at least as large as this set, the tree is
+     * rebuilt instead of added to one item at a time: the items are sorted
+     * (skipped if they already are) and de-duplicated, merged with this set's
+     * items, and rebuilt perfectly balanced by making the middle item of each
+     * range the root of its subtree. That is O(N) for sorted input, where
+     * adding sorted items one by one is O(N^2) and leaves a fully skewed tree.
+     *
      * @param items the collection of items whose presence is ensured in this
      * set
      * @return true if this set changed as a result of this call, false
      * otherwise
+     * @throws NullPointerException if any item is null
      */
     @Override
     public boolean addAll(Collection<? extends Type> items) {
-        boolean changed = false;
-        for (Type t : items) {
-            changed |= add(t);
+        if (items.size() < size) {
+            boolean changed = false;
+            for (Type t : items) {
+                changed |= add(t);
+            }
+            return changed;
         }
-        return changed;
+        ArrayList<Type> sorted = SortedInput.sortedDistinct(items);
+        if (size > 0) {
+            sorted = SortedInput.mergeDistinct(toArrayList(), sorted);
+        }
+        int before = size;
+        root = build(sorted, 0, sorted.size());
+        size = sorted.size();
+        modCount++;
+        return size != before;
+    }
+
+    /**
+     * Recursive helper method to build a perfectly balanced subtree from a
+     * range of sorted, distinct items. Recursion depth is O(log N).
+     *
+     * @param items the sorted items
+     * @param lo first index of the range (inclusive)
+     * @param hi end of the range (exclusive)
+     * @return the root of the subtree, or null if the range is empty
+     */
+    private Node build(ArrayList<Type> items, int lo, int hi) {
+        if (lo >= hi) {
+            return null;
+        }
+        int mid = (lo + hi) >>> 1;
+        Node node = new Node(items.get(mid));
+        node.left = build(items, lo, mid);
+        node.right = build(items, mid + 1, hi);
+        node.count = hi - lo;
+        return node;
     }
 
     /**
@@ -103,6 +160,7 @@ public class BinarySearchTree<Type extends Comparable<? super Type>> implements
     public void clear() {
         root = null;
         size = 0;
+        modCount++;
     }
 
     /**
@@ -207,6 +265,7 @@ public class BinarySearchTree<Type extends Comparable<? super Type>> implements
         root = delete(root, item);
         if (removed) {
             size--;
+            modCount++;
         }
         return removed;
     }
@@ -243,6 +302,7 @@ public class BinarySearchTree<Type extends Comparable<? super Type>> implements
             cur.data = succ.data;
             cur.right = deleteMin(cur.right);
         }
+        cur.count = 1 + count(cur.left) + count(cur.right);
         return cur;
     }
 
@@ -258,6 +318,7 @@ public class BinarySearchTree<Type extends Comparable<? super Type>> implements
             return cur.right;
         }
         cur.left = deleteMin(cur.left);
+        cur.count--;
         return cur;
     }
 
@@ -288,6 +349,92 @@ public class BinarySearchTree<Type extends Comparable<? super Type>> implements
         return size;
     }
 
+    /**
+     * Returns the item at the given index in sorted order, so select(0) is the
+     * first item and select(size() - 1) the last. O(height).
+     *
+     * @param index the sorted position of the item
+     * @return the item with exactly index items before it
+     * @throws IndexOutOfBoundsException if index is negative or not less than
+     * size()
+     */
+    public Type select(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Node cur = root;
+        while (true) {
+            int leftCount = count(cur.left);
+            if (index < leftCount) {
+                cur = cur.left;
+            } else if (index > leftCount) {
+                index -= leftCount + 1;
+                cur = cur.right;
+            } else {
+                return cur.data;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of items in this set strictly less than the given
+     * item. If item is in the set this is its index in sorted order, so
+     * select(rank(item)) returns it. O(height).
+     *
+     * @param item the item to compare against
+     * @return the number of items less than item
+     * @throws NullPointerException if item is null
+     */
+    public int rank(Type item) {
+        Objects.requireNonNull(item);
+        int before = 0;
+        Node cur = root;
+        while (cur != null) {
+            int cmp = item.compareTo(cur.data);
+            if (cmp < 0) {
+                cur = cur.left;
+            } else {
+                before += count(cur.left);
+                if (cmp == 0) {
+                    return before;
+                }
+                before++;
+                cur = cur.right;
+            }
+        }
+        return before;
+    }
+
+    /**
+     * Returns the number of items from fromItem (inclusive) to toItem
+     * (exclusive), the same range subSet views. Computed as the difference of
+     * two ranks, so it is O(height) no matter how many items are in range.
+     *
+     * @param fromItem low endpoint (inclusive)
+     * @param toItem high endpoint (exclusive)
+     * @return the number of items in the range
+     * @throws NullPointerException if either endpoint is null
+     * @throws IllegalArgumentException if fromItem is greater than toItem
+     */
+    public int countRange(Type fromItem, Type toItem) {
+        Objects.requireNonNull(fromItem);
+        Objects.requireNonNull(toItem);
+        if (fromItem.compareTo(toItem) > 0) {
+            throw new IllegalArgumentException("fromItem > toItem");
+        }
+        return rank(toItem) - rank(fromItem);
+    }
+
+    /**
+     * Returns the number of nodes in a subtree.
+     *
+     * @param node the root of the subtree, or null
+     * @return the subtree's size, 0 if node is null
+     */
+    private int count(Node node) {
+        return (node == null) ? 0 : node.count;
+    }
+
     /**
      * Returns an ArrayList containing all of the items in this set, in sorted
      * order.
@@ -318,12 +465,254 @@ public class BinarySearchTree<Type extends Comparable<? super Type>> implements
     }
 
     /**
-     * Returns a string representation of the tree in sorted order.
+     * Returns the height of the tree, counting nodes on the longest path from
+     * the root (0 if empty). O(N); intended for tests.
+     *
+     * @return the tree's height
+     */
+    int height() {
+        return height(root);
+    }
+
+    private int height(Node cur) {
+        return cur == null ? 0 : 1 + Math.max(height(cur.left), height(cur.right));
+    }
+
+    /**
+     * Returns an iterator over the items in ascending order. The iterator
+     * keeps an explicit stack of the O(height) nodes above its position, so
+     * creating it is O(height) and a full traversal is O(N) without copying
+     * the set. It supports remove, and fails fast with
+     * ConcurrentModificationException if the set is changed other than
+     * through the iterator.
+     *
+     * @return an iterator over this set
+     */
+    @Override
+    public Iterator<Type> iterator() {
+        return new TreeIterator(null);
+    }
+
+    /**
+     * Returns the greatest item less than or equal to the given item, or null
+     * if there is none. O(height).
+     *
+     * @param item the item to compare against
+     * @return the floor of item, or null
+     * @throws NullPointerException if item is null
+     */
+    @Override
+    public Type floor(Type item) {
+        return nearest(item, true, true);
+    }
+
+    /**
+     * Returns the least item greater than or equal to the given item, or null
+     * if there is none. O(height).
+     *
+     * @param item the item to compare against
+     * @return the ceiling of item, or null
+     * @throws NullPointerException if item is null
+     */
+    @Override
+    public Type ceiling(Type item) {
+        return nearest(item, false, true);
+    }
+
+    /**
+     * Returns the least item strictly greater than the given item, or null if
+     * there is none. O(height).
+     *
+     * @param item the item to compare against
+     * @return the next item after item, or null
+     * @throws NullPointerException if item is null
+     */
+    @Override
+    public Type higher(Type item) {
+        return nearest(item, false, false);
+    }
+
+    /**
+     * Returns the greatest item strictly less than the given item, or null if
+     * there is none. O(height).
+     *
+     * @param item the item to compare against
+     * @return the item before item, or null
+     * @throws NullPointerException if item is null
+     */
+    @Override
+    public Type lower(Type item) {
+        return nearest(item, true, false);
+    }
+
+    /**
+     * Returns a view of the items from fromItem (inclusive) to toItem
+     * (exclusive), backed by this tree. Iterating the view starts with an
+     * O(height) descent to fromItem and then visits only the items in range.
+     *
+     * @param fromItem low endpoint (inclusive)
+     * @param toItem high endpoint (exclusive)
+     * @return a view of the range
+     * @throws NullPointerException if either endpoint is null
+     * @throws IllegalArgumentException if fromItem is greater than toItem
+     */
+    @Override
+    public SortedSet<Type> subSet(Type fromItem, Type toItem) {
+        Objects.requireNonNull(fromItem);
+        Objects.requireNonNull(toItem);
+        return new SortedSubSet<>(this, fromItem, toItem, TreeIterator::new);
+    }
+
+    /**
+     * Returns a view of the items strictly less than toItem, backed by this
+     * tree.
+     *
+     * @param toItem high endpoint (exclusive)
+     * @return a view of the range
+     * @throws NullPointerException if toItem is null
+     */
+    @Override
+    public SortedSet<Type> headSet(Type toItem) {
+        Objects.requireNonNull(toItem);
+        return new SortedSubSet<>(this, null, toItem, TreeIterator::new);
+    }
+
+    /**
+     * Returns a view of the items greater than or equal to fromItem, backed by
+     * this tree.
+     *
+     * @param fromItem low endpoint (inclusive)
+     * @return a view of the range
+     * @throws NullPointerException if fromItem is null
+     */
+    @Override
+    public SortedSet<Type> tailSet(Type fromItem) {
+        Objects.requireNonNull(fromItem);
+        return new SortedSubSet<>(this, fromItem, null, TreeIterator::new);
+    }
+
+    /**
+     * Returns a string representation of the tree in sorted order, built
+     * directly from an iterator rather than an intermediate list.
      *
      * @return a string representation of this tree
      */
     @Override
     public String toString() {
-        return toArrayList().toString();
+        StringBuilder sb = new StringBuilder("[");
+        for (Iterator<Type> it = iterator(); it.hasNext();) {
+            sb.append(it.next());
+            if (it.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Finds the closest item to the given one in one direction.
+     *
+     * @param item the item to compare against
+     * @param below true to look for items less than item, false for greater
+     * @param inclusive true if item itself qualifies
+     * @return the closest qualifying item, or null if there is none
+     */
+    private Type nearest(Type item, boolean below, boolean inclusive) {
+        Objects.requireNonNull(item);
+        Type best = null;
+        Node cur = root;
+        while (cur != null) {
+            int cmp = item.compareTo(cur.data);
+            if (cmp == 0 && inclusive) {
+                return cur.data;
+            }
+            if (below ? cmp > 0 : cmp < 0) {
+                best = cur.data; // qualifies; look for a closer one
+                cur = below ? cur.right : cur.left;
+            } else {
+                cur = below ? cur.left : cur.right;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * In-order iterator that keeps the nodes still to be visited above its
+     * position on an explicit stack: the next node is on top, with the
+     * ancestors whose items come after it beneath.
+     */
+    private class TreeIterator implements Iterator<Type> {
+
+        private final ArrayDeque<Node> stack = new ArrayDeque<>();
+        private Type lastReturned;
+        private int expectedModCount = modCount;
+
+        /**
+         * Creates an iterator starting at the least item greater than or
+         * equal to from, or at the first item if from is null.
+         *
+         * @param from the item to start at, or null
+         */
+        TreeIterator(Type from) {
+            seek(from, true);
+        }
+
+        /**
+         * Rebuilds the stack to start at the least item after from
+         * (inclusive or not), descending once from the root.
+         */
+        private void seek(Type from, boolean inclusive) {
+            stack.clear();
+            Node cur = root;
+            while (cur != null) {
+                int cmp = (from == null) ? -1 : from.compareTo(cur.data);
+                if (cmp < 0 || (cmp == 0 && inclusive)) {
+                    stack.push(cur);
+                    cur = cur.left;
+                } else {
+                    cur = cur.right;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public Type next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node node = stack.pop();
+            for (Node cur = node.right; cur != null; cur = cur.left) {
+                stack.push(cur);
+            }
+            lastReturned = node.data;
+            return lastReturned;
+        }
+
+        /**
+         * Removes the last item returned. delete may move a successor's item
+         * into another node, so the stack is rebuilt by seeking past the
+         * removed item. O(height).
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            BinarySearchTree.this.remove(lastReturned);
+            seek(lastReturned, false);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
     }
 }
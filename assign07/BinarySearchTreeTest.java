@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -610,4 +612,118 @@ class BinarySearchTreeTest {
         // New root should be different
         assertTrue(smallTree.contains(7) || smallTree.contains(3));
     }
+
+    // ========== Bulk Load Tests ==========
+    @Test
+    void testAddAllSortedInputBuildsBalancedTree() {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>();
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            items.add(i);
+        }
+        assertTrue(tree.addAll(items));
+        assertEquals(100_000, tree.size());
+        // A perfectly balanced tree of 100,000 nodes has height 17
+        assertEquals(17, tree.height());
+        assertTrue(tree.contains(0));
+        assertTrue(tree.contains(99_999));
+        assertEquals(items, tree.toArrayList());
+    }
+
+    @Test
+    void testAddAllUnsortedWithDuplicates() {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>();
+        assertTrue(tree.addAll(Arrays.asList(9, 3, 7, 3, 1, 9, 5)));
+        assertEquals(Arrays.asList(1, 3, 5, 7, 9), tree.toArrayList());
+        assertEquals(3, tree.height());
+        assertTrue(tree.remove(5));
+        assertTrue(tree.add(4));
+        assertEquals(Arrays.asList(1, 3, 4, 7, 9), tree.toArrayList());
+    }
+
+    @Test
+    void testAddAllMergesIntoExistingTree() {
+        assertTrue(smallTree.addAll(Arrays.asList(0, 2, 4, 5, 6, 8, 10)));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10), smallTree.toArrayList());
+        assertEquals(11, smallTree.size());
+        assertEquals(4, smallTree.height());
+        assertFalse(smallTree.addAll(smallTree.toArrayList()));
+    }
+
+    @Test
+    void testAddAllNullItemLeavesTreeUnchanged() {
+        assertThrows(NullPointerException.class,
+                () -> smallTree.addAll(Arrays.asList(2, null, 4, 6, 8, 10)));
+        assertEquals(Arrays.asList(1, 3, 5, 7, 9), smallTree.toArrayList());
+    }
+
+    // ========== Order Statistic Tests ==========
+    @Test
+    void testSelectAndRank() {
+        // smallTree holds 1, 3, 5, 7, 9
+        for (int i = 0; i < 5; i++) {
+            assertEquals(2 * i + 1, smallTree.select(i));
+            assertEquals(i, smallTree.rank(2 * i + 1));
+        }
+        assertEquals(0, smallTree.rank(0));
+        assertEquals(2, smallTree.rank(4));
+        assertEquals(5, smallTree.rank(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallTree.select(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallTree.select(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> new BinarySearchTree<Integer>().select(0));
+        assertThrows(NullPointerException.class, () -> smallTree.rank(null));
+    }
+
+    @Test
+    void testCountRange() {
+        assertEquals(3, smallTree.countRange(2, 8));
+        assertEquals(3, smallTree.countRange(3, 9));
+        assertEquals(5, smallTree.countRange(0, 100));
+        assertEquals(0, smallTree.countRange(4, 4));
+        assertEquals(smallTree.subSet(2, 8).size(), smallTree.countRange(2, 8));
+        assertThrows(IllegalArgumentException.class, () -> smallTree.countRange(8, 2));
+        assertThrows(NullPointerException.class, () -> smallTree.countRange(null, 2));
+    }
+
+    @Test
+    void testOrderStatisticsAfterRandomOperations() {
+        // Exercises insert, leaf and one-child deletes, and the successor
+        // replacement path, then checks every subtree count through select
+        Random rng = new Random(49);
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int step = 0; step < 5000; step++) {
+            int value = rng.nextInt(1000);
+            if (rng.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), tree.remove(value));
+            } else {
+                assertEquals(expected.add(value), tree.add(value));
+            }
+        }
+        List<Integer> sorted = new ArrayList<>(expected);
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(sorted.get(i), tree.select(i));
+            assertEquals(i, tree.rank(sorted.get(i)));
+        }
+        assertEquals(expected.subSet(250, 750).size(), tree.countRange(250, 750));
+    }
+
+    @Test
+    void testOrderStatisticsAfterBulkLoad() {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>();
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            items.add(2 * i);
+        }
+        tree.addAll(items);
+        assertEquals(0, tree.select(0));
+        assertEquals(12_344, tree.select(6172));
+        assertEquals(6172, tree.rank(12_344));
+        assertEquals(6173, tree.rank(12_345));
+        assertEquals(500, tree.countRange(1000, 2000));
+        tree.remove(1500);
+        tree.add(1501);
+        tree.add(1503);
+        assertEquals(501, tree.countRange(1000, 2000));
+    }
 }
@@ -0,0 +1,969 @@
+package assign07;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Red-black tree that implements the SortedSet interface. Stores unique,
+ * comparable items in sorted order, and keeps the tree balanced so its height
+ * is at most 2 log2(N + 1) whatever order items are added in.
+ *
+ * Every node is red or black, the root is black, a red node has no red child,
+ * and every path from a node down to an empty subtree passes the same number
+ * of black nodes. add and remove restore these rules with O(1) rotations and
+ * O(log N) recolorings, so add, remove, and contains are O(log N).
+ *
+ * Insert and delete are iterative and nodes keep a parent link, so no
+ * operation recurses and none can overflow the call stack, even on very large
+ * sets. Empty subtrees are a single shared black sentinel node, which lets the
+ * rebalancing code read the color and parent of a missing child without null
+ * checks.
+ *
+ * Each node also records the size of its subtree, which answers order
+ * statistics without copying the tree: select finds the item at a sorted
+ * index, rank counts the items before a given one, and countRange counts the
+ * items in a range, each in O(log N). Rotations recompute the sizes of the
+ * two nodes they move, so keeping them costs O(1) per rotation plus one walk
+ * up the tree per add or remove.
+ *
+ * @param <Type> the type of elements in this tree, must be Comparable
+ * @author Alex Waldmann
+ * @author Tyler Gagliardi
+ * @version October 23, 2025
+ */
+public class RedBlackTree<Type extends Comparable<? super Type>> implements SortedSet<Type> {
+
+    private static final boolean RED = true;
+    private static final boolean BLACK = false;
+
+    /**
+     * Inner class representing a node in the red-black tree. Each node
+     * contains data, a color, references to its children and parent, and the
+     * number of nodes in the subtree rooted at it.
+     */
+    private class Node {
+
+        Type data;
+        Node left, right, parent;
+        boolean color;
+        int count = 1;
+
+        /**
+         * Constructs a red node with the given data whose children are the
+         * sentinel.
+         *
+         * @param data the data to store in this node
+         * @param parent the node's parent
+         */
+        Node(Type data, Node parent) {
+            this.data = data;
+            this.parent = parent;
+            this.left = nil;
+            this.right = nil;
+            this.color = RED;
+        }
+    }
+
+    /** Black sentinel standing in for every empty subtree. */
+    private final Node nil;
+
+    private Node root;
+    private int size;
+
+    /** Count of changes to the set, checked by iterators to fail fast. */
+    private int modCount;
+
+    /**
+     * Constructs an empty tree.
+     */
+    public RedBlackTree() {
+        nil = new Node(null, null);
+        nil.color = BLACK;
+        nil.count = 0;
+        nil.left = nil;
+        nil.right = nil;
+        root = nil;
+    }
+
+    /**
+     * Ensures that this set contains the specified item. Does not add duplicate
+     * items.
+     *
+     * @param item the item whose presence is ensured in this set
+     * @return true if this set changed (item was added), false otherwise
+     * @throws NullPointerException if item is null
+     */
+    @Override
+    public boolean add(Type item) {
+        Objects.requireNonNull(item);
+        Node parent = nil;
+        Node cur = root;
+        int cmp = 0;
+        while (cur != nil) {
+            cmp = item.compareTo(cur.data);
+            if (cmp == 0) {
+                return false;
+            }
+            parent = cur;
+            cur = (cmp < 0) ? cur.left : cur.right;
+        }
+
+        Node node = new Node(item, parent);
+        if (parent == nil) {
+            root = node;
+        } else if (cmp < 0) {
+            parent.left = node;
+        } else {
+            parent.right = node;
+        }
+        for (Node p = parent; p != nil; p = p.parent) {
+            p.count++;
+        }
+        size++;
+        modCount++;
+        fixAfterInsert(node);
+        return true;
+    }
+
+    /**
+     * Restores the red-black rules after a red node is inserted, walking up
+     * while the node and its parent are both red.
+     *
+     * @param node the inserted node
+     */
+    private void fixAfterInsert(Node node) {
+        while (node.parent.color == RED) {
+            Node parent = node.parent;
+            Node grandparent = parent.parent;
+            if (parent == grandparent.left) {
+                Node uncle = grandparent.right;
+                if (uncle.color == RED) {
+                    // Red uncle: push the grandparent's blackness down, continue above
+                    parent.color = BLACK;
+                    uncle.color = BLACK;
+                    grandparent.color = RED;
+                    node = grandparent;
+                } else {
+                    if (node == parent.right) {
+                        node = parent;
+                        rotateLeft(node);
+                        parent = node.parent;
+                    }
+                    parent.color = BLACK;
+                    grandparent.color = RED;
+                    rotateRight(grandparent);
+                }
+            } else {
+                Node uncle = grandparent.left;
+                if (uncle.color == RED) {
+                    parent.color = BLACK;
+                    uncle.color = BLACK;
+                    grandparent.color = RED;
+                    node = grandparent;
+                } else {
+                    if (node == parent.left) {
+                        node = parent;
+                        rotateRight(node);
+                        parent = node.parent;
+                    }
+                    parent.color = BLACK;
+                    grandparent.color = RED;
+                    rotateLeft(grandparent);
+                }
+            }
+        }
+        root.color = BLACK;
+    }
+
+    /**
+     * Ensures that this set contains all items in the specified collection.
+     *
+     * When the collection is at least as large as this set, the items are
+     * sorted (skipped if they already are), merged with this set's items, and
+     * the tree is rebuilt directly in O(N): each range's middle item becomes
+     * its subtree's root, every node is black except those on the deepest,
+     * partially filled level, which are red. Smaller collections are added
+     * one item at a time.
+     *
+     * @param items the collection of items whose presence is ensured in this
+     * set
+     * @return true if this set changed as a result of this call, false
+     * otherwise
+     * @throws NullPointerException if any item is null
+     */
+    @Override
+    public boolean addAll(Collection<? extends Type> items) {
+        if (items.size() < size) {
+            boolean changed = false;
+            for (Type t : items) {
+                changed |= add(t);
+            }
+            return changed;
+        }
+        ArrayList<Type> sorted = SortedInput.sortedDistinct(items);
+        if (size > 0) {
+            sorted = SortedInput.mergeDistinct(toArrayList(), sorted);
+        }
+        int before = size;
+        root = build(sorted, 0, sorted.size() - 1, 0, redLevel(sorted.size()), nil);
+        size = sorted.size();
+        modCount++;
+        return size != before;
+    }
+
+    /**
+     * Recursive helper method to build a balanced subtree from a range of
+     * sorted, distinct items. Recursion depth is O(log N).
+     *
+     * @param items the sorted items
+     * @param lo first index of the range (inclusive)
+     * @param hi last index of the range (inclusive)
+     * @param level depth of the subtree's root (the tree's root is 0)
+     * @param redLevel depth whose nodes are colored red
+     * @param parent the subtree root's parent
+     * @return the root of the subtree, or nil if the range is empty
+     */
+    private Node build(ArrayList<Type> items, int lo, int hi, int level, int redLevel, Node parent) {
+        if (lo > hi) {
+            return nil;
+        }
+        int mid = (lo + hi) >>> 1;
+        Node node = new Node(items.get(mid), parent);
+        node.color = (level == redLevel) ? RED : BLACK;
+        node.left = build(items, lo, mid - 1, level + 1, redLevel, node);
+        node.right = build(items, mid + 1, hi, level + 1, redLevel, node);
+        node.count = hi - lo + 1;
+        return node;
+    }
+
+    /**
+     * Returns the depth of the partially filled bottom level of a tree built
+     * from n items, or one past the deepest level if every level is full.
+     * Coloring that level red and everything else black gives every path the
+     * same number of black nodes.
+     *
+     * @param n the number of items
+     * @return depth to color red
+     */
+    private static int redLevel(int n) {
+        int level = 0;
+        for (int m = n - 1; m >= 0; m = m / 2 - 1) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * Removes all items from this set. The set will be empty after this call.
+     */
+    @Override
+    public void clear() {
+        root = nil;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Determines if there is an item in this set that is equal to the specified
+     * item.
+     *
+     * @param item the item sought in this set
+     * @return true if the item is in this set, false otherwise
+     * @throws NullPointerException if item is null
+     */
+    @Override
+    public boolean contains(Type item) {
+        return find(item) != nil;
+    }
+
+    /**
+     * Determines if for each item in the specified collection, there is an item
+     * in this set that is equal to it.
+     *
+     * @param items the collection of items sought in this set
+     * @return true if all items in the collection are in this set, false
+     * otherwise
+     */
+    @Override
+    public boolean containsAll(Collection<? extends Type> items) {
+        for (Type t : items) {
+            if (!contains(t)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the first (i.e., smallest) item in this set.
+     *
+     * @return the smallest item in this set
+     * @throws NoSuchElementException if the set is empty
+     */
+    @Override
+    public Type first() {
+        if (root == nil) {
+            throw new NoSuchElementException("empty");
+        }
+        return minimum(root).data;
+    }
+
+    /**
+     * Returns true if this set contains no items.
+     *
+     * @return true if this set is empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the last (i.e., largest) item in this set.
+     *
+     * @return the largest item in this set
+     * @throws NoSuchElementException if the set is empty
+     */
+    @Override
+    public Type last() {
+        if (root == nil) {
+            throw new NoSuchElementException("empty");
+        }
+        Node cur = root;
+        while (cur.right != nil) {
+            cur = cur.right;
+        }
+        return cur.data;
+    }
+
+    /**
+     * Ensures that this set does not contain the specified item.
+     *
+     * @param item the item whose absence is ensured in this set
+     * @return true if this set changed (item was removed), false otherwise
+     * @throws NullPointerException if item is null
+     */
+    @Override
+    public boolean remove(Type item) {
+        Node node = find(item);
+        if (node == nil) {
+            return false;
+        }
+        deleteNode(node);
+        size--;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Unlinks a node from the tree. A node with two children is replaced by
+     * its in-order successor, which is moved into its place (the nodes are
+     * relinked rather than their data swapped).
+     *
+     * @param node the node to delete
+     */
+    private void deleteNode(Node node) {
+        // Every node above the one that leaves its position loses one descendant
+        Node gone = (node.left == nil || node.right == nil) ? node : minimum(node.right);
+        for (Node p = gone.parent; p != nil; p = p.parent) {
+            p.count--;
+        }
+        Node moved = node;
+        boolean movedColor = moved.color;
+        Node fix;
+        if (node.left == nil) {
+            fix = node.right;
+            transplant(node, node.right);
+        } else if (node.right == nil) {
+            fix = node.left;
+            transplant(node, node.left);
+        } else {
+            moved = minimum(node.right);
+            movedColor = moved.color;
+            fix = moved.right;
+            if (moved.parent == node) {
+                fix.parent = moved; // fix may be the sentinel
+            } else {
+                transplant(moved, moved.right);
+                moved.right = node.right;
+                moved.right.parent = moved;
+            }
+            transplant(node, moved);
+            moved.left = node.left;
+            moved.left.parent = moved;
+            moved.color = node.color;
+            moved.count = node.count;
+        }
+        if (movedColor == BLACK) {
+            fixAfterDelete(fix);
+        }
+        nil.parent = null;
+    }
+
+    /**
+     * Restores the red-black rules after a black node was removed from above
+     * node, which carries an extra black until it can be absorbed.
+     *
+     * @param node the node that took the removed node's place
+     */
+    private void fixAfterDelete(Node node) {
+        while (node != root && node.color == BLACK) {
+            if (node == node.parent.left) {
+                Node sibling = node.parent.right;
+                if (sibling.color == RED) {
+                    sibling.color = BLACK;
+                    node.parent.color = RED;
+                    rotateLeft(node.parent);
+                    sibling = node.parent.right;
+                }
+                if (sibling.left.color == BLACK && sibling.right.color == BLACK) {
+                    sibling.color = RED;
+                    node = node.parent;
+                } else {
+                    if (sibling.right.color == BLACK) {
+                        sibling.left.color = BLACK;
+                        sibling.color = RED;
+                        rotateRight(sibling);
+                        sibling = node.parent.right;
+                    }
+                    sibling.color = node.parent.color;
+                    node.parent.color = BLACK;
+                    sibling.right.color = BLACK;
+                    rotateLeft(node.parent);
+                    node = root;
+                }
+            } else {
+                Node sibling = node.parent.left;
+                if (sibling.color == RED) {
+                    sibling.color = BLACK;
+                    node.parent.color = RED;
+                    rotateRight(node.parent);
+                    sibling = node.parent.left;
+                }
+                if (sibling.right.color == BLACK && sibling.left.color == BLACK) {
+                    sibling.color = RED;
+                    node = node.parent;
+                } else {
+                    if (sibling.left.color == BLACK) {
+                        sibling.right.color = BLACK;
+                        sibling.color = RED;
+                        rotateLeft(sibling);
+                        sibling = node.parent.left;
+                    }
+                    sibling.color = node.parent.color;
+                    node.parent.color = BLACK;
+                    sibling.left.color = BLACK;
+                    rotateRight(node.parent);
+                    node = root;
+                }
+            }
+        }
+        node.color = BLACK;
+    }
+
+    /**
+     * Ensures that this set does not contain any of the items in the specified
+     * collection.
+     *
+     * @param items the collection of items whose absence is ensured in this set
+     * @return true if this set changed as a result of this call, false
+     * otherwise
+     */
+    @Override
+    public boolean removeAll(Collection<? extends Type> items) {
+        boolean changed = false;
+        for (Type t : items) {
+            changed |= remove(t);
+        }
+        return changed;
+    }
+
+    /**
+     * Returns the number of items in this set.
+     *
+     * @return the number of items in this set
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the item at the given index in sorted order, so select(0) is the
+     * first item and select(size() - 1) the last. O(log N).
+     *
+     * @param index the sorted position of the item
+     * @return the item with exactly index items before it
+     * @throws IndexOutOfBoundsException if index is negative or not less than
+     * size()
+     */
+    public Type select(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Node cur = root;
+        while (true) {
+            int leftCount = cur.left.count;
+            if (index < leftCount) {
+                cur = cur.left;
+            } else if (index > leftCount) {
+                index -= leftCount + 1;
+                cur = cur.right;
+            } else {
+                return cur.data;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of items in this set strictly less than the given
+     * item. If item is in the set this is its index in sorted order, so
+     * select(rank(item)) returns it. O(log N).
+     *
+     * @param item the item to compare against
+     * @return the number of items less than item
+     * @throws NullPointerException if item is null
+     */
+    public int rank(Type item) {
+        Objects.requireNonNull(item);
+        int before = 0;
+        Node cur = root;
+        while (cur != nil) {
+            int cmp = item.compareTo(cur.data);
+            if (cmp < 0) {
+                cur = cur.left;
+            } else {
+                before += cur.left.count;
+                if (cmp == 0) {
+                    return before;
+                }
+                before++;
+                cur = cur.right;
+            }
+        }
+        return before;
+    }
+
+    /**
+     * Returns the number of items from fromItem (inclusive) to toItem
+     * (exclusive), the same range subSet views. Computed as the difference of
+     * two ranks, so it is O(log N) no matter how many items are in range.
+     *
+     * @param fromItem low endpoint (inclusive)
+     * @param toItem high endpoint (exclusive)
+     * @return the number of items in the range
+     * @throws NullPointerException if either endpoint is null
+     * @throws IllegalArgumentException if fromItem is greater than toItem
+     */
+    public int countRange(Type fromItem, Type toItem) {
+        Objects.requireNonNull(fromItem);
+        Objects.requireNonNull(toItem);
+        if (fromItem.compareTo(toItem) > 0) {
+            throw new IllegalArgumentException("fromItem > toItem");
+        }
+        return rank(toItem) - rank(fromItem);
+    }
+
+    /**
+     * Returns an ArrayList containing all of the items in this set, in sorted
+     * order.
+     *
+     * @return an ArrayList of all items in sorted (ascending) order
+     */
+    @Override
+    public ArrayList<Type> toArrayList() {
+        ArrayList<Type> list = new ArrayList<>(size);
+        if (root == nil) {
+            return list;
+        }
+        for (Node cur = minimum(root); cur != nil; cur = successor(cur)) {
+            list.add(cur.data);
+        }
+        return list;
+    }
+
+    /**
+     * Returns an iterator over the items in ascending order. It follows
+     * parent links from node to successor, so it needs no stack; a full
+     * traversal is O(N). It supports remove, and fails fast with
+     * ConcurrentModificationException if the set is changed other than
+     * through the iterator.
+     *
+     * @return an iterator over this set
+     */
+    @Override
+    public Iterator<Type> iterator() {
+        return new TreeIterator(root == nil ? nil : minimum(root));
+    }
+
+    /**
+     * Returns the greatest item less than or equal to the given item, or null
+     * if there is none. O(log N).
+     *
+     * @param item the item to compare against
+     * @return the floor of item, or null
+     * @throws NullPointerException if item is null
+     */
+    @Override
+    public Type floor(Type item) {
+        return nearest(item, true, true).data;
+    }
+
+    /**
+     * Returns the least item greater than or equal to the given item, or null
+     * if there is none. O(log N).
+     *
+     * @param item the item to compare against
+     * @return the ceiling of item, or null
+     * @throws NullPointerException if item is null
+     */
+    @Override
+    public Type ceiling(Type item) {
+        return nearest(item, false, true).data;
+    }
+
+    /**
+     * Returns the least item strictly greater than the given item, or null if
+     * there is none. O(log N).
+     *
+     * @param item the item to compare against
+     * @return the next item after item, or null
+     * @throws NullPointerException if item is null
+     */
+    @Override
+    public Type higher(Type item) {
+        return nearest(item, false, false).data;
+    }
+
+    /**
+     * Returns the greatest item strictly less than the given item, or null if
+     * there is none. O(log N).
+     *
+     * @param item the item to compare against
+     * @return the item before item, or null
+     * @throws NullPointerException if item is null
+     */
+    @Override
+    public Type lower(Type item) {
+        return nearest(item, true, false).data;
+    }
+
+    /**
+     * Returns a view of the items from fromItem (inclusive) to toItem
+     * (exclusive), backed by this tree. Iterating the view starts with an
+     * O(log N) descent to fromItem and then visits only the items in range.
+     *
+     * @param fromItem low endpoint (inclusive)
+     * @param toItem high endpoint (exclusive)
+     * @return a view of the range
+     * @throws NullPointerException if either endpoint is null
+     * @throws IllegalArgumentException if fromItem is greater than toItem
+     */
+    @Override
+    public SortedSet<Type> subSet(Type fromItem, Type toItem) {
+        Objects.requireNonNull(fromItem);
+        Objects.requireNonNull(toItem);
+        return new SortedSubSet<>(this, fromItem, toItem, this::iteratorFrom);
+    }
+
+    /**
+     * Returns a view of the items strictly less than toItem, backed by this
+     * tree.
+     *
+     * @param toItem high endpoint (exclusive)
+     * @return a view of the range
+     * @throws NullPointerException if toItem is null
+     */
+    @Override
+    public SortedSet<Type> headSet(Type toItem) {
+        Objects.requireNonNull(toItem);
+        return new SortedSubSet<>(this, null, toItem, this::iteratorFrom);
+    }
+
+    /**
+     * Returns a view of the items greater than or equal to fromItem, backed by
+     * this tree.
+     *
+     * @param fromItem low endpoint (inclusive)
+     * @return a view of the range
+     * @throws NullPointerException if fromItem is null
+     */
+    @Override
+    public SortedSet<Type> tailSet(Type fromItem) {
+        Objects.requireNonNull(fromItem);
+        return new SortedSubSet<>(this, fromItem, null, this::iteratorFrom);
+    }
+
+    /**
+     * Returns an iterator starting at the least item greater than or equal to
+     * from, or at the first item if from is null.
+     */
+    private Iterator<Type> iteratorFrom(Type from) {
+        return from == null ? iterator() : new TreeIterator(nearest(from, false, true));
+    }
+
+    /**
+     * Finds the node closest to the given item in one direction.
+     *
+     * @param item the item to compare against
+     * @param below true to look for items less than item, false for greater
+     * @param inclusive true if item itself qualifies
+     * @return the closest qualifying node, or nil if there is none
+     */
+    private Node nearest(Type item, boolean below, boolean inclusive) {
+        Objects.requireNonNull(item);
+        Node best = nil;
+        Node cur = root;
+        while (cur != nil) {
+            int cmp = item.compareTo(cur.data);
+            if (cmp == 0 && inclusive) {
+                return cur;
+            }
+            if (below ? cmp > 0 : cmp < 0) {
+                best = cur; // qualifies; look for a closer one
+                cur = below ? cur.right : cur.left;
+            } else {
+                cur = below ? cur.left : cur.right;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * In-order iterator that walks from each node to its successor.
+     */
+    private class TreeIterator implements Iterator<Type> {
+
+        private Node next;
+        private Node lastReturned = nil;
+        private int expectedModCount = modCount;
+
+        /**
+         * Creates an iterator whose first item is start's.
+         *
+         * @param start the first node, or nil for an empty iteration
+         */
+        TreeIterator(Node start) {
+            next = start;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != nil;
+        }
+
+        @Override
+        public Type next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next == nil) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = successor(next);
+            return lastReturned.data;
+        }
+
+        /**
+         * Removes the last item returned. deleteNode relinks nodes rather
+         * than moving items between them, so the saved next node stays valid.
+         * O(log N).
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == nil) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            deleteNode(lastReturned);
+            size--;
+            modCount++;
+            lastReturned = nil;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * Returns a string representation of the tree in sorted order, built
+     * directly from an iterator rather than an intermediate list.
+     *
+     * @return a string representation of this tree
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (Iterator<Type> it = iterator(); it.hasNext();) {
+            sb.append(it.next());
+            if (it.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Returns the height of the tree, counting nodes on the longest path from
+     * the root (0 if empty). O(N); intended for tests.
+     *
+     * @return the tree's height
+     */
+    int height() {
+        return height(root);
+    }
+
+    private int height(Node cur) {
+        return cur == nil ? 0 : 1 + Math.max(height(cur.left), height(cur.right));
+    }
+
+    /**
+     * Checks the red-black rules, parent links, and subtree sizes over the
+     * whole tree. O(N); intended for tests.
+     *
+     * @return true if the tree is a valid red-black tree
+     */
+    boolean isValid() {
+        return root == nil || (root.color == BLACK && root.parent == nil && blackHeight(root) >= 0);
+    }
+
+    /**
+     * Returns the black height of a subtree, or -1 if a rule is broken in it.
+     */
+    private int blackHeight(Node cur) {
+        if (cur == nil) {
+            return 0;
+        }
+        if (cur.left != nil && (cur.left.parent != cur || cur.left.data.compareTo(cur.data) >= 0)) {
+            return -1;
+        }
+        if (cur.right != nil && (cur.right.parent != cur || cur.right.data.compareTo(cur.data) <= 0)) {
+            return -1;
+        }
+        if (cur.color == RED && (cur.left.color == RED || cur.right.color == RED)) {
+            return -1;
+        }
+        if (cur.count != 1 + cur.left.count + cur.right.count) {
+            return -1;
+        }
+        int left = blackHeight(cur.left);
+        int right = blackHeight(cur.right);
+        if (left < 0 || left != right) {
+            return -1;
+        }
+        return left + (cur.color == BLACK ? 1 : 0);
+    }
+
+    /**
+     * Returns the node holding an item, or the sentinel if there is none.
+     *
+     * @param item the item sought
+     * @return the item's node or nil
+     * @throws NullPointerException if item is null
+     */
+    private Node find(Type item) {
+        Objects.requireNonNull(item);
+        Node cur = root;
+        while (cur != nil) {
+            int cmp = item.compareTo(cur.data);
+            if (cmp == 0) {
+                return cur;
+            }
+            cur = (cmp < 0) ? cur.left : cur.right;
+        }
+        return nil;
+    }
+
+    /**
+     * Returns the leftmost node of a non-empty subtree.
+     */
+    private Node minimum(Node cur) {
+        while (cur.left != nil) {
+            cur = cur.left;
+        }
+        return cur;
+    }
+
+    /**
+     * Returns the in-order successor of a node, or the sentinel if it is the
+     * last node.
+     */
+    private Node successor(Node cur) {
+        if (cur.right != nil) {
+            return minimum(cur.right);
+        }
+        Node parent = cur.parent;
+        while (parent != nil && cur == parent.right) {
+            cur = parent;
+            parent = parent.parent;
+        }
+        return parent;
+    }
+
+    /**
+     * Replaces the subtree rooted at target with the one rooted at
+     * replacement in target's parent. replacement's parent is set even if it
+     * is the sentinel, as fixAfterDelete reads it.
+     */
+    private void transplant(Node target, Node replacement) {
+        if (target.parent == nil) {
+            root = replacement;
+        } else if (target == target.parent.left) {
+            target.parent.left = replacement;
+        } else {
+            target.parent.right = replacement;
+        }
+        replacement.parent = target.parent;
+    }
+
+    /**
+     * Rotates node's right child up into node's place.
+     */
+    private void rotateLeft(Node node) {
+        Node child = node.right;
+        node.right = child.left;
+        if (child.left != nil) {
+            child.left.parent = node;
+        }
+        child.parent = node.parent;
+        if (node.parent == nil) {
+            root = child;
+        } else if (node == node.parent.left) {
+            node.parent.left = child;
+        } else {
+            node.parent.right = child;
+        }
+        child.left = node;
+        node.parent = child;
+        child.count = node.count;
+        node.count = 1 + node.left.count + node.right.count;
+    }
+
+    /**
+     * Rotates node's left child up into node's place.
+     */
+    private void rotateRight(Node node) {
+        Node child = node.left;
+        node.left = child.right;
+        if (child.right != nil) {
+            child.right.parent = node;
+        }
+        child.parent = node.parent;
+        if (node.parent == nil) {
+            root = child;
+        } else if (node == node.parent.right) {
+            node.parent.right = child;
+        } else {
+            node.parent.left = child;
+        }
+        child.right = node;
+        node.parent = child;
+        child.count = node.count;
+        node.count = 1 + node.left.count + node.right.count;
+    }
+}
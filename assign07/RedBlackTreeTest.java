@@ -0,0 +1,301 @@
+package assign07;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for RedBlackTree: SortedSet behavior, balance under sorted and
+ * random insertion, agreement with java.util.TreeSet under random
+ * operations, and order statistics.
+ *
+ * @author Alex Waldmann
+ * @author Tyler Gagliardi
+ * @version October 23, 2025
+ */
+class RedBlackTreeTest {
+
+    private RedBlackTree<Integer> tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new RedBlackTree<>();
+    }
+
+    /**
+     * Largest height a red-black tree of n items may have.
+     */
+    private static int maxHeight(int n) {
+        return (int) Math.floor(2 * Math.log(n + 1) / Math.log(2));
+    }
+
+    // ========== Basic Set Tests ==========
+    @Test
+    void testEmptyTree() {
+        assertTrue(tree.isEmpty());
+        assertEquals(0, tree.size());
+        assertFalse(tree.contains(1));
+        assertFalse(tree.remove(1));
+        assertThrows(NoSuchElementException.class, () -> tree.first());
+        assertThrows(NoSuchElementException.class, () -> tree.last());
+        assertEquals("[]", tree.toString());
+    }
+
+    @Test
+    void testAddContainsRemove() {
+        assertTrue(tree.add(5));
+        assertTrue(tree.add(3));
+        assertTrue(tree.add(8));
+        assertFalse(tree.add(5));
+        assertEquals(3, tree.size());
+        assertTrue(tree.contains(3));
+        assertFalse(tree.contains(4));
+        assertEquals(3, tree.first());
+        assertEquals(8, tree.last());
+        assertTrue(tree.remove(5));
+        assertFalse(tree.remove(5));
+        assertEquals(Arrays.asList(3, 8), tree.toArrayList());
+    }
+
+    @Test
+    void testNullThrows() {
+        assertThrows(NullPointerException.class, () -> tree.add(null));
+        assertThrows(NullPointerException.class, () -> tree.contains(null));
+        assertThrows(NullPointerException.class, () -> tree.remove(null));
+    }
+
+    @Test
+    void testBulkOperations() {
+        assertTrue(tree.addAll(Arrays.asList(4, 2, 6, 2)));
+        assertFalse(tree.addAll(Arrays.asList(4, 6)));
+        assertTrue(tree.containsAll(Arrays.asList(2, 4)));
+        assertFalse(tree.containsAll(Arrays.asList(2, 5)));
+        assertTrue(tree.removeAll(Arrays.asList(2, 5)));
+        assertFalse(tree.removeAll(Arrays.asList(2, 5)));
+        assertEquals(Arrays.asList(4, 6), tree.toArrayList());
+        tree.clear();
+        assertTrue(tree.isEmpty());
+        assertTrue(tree.add(1));
+        assertEquals(1, tree.first());
+    }
+
+    // ========== Balance Tests ==========
+    @Test
+    void testSortedInsertionStaysBalanced() {
+        int n = 100_000;
+        for (int i = 0; i < n; i++) {
+            tree.add(i);
+        }
+        assertEquals(n, tree.size());
+        assertTrue(tree.height() <= maxHeight(n), "height " + tree.height());
+        assertTrue(tree.isValid());
+        for (int i = 0; i < n; i += 997) {
+            assertTrue(tree.contains(i));
+        }
+    }
+
+    @Test
+    void testReverseInsertionAndSortedDeletionStayBalanced() {
+        int n = 50_000;
+        for (int i = n - 1; i >= 0; i--) {
+            tree.add(i);
+        }
+        assertTrue(tree.height() <= maxHeight(n));
+        for (int i = 0; i < n / 2; i++) {
+            assertTrue(tree.remove(i));
+        }
+        assertEquals(n / 2, tree.size());
+        assertTrue(tree.height() <= maxHeight(n / 2));
+        assertEquals(n / 2, tree.first());
+        assertEquals(n - 1, tree.last());
+    }
+
+    @Test
+    void testLargeSortedStringDictionary() {
+        RedBlackTree<String> words = new RedBlackTree<>();
+        for (int i = 0; i < 200_000; i++) {
+            words.add(String.format("word%07d", i));
+        }
+        assertTrue(words.height() <= maxHeight(200_000));
+        assertTrue(words.contains("word0123456"));
+        assertFalse(words.contains("word0123456x"));
+    }
+
+    // ========== Random Operation Tests ==========
+    @Test
+    void testRandomOperationsMatchTreeSet() {
+        Random rng = new Random(46);
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int step = 0; step < 20_000; step++) {
+            int value = rng.nextInt(2000);
+            if (rng.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), tree.remove(value));
+            } else {
+                assertEquals(expected.add(value), tree.add(value));
+            }
+            if (step % 1000 == 0) {
+                assertEquals(new ArrayList<>(expected), tree.toArrayList());
+                assertTrue(tree.height() <= maxHeight(tree.size()));
+                assertTrue(tree.isValid());
+            }
+        }
+        assertEquals(expected.size(), tree.size());
+        assertEquals(new ArrayList<>(expected), tree.toArrayList());
+        List<Integer> all = new ArrayList<>(expected);
+        assertTrue(tree.removeAll(all));
+        assertTrue(tree.isEmpty());
+        assertEquals(0, tree.height());
+    }
+
+    // ========== Bulk Load Tests ==========
+    @Test
+    void testBulkLoadIsValidForEverySize() {
+        for (int n = 0; n <= 64; n++) {
+            RedBlackTree<Integer> bulk = new RedBlackTree<>();
+            List<Integer> items = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                items.add(i);
+            }
+            assertEquals(n > 0, bulk.addAll(items));
+            assertEquals(n, bulk.size());
+            assertTrue(bulk.isValid(), "n = " + n);
+            assertEquals(items, bulk.toArrayList());
+        }
+    }
+
+    @Test
+    void testBulkLoadUnsortedWithDuplicatesThenMutate() {
+        Random rng = new Random(47);
+        List<Integer> items = new ArrayList<>();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 5000; i++) {
+            int value = rng.nextInt(3000);
+            items.add(value);
+            expected.add(value);
+        }
+        assertTrue(tree.addAll(items));
+        assertTrue(tree.isValid());
+        assertEquals(new ArrayList<>(expected), tree.toArrayList());
+        for (int i = 0; i < 5000; i++) {
+            int value = rng.nextInt(3000);
+            if (rng.nextBoolean()) {
+                assertEquals(expected.add(value), tree.add(value));
+            } else {
+                assertEquals(expected.remove(value), tree.remove(value));
+            }
+        }
+        assertTrue(tree.isValid());
+        assertEquals(new ArrayList<>(expected), tree.toArrayList());
+    }
+
+    @Test
+    void testBulkLoadMergesWithExistingItems() {
+        tree.add(5);
+        tree.add(100);
+        assertTrue(tree.addAll(Arrays.asList(1, 5, 7, 9)));
+        assertEquals(Arrays.asList(1, 5, 7, 9, 100), tree.toArrayList());
+        assertTrue(tree.isValid());
+        assertFalse(tree.addAll(Arrays.asList(1, 5, 7, 9, 100)));
+        assertThrows(NullPointerException.class, () -> tree.addAll(Arrays.asList(1, null, 2, 3, 4, 6)));
+        assertEquals(5, tree.size());
+    }
+
+    // ========== Order Statistic Tests ==========
+    @Test
+    void testSelectAndRank() {
+        for (int i = 9; i >= 1; i -= 2) {
+            tree.add(i);
+        }
+        for (int i = 0; i < 5; i++) {
+            assertEquals(2 * i + 1, tree.select(i));
+            assertEquals(i, tree.rank(2 * i + 1));
+        }
+        assertEquals(0, tree.rank(0));
+        assertEquals(2, tree.rank(4));
+        assertEquals(5, tree.rank(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.select(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.select(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> new RedBlackTree<Integer>().select(0));
+        assertThrows(NullPointerException.class, () -> tree.rank(null));
+    }
+
+    @Test
+    void testCountRange() {
+        tree.addAll(Arrays.asList(1, 3, 5, 7, 9));
+        assertEquals(3, tree.countRange(2, 8));
+        assertEquals(3, tree.countRange(3, 9));
+        assertEquals(5, tree.countRange(0, 100));
+        assertEquals(0, tree.countRange(4, 4));
+        assertEquals(tree.subSet(2, 8).size(), tree.countRange(2, 8));
+        assertThrows(IllegalArgumentException.class, () -> tree.countRange(8, 2));
+        assertThrows(NullPointerException.class, () -> tree.countRange(null, 2));
+    }
+
+    @Test
+    void testOrderStatisticsAfterRandomOperations() {
+        // Rotations in both fix-ups and the successor relink in delete all
+        // move subtrees, so check every index after a long random mix
+        Random rng = new Random(49);
+        TreeSet<Integer> expected = new TreeSet<>();
+        tree.addAll(Arrays.asList(10, 20, 30, 40, 50, 60, 70));
+        expected.addAll(Arrays.asList(10, 20, 30, 40, 50, 60, 70));
+        for (int step = 0; step < 20_000; step++) {
+            int value = rng.nextInt(2000);
+            if (rng.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), tree.remove(value));
+            } else {
+                assertEquals(expected.add(value), tree.add(value));
+            }
+        }
+        assertTrue(tree.isValid());
+        List<Integer> sorted = new ArrayList<>(expected);
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(sorted.get(i), tree.select(i));
+            assertEquals(i, tree.rank(sorted.get(i)));
+        }
+        assertEquals(expected.subSet(500, 1500).size(), tree.countRange(500, 1500));
+
+        Iterator<Integer> it = tree.iterator();
+        while (it.hasNext()) {
+            if (it.next() % 2 == 0) {
+                it.remove();
+            }
+        }
+        expected.removeIf(x -> x % 2 == 0);
+        assertTrue(tree.isValid());
+        assertEquals(expected.size(), tree.countRange(0, 2000));
+        assertEquals(expected.last(), tree.select(tree.size() - 1));
+    }
+
+    @Test
+    void testOrderStatisticsOnDictionary() {
+        RedBlackTree<String> words = new RedBlackTree<>();
+        List<String> list = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.add(String.format("word%05d", i));
+        }
+        words.addAll(list);
+        // Third page of 25 words
+        assertEquals("word00050", words.select(50));
+        assertEquals("word00074", words.select(74));
+        assertEquals(1234, words.rank("word01234"));
+        assertEquals(1235, words.rank("word01234a"));
+        assertEquals(100, words.countRange("word00100", "word00200"));
+        words.remove("word00150");
+        words.add("word00150a");
+        words.add("word00150b");
+        assertEquals(101, words.countRange("word00100", "word00200"));
+        assertTrue(words.isValid());
+    }
+}
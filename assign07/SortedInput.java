@@ -0,0 +1,83 @@
+package assign07;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Helpers that turn bulk input into the sorted, duplicate-free lists the
+ * SortedSet implementations build balanced trees from.
+ *
+ * @author Alex Waldmann
+ * @author Tyler Gagliardi
+ * @version October 23, 2025
+ */
+final class SortedInput {
+
+    private SortedInput() {
+    }
+
+    /**
+     * Returns the items in ascending order with duplicates removed. Input
+     * that is already sorted is detected in one pass and not sorted again.
+     * O(N) for sorted input, O(N log N) otherwise.
+     *
+     * @param <Type> the type of the items
+     * @param items the items to sort
+     * @return a new sorted list of the distinct items
+     * @throws NullPointerException if items or any item is null
+     */
+    static <Type extends Comparable<? super Type>> ArrayList<Type> sortedDistinct(
+            Collection<? extends Type> items) {
+        ArrayList<Type> list = new ArrayList<>(items);
+        boolean sorted = true;
+        for (int i = 0; i < list.size(); i++) {
+            Objects.requireNonNull(list.get(i));
+            if (sorted && i > 0 && list.get(i - 1).compareTo(list.get(i)) > 0) {
+                sorted = false;
+            }
+        }
+        if (!sorted) {
+            list.sort(null);
+        }
+        int kept = 0;
+        for (int i = 0; i < list.size(); i++) {
+            if (kept == 0 || list.get(kept - 1).compareTo(list.get(i)) != 0) {
+                list.set(kept++, list.get(i));
+            }
+        }
+        list.subList(kept, list.size()).clear();
+        return list;
+    }
+
+    /**
+     * Merges two ascending, duplicate-free lists into one, keeping a single
+     * copy of items found in both. O(N + M).
+     *
+     * @param <Type> the type of the items
+     * @param a the first sorted list
+     * @param b the second sorted list
+     * @return a new sorted list of the distinct items of both
+     */
+    static <Type extends Comparable<? super Type>> ArrayList<Type> mergeDistinct(
+            List<Type> a, List<Type> b) {
+        ArrayList<Type> out = new ArrayList<>(a.size() + b.size());
+        int i = 0;
+        int j = 0;
+        while (i < a.size() && j < b.size()) {
+            int cmp = a.get(i).compareTo(b.get(j));
+            if (cmp < 0) {
+                out.add(a.get(i++));
+            } else if (cmp > 0) {
+                out.add(b.get(j++));
+            } else {
+                out.add(a.get(i++));
+                j++;
+            }
+        }
+        out.addAll(a.subList(i, a.size()));
+        out.addAll(b.subList(j, b.size()));
+        return out;
+    }
+}
@@ -2,6 +2,7 @@ package assign07;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 /**
@@ -10,10 +11,14 @@ import java.util.NoSuchElementException;
  * their natural ordering (i.e., each item must be Comparable). Note that this
  * interface is much like Java's SortedSet, but simpler.
  * 
+ * The navigation methods (floor, ceiling, higher, lower) and the range views
+ * (subSet, headSet, tailSet) let callers reach part of the set without
+ * copying all of it with toArrayList.
+ * 
  * @author Erin Parker
  * @version March 17, 2021
  */
-public interface SortedSet<Type extends Comparable<? super Type>> {
+public interface SortedSet<Type extends Comparable<? super Type>> extends Iterable<Type> {
 
 	/**
 	 * Ensures that this set contains the specified item.
@@ -109,4 +114,82 @@ public interface SortedSet<Type extends Comparable<? super Type>> {
 	 * order.
 	 */
 	public ArrayList<Type> toArrayList();
+
+	/**
+	 * Returns an iterator over the items in this set, in ascending order.
+	 */
+	public Iterator<Type> iterator();
+
+	/**
+	 * Returns the greatest item in this set less than or equal to the given item,
+	 * or null if there is none.
+	 * 
+	 * @param item - the item to compare against
+	 * @throws NullPointerException if item is null
+	 */
+	public Type floor(Type item);
+
+	/**
+	 * Returns the least item in this set greater than or equal to the given item,
+	 * or null if there is none.
+	 * 
+	 * @param item - the item to compare against
+	 * @throws NullPointerException if item is null
+	 */
+	public Type ceiling(Type item);
+
+	/**
+	 * Returns the least item in this set strictly greater than the given item, or
+	 * null if there is none.
+	 * 
+	 * @param item - the item to compare against
+	 * @throws NullPointerException if item is null
+	 */
+	public Type higher(Type item);
+
+	/**
+	 * Returns the greatest item in this set strictly less than the given item, or
+	 * null if there is none.
+	 * 
+	 * @param item - the item to compare against
+	 * @throws NullPointerException if item is null
+	 */
+	public Type lower(Type item);
+
+	/**
+	 * Returns a view of the items in this set from fromItem (inclusive) to toItem
+	 * (exclusive). The view is backed by this set, so changes to either are seen
+	 * by the other. Adding an item outside the range to the view throws
+	 * IllegalArgumentException.
+	 * 
+	 * @param fromItem - low endpoint (inclusive) of the view
+	 * @param toItem   - high endpoint (exclusive) of the view
+	 * @throws NullPointerException     if either endpoint is null
+	 * @throws IllegalArgumentException if fromItem is greater than toItem, or if
+	 *                                  this set is itself a view and an endpoint
+	 *                                  lies outside its range
+	 */
+	public SortedSet<Type> subSet(Type fromItem, Type toItem);
+
+	/**
+	 * Returns a view of the items in this set strictly less than toItem. See
+	 * subSet.
+	 * 
+	 * @param toItem - high endpoint (exclusive) of the view
+	 * @throws NullPointerException     if toItem is null
+	 * @throws IllegalArgumentException if this set is itself a view and toItem
+	 *                                  lies outside its range
+	 */
+	public SortedSet<Type> headSet(Type toItem);
+
+	/**
+	 * Returns a view of the items in this set greater than or equal to fromItem.
+	 * See subSet.
+	 * 
+	 * @param fromItem - low endpoint (inclusive) of the view
+	 * @throws NullPointerException     if fromItem is null
+	 * @throws IllegalArgumentException if this set is itself a view and fromItem
+	 *                                  lies outside its range
+	 */
+	public SortedSet<Type> tailSet(Type fromItem);
 }
@@ -0,0 +1,218 @@
+package assign07;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for the iterator, navigation methods (floor, ceiling, higher,
+ * lower), and range views (subSet, headSet, tailSet) of every SortedSet
+ * implementation, checked against java.util.TreeSet.
+ *
+ * @author Alex Waldmann
+ * @author Tyler Gagliardi
+ * @version October 23, 2025
+ */
+class SortedSetNavigationTest {
+
+    /**
+     * Creates an empty set of each implementation under test.
+     */
+    private static List<Supplier<SortedSet<Integer>>> implementations() {
+        return Arrays.asList(BinarySearchTree::new, RedBlackTree::new, BTreeSet::new,
+                () -> new BTreeSet<>(BTreeSet.MIN_FANOUT));
+    }
+
+    /**
+     * Returns a set of each implementation holding the even numbers 0..98.
+     */
+    private static List<SortedSet<Integer>> evens() {
+        List<SortedSet<Integer>> sets = new ArrayList<>();
+        for (Supplier<SortedSet<Integer>> factory : implementations()) {
+            SortedSet<Integer> set = factory.get();
+            Random rng = new Random(48);
+            List<Integer> items = new ArrayList<>();
+            for (int i = 0; i < 100; i += 2) {
+                items.add(i);
+            }
+            java.util.Collections.shuffle(items, rng);
+            for (int item : items) {
+                set.add(item);
+            }
+            sets.add(set);
+        }
+        return sets;
+    }
+
+    // ========== Iterator Tests ==========
+    @Test
+    void testIteratorAscending() {
+        for (SortedSet<Integer> set : evens()) {
+            int expected = 0;
+            for (int item : set) {
+                assertEquals(expected, item);
+                expected += 2;
+            }
+            assertEquals(100, expected);
+        }
+    }
+
+    @Test
+    void testIteratorOnEmptySet() {
+        for (Supplier<SortedSet<Integer>> factory : implementations()) {
+            Iterator<Integer> it = factory.get().iterator();
+            assertFalse(it.hasNext());
+            assertThrows(NoSuchElementException.class, () -> it.next());
+        }
+    }
+
+    @Test
+    void testIteratorRemove() {
+        for (SortedSet<Integer> set : evens()) {
+            Iterator<Integer> it = set.iterator();
+            assertThrows(IllegalStateException.class, () -> it.remove());
+            while (it.hasNext()) {
+                if (it.next() % 4 == 0) {
+                    it.remove();
+                }
+            }
+            assertEquals(25, set.size());
+            int expected = 2;
+            for (int item : set) {
+                assertEquals(expected, item);
+                expected += 4;
+            }
+        }
+    }
+
+    @Test
+    void testIteratorFailsFast() {
+        for (SortedSet<Integer> set : evens()) {
+            Iterator<Integer> it = set.iterator();
+            it.next();
+            set.add(1);
+            assertThrows(ConcurrentModificationException.class, () -> it.next());
+        }
+    }
+
+    @Test
+    void testToStringMatchesToArrayList() {
+        for (SortedSet<Integer> set : evens()) {
+            assertEquals(set.toArrayList().toString(), set.toString());
+        }
+    }
+
+    // ========== Navigation Tests ==========
+    @Test
+    void testNavigationMatchesTreeSet() {
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 100; i += 2) {
+            expected.add(i);
+        }
+        for (SortedSet<Integer> set : evens()) {
+            for (int probe = -3; probe <= 102; probe++) {
+                assertEquals(expected.floor(probe), set.floor(probe), "floor " + probe);
+                assertEquals(expected.ceiling(probe), set.ceiling(probe), "ceiling " + probe);
+                assertEquals(expected.higher(probe), set.higher(probe), "higher " + probe);
+                assertEquals(expected.lower(probe), set.lower(probe), "lower " + probe);
+            }
+            assertThrows(NullPointerException.class, () -> set.floor(null));
+        }
+    }
+
+    // ========== Range View Tests ==========
+    @Test
+    void testSubSetContents() {
+        for (SortedSet<Integer> set : evens()) {
+            SortedSet<Integer> view = set.subSet(11, 21);
+            assertEquals(Arrays.asList(12, 14, 16, 18, 20), view.toArrayList());
+            assertEquals(5, view.size());
+            assertEquals(12, view.first());
+            assertEquals(20, view.last());
+            assertTrue(view.contains(14));
+            assertFalse(view.contains(22));
+            assertFalse(view.contains(13));
+            assertEquals("[12, 14, 16, 18, 20]", view.toString());
+
+            assertEquals(Arrays.asList(0, 2, 4), set.headSet(6).toArrayList());
+            assertEquals(Arrays.asList(96, 98), set.tailSet(96).toArrayList());
+            assertTrue(set.subSet(13, 14).isEmpty());
+            assertThrows(NoSuchElementException.class, () -> set.subSet(13, 14).first());
+            assertThrows(NoSuchElementException.class, () -> set.subSet(13, 14).last());
+            assertThrows(IllegalArgumentException.class, () -> set.subSet(20, 10));
+        }
+    }
+
+    @Test
+    void testViewNavigationClampsToRange() {
+        for (SortedSet<Integer> set : evens()) {
+            SortedSet<Integer> view = set.subSet(10, 20);
+            assertNull(view.floor(9));
+            assertEquals(18, view.floor(50));
+            assertEquals(10, view.ceiling(0));
+            assertNull(view.ceiling(19));
+            assertEquals(10, view.higher(3));
+            assertNull(view.higher(18));
+            assertEquals(18, view.lower(40));
+            assertNull(view.lower(10));
+        }
+    }
+
+    @Test
+    void testViewIsBackedBySet() {
+        for (SortedSet<Integer> set : evens()) {
+            SortedSet<Integer> view = set.subSet(10, 20);
+            assertTrue(view.add(11));
+            assertTrue(set.contains(11));
+            set.add(13);
+            assertTrue(view.contains(13));
+            assertThrows(IllegalArgumentException.class, () -> view.add(20));
+            assertFalse(view.remove(30));
+            assertTrue(set.contains(30));
+            assertTrue(view.remove(12));
+            assertFalse(set.contains(12));
+
+            view.clear();
+            assertTrue(view.isEmpty());
+            assertEquals(45, set.size());
+            assertEquals(8, set.lower(10));
+            assertEquals(20, set.higher(8));
+        }
+    }
+
+    @Test
+    void testNestedViews() {
+        for (SortedSet<Integer> set : evens()) {
+            SortedSet<Integer> view = set.subSet(10, 40).subSet(20, 30).tailSet(24);
+            assertEquals(Arrays.asList(24, 26, 28), view.toArrayList());
+            assertEquals(Arrays.asList(20, 22), set.subSet(10, 40).headSet(30).headSet(24).tailSet(20).toArrayList());
+            assertThrows(IllegalArgumentException.class, () -> set.subSet(10, 40).subSet(5, 20));
+            assertThrows(IllegalArgumentException.class, () -> set.subSet(10, 40).tailSet(41));
+        }
+    }
+
+    @Test
+    void testPrefixScan() {
+        List<SortedSet<String>> sets = Arrays.asList(new BinarySearchTree<>(), new RedBlackTree<>(),
+                new BTreeSet<>());
+        for (SortedSet<String> words : sets) {
+            words.addAll(Arrays.asList("car", "card", "care", "cart", "cat", "dog", "ca"));
+            // Every word starting with "car" sorts in ["car", "car\uffff")
+            assertEquals(Arrays.asList("car", "card", "care", "cart"),
+                    words.subSet("car", "car\uffff").toArrayList());
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package assign07;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A view of the items of a backing SortedSet within a range, returned by
+ * subSet, headSet, and tailSet. Nothing is copied: every operation is passed
+ * through to the backing set with the range applied, so iterating a view only
+ * visits the items inside it, and changes made through either the view or the
+ * backing set are seen by both.
+ *
+ * size is O(k) for a view of k items, since it counts by iterating.
+ * Iterators over a view do not support remove.
+ *
+ * @param <Type> the type of elements in the set
+ * @author Alex Waldmann
+ * @author Tyler Gagliardi
+ * @version October 23, 2025
+ */
+final class SortedSubSet<Type extends Comparable<? super Type>> implements SortedSet<Type> {
+
+    private final SortedSet<Type> backing;
+
+    /** Low endpoint (inclusive), or null if unbounded below. */
+    private final Type from;
+
+    /** High endpoint (exclusive), or null if unbounded above. */
+    private final Type to;
+
+    /**
+     * Returns an iterator over the backing set starting at the least item
+     * greater than or equal to its argument, or at the first item if the
+     * argument is null.
+     */
+    private final Function<Type, Iterator<Type>> iteratorFrom;
+
+    /**
+     * Constructs a view of backing between from and to.
+     *
+     * @param backing the set viewed
+     * @param from low endpoint (inclusive), or null for none
+     * @param to high endpoint (exclusive), or null for none
+     * @param iteratorFrom opens an iterator over backing at a given item
+     * @throws IllegalArgumentException if from is greater than to
+     */
+    SortedSubSet(SortedSet<Type> backing, Type from, Type to, Function<Type, Iterator<Type>> iteratorFrom) {
+        if (from != null && to != null && from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("fromItem > toItem");
+        }
+        this.backing = backing;
+        this.from = from;
+        this.to = to;
+        this.iteratorFrom = iteratorFrom;
+    }
+
+    @Override
+    public boolean add(Type item) {
+        checkInRange(item);
+        return backing.add(item);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Type> items) {
+        for (Type t : items) {
+            checkInRange(t);
+        }
+        return backing.addAll(items);
+    }
+
+    /**
+     * Removes every item in the range from the backing set.
+     */
+    @Override
+    public void clear() {
+        backing.removeAll(toArrayList());
+    }
+
+    @Override
+    public boolean contains(Type item) {
+        return inRange(item) && backing.contains(item);
+    }
+
+    @Override
+    public boolean containsAll(Collection<? extends Type> items) {
+        for (Type t : items) {
+            if (!contains(t)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Type first() {
+        Type first = lowest();
+        if (first == null) {
+            throw new NoSuchElementException("empty");
+        }
+        return first;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return lowest() == null;
+    }
+
+    @Override
+    public Type last() {
+        Type last = (to == null) ? (backing.isEmpty() ? null : backing.last()) : backing.lower(to);
+        if (last == null || !aboveFrom(last)) {
+            throw new NoSuchElementException("empty");
+        }
+        return last;
+    }
+
+    @Override
+    public boolean remove(Type item) {
+        return inRange(item) && backing.remove(item);
+    }
+
+    @Override
+    public boolean removeAll(Collection<? extends Type> items) {
+        boolean changed = false;
+        for (Type t : items) {
+            changed |= remove(t);
+        }
+        return changed;
+    }
+
+    @Override
+    public int size() {
+        int count = 0;
+        for (Iterator<Type> it = iterator(); it.hasNext(); it.next()) {
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public ArrayList<Type> toArrayList() {
+        ArrayList<Type> list = new ArrayList<>();
+        for (Type t : this) {
+            list.add(t);
+        }
+        return list;
+    }
+
+    @Override
+    public Iterator<Type> iterator() {
+        return new Iterator<Type>() {
+            private final Iterator<Type> it = iteratorFrom.apply(from);
+            private Type next = advance();
+
+            private Type advance() {
+                if (it.hasNext()) {
+                    Type t = it.next();
+                    if (belowTo(t)) {
+                        return t;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Type next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                Type t = next;
+                next = advance();
+                return t;
+            }
+        };
+    }
+
+    @Override
+    public Type floor(Type item) {
+        Type t = (to != null && item.compareTo(to) >= 0) ? backing.lower(to) : backing.floor(item);
+        return (t != null && aboveFrom(t)) ? t : null;
+    }
+
+    @Override
+    public Type ceiling(Type item) {
+        Type t = (from != null && item.compareTo(from) < 0) ? backing.ceiling(from) : backing.ceiling(item);
+        return (t != null && belowTo(t)) ? t : null;
+    }
+
+    @Override
+    public Type higher(Type item) {
+        Type t = (from != null && item.compareTo(from) < 0) ? backing.ceiling(from) : backing.higher(item);
+        return (t != null && belowTo(t)) ? t : null;
+    }
+
+    @Override
+    public Type lower(Type item) {
+        Type t = (to != null && item.compareTo(to) > 0) ? backing.lower(to) : backing.lower(item);
+        return (t != null && aboveFrom(t)) ? t : null;
+    }
+
+    @Override
+    public SortedSet<Type> subSet(Type fromItem, Type toItem) {
+        checkEndpoint(Objects.requireNonNull(fromItem));
+        checkEndpoint(Objects.requireNonNull(toItem));
+        return new SortedSubSet<>(backing, fromItem, toItem, iteratorFrom);
+    }
+
+    @Override
+    public SortedSet<Type> headSet(Type toItem) {
+        checkEndpoint(Objects.requireNonNull(toItem));
+        return new SortedSubSet<>(backing, from, toItem, iteratorFrom);
+    }
+
+    @Override
+    public SortedSet<Type> tailSet(Type fromItem) {
+        checkEndpoint(Objects.requireNonNull(fromItem));
+        return new SortedSubSet<>(backing, fromItem, to, iteratorFrom);
+    }
+
+    /**
+     * Returns a string representation of the view in sorted order.
+     *
+     * @return a string representation of this view
+     */
+    @Override
+    public String toString() {
+        return toArrayList().toString();
+    }
+
+    /**
+     * Returns the least item in the range, or null if it is empty.
+     */
+    private Type lowest() {
+        Type t = (from == null) ? (backing.isEmpty() ? null : backing.first()) : backing.ceiling(from);
+        return (t != null && belowTo(t)) ? t : null;
+    }
+
+    private boolean aboveFrom(Type item) {
+        return from == null || item.compareTo(from) >= 0;
+    }
+
+    private boolean belowTo(Type item) {
+        return to == null || item.compareTo(to) < 0;
+    }
+
+    private boolean inRange(Type item) {
+        Objects.requireNonNull(item);
+        return aboveFrom(item) && belowTo(item);
+    }
+
+    private void checkInRange(Type item) {
+        if (!inRange(item)) {
+            throw new IllegalArgumentException("Item out of range: " + item);
+        }
+    }
+
+    /**
+     * Checks that a nested view's endpoint lies within this view's range. The
+     * high endpoint of this view is itself allowed.
+     */
+    private void checkEndpoint(Type item) {
+        if (!aboveFrom(item) || (to != null && item.compareTo(to) > 0)) {
+            throw new IllegalArgumentException("Endpoint out of range: " + item);
+        }
+    }
+}
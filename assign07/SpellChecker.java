@@ -12,6 +12,10 @@ import java.util.Set;
  * Represents a "dictionary" of strings using a binary search tree and offers
  * methods for spell-checking documents.
  *
+ * The tree is a RedBlackTree, which stays balanced even though dictionary
+ * files are usually already in alphabetical order. An unbalanced tree built
+ * from sorted words degenerates into a linked list, making every lookup O(N).
+ *
  * The dictionary is case-insensitive: all words are stored and checked in
  * lowercase. For example, "Tree", "tree", and "TREE" are all considered the
  * same word.
@@ -26,13 +30,13 @@ import java.util.Set;
  */
 public class SpellChecker {
 
-    private BinarySearchTree<String> dictionary;
+    private SortedSet<String> dictionary;
 
     /**
      * Default constructor--creates an empty dictionary.
      */
     public SpellChecker() {
-        dictionary = new BinarySearchTree<>();
+        dictionary = new RedBlackTree<>();
     }
 
     /**
@@ -114,8 +118,10 @@ public class SpellChecker {
 
     /**
      * Private helper method to fill in the dictionary with the input list of
-     * words. Each word is processed through addToDictionary (lowercase,
-     * trimmed).
+     * words. Each word is normalized as in addToDictionary (lowercase,
+     * trimmed, null and empty skipped), and the words are then added in one
+     * addAll call, which builds a balanced tree in linear time when the words
+     * are already sorted.
      *
      * @param words the list of words to add to the dictionary
      */
@@ -123,9 +129,16 @@ public class SpellChecker {
         if (words == null) {
             return;
         }
-        for (String w : words) {
-            addToDictionary(w);
+        ArrayList<String> normalized = new ArrayList<>(words.size());
+        for (String word : words) {
+            if (word != null) {
+                String w = word.toLowerCase().trim();
+                if (!w.isEmpty()) {
+                    normalized.add(w);
+                }
+            }
         }
+        dictionary.addAll(normalized);
     }
 
     /**